@@ -0,0 +1,22 @@
+package com.ebudget.account.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+@ConfigMapping(prefix = "e-budget.account.snapshot")
+public interface AccountSnapshotConfig {
+    /**
+     * Period between two balance snapshots.
+     */
+    @WithDefault("1h")
+    String interval();
+
+    /**
+     * How far behind the present snapshots are taken. Ledger entries carry their transaction's start time,
+     * so this has to exceed the transaction timeout for every entry before the cutoff to be committed.
+     */
+    @WithDefault("5m")
+    Duration settle();
+}
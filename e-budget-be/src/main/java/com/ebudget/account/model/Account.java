@@ -3,27 +3,30 @@ package com.ebudget.account.model;
 import com.ebudget.account.model.enums.FinancialInstitution;
 import com.ebudget.account.model.enums.AccountType;
 import com.ebudget.account.resource.request.UpdateAccountDTO;
+import com.ebudget.core.id.UuidV7;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
+@Cacheable
 @Getter
 @Builder
 @NoArgsConstructor
@@ -32,7 +35,7 @@ import java.util.UUID;
 public class Account {
     @Id
     @Column(name = "account_id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID accountId;
     @Enumerated(EnumType.STRING)
     @Column(name = "account_logo")
@@ -44,11 +47,16 @@ public class Account {
     private AccountType accountType;
     @Column(name = "initial_balance")
     private BigDecimal initialBalance;
+    // Only written by AccountRepository's atomic update; the entity copy is kept in sync with its result
+    @Column(updatable = false)
     private BigDecimal balance;
-    @CreationTimestamp
+    @Version
+    private Long version;
+    // Id of the last transaction that wrote the row, stamped by the database for delta sync
+    @Column(name = "changed_xid", insertable = false, updatable = false)
+    private Long changedXid;
     @Column(name = "created_at")
     private LocalDateTime createdAt;
-    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
@@ -58,11 +66,18 @@ public class Account {
         setAccountType(updateAccountDTO.accountType());
     }
 
-    public void withdraw(BigDecimal amount) {
-        setBalance(getBalance().subtract(amount));
+    public void syncBalance(BigDecimal balance) {
+        setBalance(balance);
     }
 
-    public void deposit(BigDecimal amount) {
-        setBalance(getBalance().add(amount));
+    @PrePersist
+    void onPersist() {
+        setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        setUpdatedAt(getCreatedAt());
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        setUpdatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
     }
 }
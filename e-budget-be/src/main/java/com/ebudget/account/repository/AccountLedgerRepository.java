@@ -0,0 +1,71 @@
+package com.ebudget.account.repository;
+
+import com.ebudget.core.metrics.Measured;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reads the {@code account_ledger} of balance movements, which {@link AccountRepository} appends to whenever
+ * it adjusts a balance, and the {@code account_snapshot} balances periodically taken from it. A balance at a
+ * point in time is the latest snapshot before it plus the ledger entries recorded since.
+ */
+@ApplicationScoped
+@Measured
+@RequiredArgsConstructor
+public class AccountLedgerRepository {
+    // Accounts without a snapshot start from their initial balance
+    private static final String BALANCE_AS_OF = """
+            SELECT CAST(CASE WHEN a.created_at > :asOf THEN 0 ELSE coalesce(s.balance, a.initial_balance)
+                + (SELECT coalesce(sum(l.amount), 0) FROM account_ledger l
+                   WHERE l.account_id = a.account_id
+                     AND l.created_at > coalesce(s.snapshot_at, CAST('-infinity' AS TIMESTAMPTZ))
+                     AND l.created_at <= :asOf) END AS DECIMAL(10, 2))
+            FROM account a
+            LEFT JOIN LATERAL (SELECT snapshot_at, balance FROM account_snapshot
+                               WHERE account_id = a.account_id AND snapshot_at <= :asOf
+                               ORDER BY snapshot_at DESC LIMIT 1) s ON true
+            WHERE a.account_id = :accountId""";
+    // Only accounts that moved since their last snapshot, or never had one, get a new snapshot
+    private static final String SNAPSHOT = """
+            INSERT INTO account_snapshot (account_id, snapshot_at, balance)
+            SELECT a.account_id, :cutoff, coalesce(s.balance, a.initial_balance)
+                + (SELECT coalesce(sum(l.amount), 0) FROM account_ledger l
+                   WHERE l.account_id = a.account_id
+                     AND l.created_at > coalesce(s.snapshot_at, CAST('-infinity' AS TIMESTAMPTZ))
+                     AND l.created_at <= :cutoff)
+            FROM account a
+            LEFT JOIN LATERAL (SELECT snapshot_at, balance FROM account_snapshot
+                               WHERE account_id = a.account_id
+                               ORDER BY snapshot_at DESC LIMIT 1) s ON true
+            WHERE a.created_at <= :cutoff
+              AND (s.snapshot_at IS NULL OR EXISTS (SELECT 1 FROM account_ledger l
+                                                    WHERE l.account_id = a.account_id
+                                                      AND l.created_at > s.snapshot_at
+                                                      AND l.created_at <= :cutoff))
+            ON CONFLICT DO NOTHING""";
+
+    private final EntityManager entityManager;
+
+    public BigDecimal balanceAsOf(UUID accountId, LocalDateTime asOf) {
+        return (BigDecimal) entityManager.createNativeQuery(BALANCE_AS_OF, BigDecimal.class)
+                .setParameter("accountId", accountId)
+                .setParameter("asOf", asOf)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Snapshots the balance of every account that moved up to {@code cutoff} and returns how many were taken.
+     */
+    public int snapshot(LocalDateTime cutoff) {
+        return entityManager.createNativeQuery(SNAPSHOT)
+                .setParameter("cutoff", cutoff)
+                .executeUpdate();
+    }
+}
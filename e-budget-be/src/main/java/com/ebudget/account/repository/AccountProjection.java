@@ -0,0 +1,16 @@
+package com.ebudget.account.repository;
+
+import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.model.enums.FinancialInstitution;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Account columns selected by read queries that do not load the entity.
+ */
+public record AccountProjection(UUID accountId, FinancialInstitution financialInstitution, String accountName,
+                                AccountType accountType, BigDecimal initialBalance, BigDecimal balance,
+                                LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
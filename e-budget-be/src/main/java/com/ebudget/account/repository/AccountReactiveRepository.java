@@ -0,0 +1,61 @@
+package com.ebudget.account.repository;
+
+import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.model.enums.FinancialInstitution;
+import com.ebudget.core.reactive.ReactiveReads;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class AccountReactiveRepository {
+    private static final List<String> COLUMNS = List.of(
+            "account_id", "account_logo", "account_name", "account_type", "initial_balance", "balance", "created_at", "updated_at"
+    );
+    private static final String SELECT = "select " + columns("a") + " from account a";
+
+    private final Pool pool;
+
+    /**
+     * Account columns of the table aliased {@code alias}, read back by {@link #toProjection(Row, String)}.
+     */
+    public static String columns(String alias) {
+        return ReactiveReads.columns(alias, COLUMNS);
+    }
+
+    public static AccountProjection toProjection(Row row, String alias) {
+        String financialInstitution = row.getString(alias + "_account_logo");
+
+        return new AccountProjection(
+                row.getUUID(alias + "_account_id"),
+                financialInstitution == null ? null : FinancialInstitution.valueOf(financialInstitution),
+                row.getString(alias + "_account_name"),
+                AccountType.valueOf(row.getString(alias + "_account_type")),
+                row.getBigDecimal(alias + "_initial_balance"),
+                row.getBigDecimal(alias + "_balance"),
+                ReactiveReads.localDateTime(row, alias + "_created_at"),
+                ReactiveReads.localDateTime(row, alias + "_updated_at")
+        );
+    }
+
+    public Uni<AccountProjection> findById(UUID accountId) {
+        return pool.preparedQuery(SELECT + " where a.account_id = $1")
+                .execute(Tuple.of(accountId))
+                .map(rows -> ReactiveReads.first(rows, row -> toProjection(row, "a")));
+    }
+
+    public Uni<List<AccountProjection>> listAll() {
+        return pool.query(SELECT)
+                .execute()
+                .map(rows -> ReactiveReads.toList(rows, row -> toProjection(row, "a")));
+    }
+}
@@ -1,11 +1,126 @@
 package com.ebudget.account.repository;
 
 import com.ebudget.account.model.Account;
+import com.ebudget.change.event.BalanceChangedEvent;
+import com.ebudget.core.cache.SecondLevelCache;
+import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.http.EntityTags;
+import com.ebudget.core.metrics.Measured;
+import com.ebudget.sync.repository.SyncWindow;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.persistence.NoResultException;
+import org.hibernate.query.NativeQuery;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @ApplicationScoped
+@Measured
 public class AccountRepository implements PanacheRepositoryBase<Account, UUID> {
+    // The delta is applied by the database so concurrent writers never overwrite each other's balance, and
+    // appended to the ledger in the same statement so every movement behind the balance is recorded
+    private static final String ADJUST_BALANCE = """
+            with adjusted as (
+                update account
+                set balance = balance + :delta, updated_at = now()
+                where account_id = :accountId
+                returning account_id, balance
+            ), movement as (
+                insert into account_ledger (account_id, amount)
+                select account_id, :delta from adjusted where :delta <> 0
+            )
+            select balance from adjusted""";
+    // Hibernate cannot tell the statement above writes, so it is tied to a space no entity maps and the
+    // changed account is evicted from the second-level cache by hand instead of clearing the whole region
+    private static final String BALANCE_QUERY_SPACE = "account_balance";
+    private static final String TAG = "select a.changedXid from Account a where a.accountId = :accountId";
+
+    @Inject
+    SecondLevelCache secondLevelCache;
+
+    @Inject
+    Event<BalanceChangedEvent> balanceChanged;
+
+    /**
+     * Constructor expression building an {@link AccountProjection} from the account joined as {@code alias}, for
+     * read queries that do not load entities.
+     */
+    public static String projection(String alias) {
+        return "new %1$s(%2$s.accountId, %2$s.financialInstitution, %2$s.accountName, %2$s.accountType, %2$s.initialBalance, %2$s.balance, %2$s.createdAt, %2$s.updatedAt)"
+                .formatted(AccountProjection.class.getName(), alias);
+    }
+
+    public List<AccountProjection> listAllProjected() {
+        return getEntityManager().createQuery("select " + projection("a") + " from Account a", AccountProjection.class)
+                .getResultList();
+    }
+
+    public String findTag(UUID accountId) {
+        return getEntityManager().createQuery(TAG, Object[].class)
+                .setParameter("accountId", accountId)
+                .getResultStream()
+                .findFirst()
+                .map(EntityTags::of)
+                .orElse(null);
+    }
+
+    public List<AccountProjection> listChangedProjected(SyncWindow window) {
+        return window.bind(getEntityManager().createQuery("select " + projection("a") + " from Account a where "
+                        + SyncWindow.predicate("a"), AccountProjection.class))
+                .getResultList();
+    }
+
+    public List<Account> findByIds(Collection<UUID> accountIds) {
+        if(accountIds.isEmpty()) {
+            return List.of();
+        }
+
+        return list("accountId in ?1", accountIds);
+    }
+
+    public void withdraw(Account account, BigDecimal amount) {
+        adjustBalance(account, amount.negate());
+    }
+
+    public void deposit(Account account, BigDecimal amount) {
+        adjustBalance(account, amount);
+    }
+
+    public void withdrawAndDeposit(Account withdrawAccount, BigDecimal withdrawAmount, Account depositAccount, BigDecimal depositAmount) {
+        if(withdrawAccount.getAccountId().equals(depositAccount.getAccountId())) {
+            adjustBalance(withdrawAccount, depositAmount.subtract(withdrawAmount));
+            return;
+        }
+
+        // Rows are always locked in account id order so opposite movements cannot deadlock
+        if(withdrawAccount.getAccountId().compareTo(depositAccount.getAccountId()) < 0) {
+            withdraw(withdrawAccount, withdrawAmount);
+            deposit(depositAccount, depositAmount);
+        } else {
+            deposit(depositAccount, depositAmount);
+            withdraw(withdrawAccount, withdrawAmount);
+        }
+    }
+
+    private void adjustBalance(Account account, BigDecimal delta) {
+        try {
+            BigDecimal balance = (BigDecimal) getEntityManager().createNativeQuery(ADJUST_BALANCE, BigDecimal.class)
+                    .setParameter("delta", delta)
+                    .setParameter("accountId", account.getAccountId())
+                    .unwrap(NativeQuery.class)
+                    .addSynchronizedQuerySpace(BALANCE_QUERY_SPACE)
+                    .getSingleResult();
+
+            account.syncBalance(balance);
+            secondLevelCache.evict(Account.class, account.getAccountId());
+            balanceChanged.fire(new BalanceChangedEvent(account.getAccountId(), balance));
+        } catch(NoResultException exception) {
+            throw new EntityNotFoundException(Account.class, account.getAccountId());
+        }
+    }
 }
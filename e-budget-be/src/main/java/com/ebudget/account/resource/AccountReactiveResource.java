@@ -0,0 +1,40 @@
+package com.ebudget.account.resource;
+
+import com.ebudget.account.resource.response.AccountDTO;
+import com.ebudget.account.service.interfaces.IAccountReactiveService;
+import com.ebudget.core.reactive.ReactiveReads;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import lombok.RequiredArgsConstructor;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@Path("/reactive/account")
+@RequiredArgsConstructor
+@Produces(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class AccountReactiveResource {
+    private final IAccountReactiveService accountReactiveService;
+
+    @GET
+    @Path("{accountId}")
+    public Uni<RestResponse<AccountDTO>> getAccount(@PathParam("accountId") UUID accountId) {
+        return accountReactiveService.getAccount(accountId)
+                .map(account -> RestResponse.status(RestResponse.Status.OK, account));
+    }
+
+    @GET
+    public Uni<RestResponse<List<AccountDTO>>> getAccounts() {
+        return accountReactiveService.getAccounts()
+                .map(accounts -> RestResponse.status(RestResponse.Status.OK, accounts));
+    }
+}
@@ -2,8 +2,12 @@ package com.ebudget.account.resource;
 
 import com.ebudget.account.resource.request.NewAccountDTO;
 import com.ebudget.account.resource.request.UpdateAccountDTO;
+import com.ebudget.account.resource.response.AccountBalanceDTO;
 import com.ebudget.account.resource.response.AccountDTO;
 import com.ebudget.account.service.interfaces.IAccountService;
+import com.ebudget.core.concurrency.ConnectionBulkhead;
+import com.ebudget.core.http.ConditionalGet;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
@@ -14,10 +18,13 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import lombok.RequiredArgsConstructor;
 import org.jboss.resteasy.reactive.RestResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,8 +33,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
+@ConnectionBulkhead
+@RunOnVirtualThread
 public class AccountResource {
+    private static final List<String> TABLES = List.of("account");
+
     private final IAccountService accountService;
+    private final ConditionalGet conditionalGet;
 
     @POST
     public RestResponse<AccountDTO> addAccount(@Valid NewAccountDTO newAccountDTO) {
@@ -46,17 +58,21 @@ public class AccountResource {
 
     @GET
     @Path("/{accountId}")
-    public RestResponse<AccountDTO> getAccount(@PathParam("accountId") UUID accountId) {
-        AccountDTO account = accountService.getAccount(accountId);
-
-        return RestResponse.status(RestResponse.Status.OK, account);
+    public RestResponse<AccountDTO> getAccount(@PathParam("accountId") UUID accountId, HttpHeaders headers) {
+        return conditionalGet.entity(headers, accountService.getAccountTag(accountId), () -> accountService.getAccount(accountId));
     }
 
     @GET
-    public RestResponse<List<AccountDTO>> getAccounts() {
-        List<AccountDTO> accounts = accountService.getAccounts();
+    @Path("/{accountId}/balance")
+    public RestResponse<AccountBalanceDTO> getBalance(@PathParam("accountId") UUID accountId, @QueryParam("asOf") LocalDateTime asOf) {
+        AccountBalanceDTO balance = accountService.getBalance(accountId, asOf);
 
-        return RestResponse.status(RestResponse.Status.OK, accounts);
+        return RestResponse.status(RestResponse.Status.OK, balance);
+    }
+
+    @GET
+    public RestResponse<List<AccountDTO>> getAccounts(HttpHeaders headers) {
+        return conditionalGet.collection(headers, TABLES, accountService::getAccounts);
     }
 
     @DELETE
@@ -0,0 +1,22 @@
+package com.ebudget.account.resource.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(force = true)
+public class AccountBalanceDTO {
+    private final UUID accountId;
+    private final LocalDateTime asOf;
+    private final BigDecimal balance;
+
+    public AccountBalanceDTO(UUID accountId, LocalDateTime asOf, BigDecimal balance) {
+        this.accountId = accountId;
+        this.asOf = asOf;
+        this.balance = balance;
+    }
+}
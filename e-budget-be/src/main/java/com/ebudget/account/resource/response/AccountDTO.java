@@ -3,6 +3,7 @@ package com.ebudget.account.resource.response;
 import com.ebudget.account.model.Account;
 import com.ebudget.account.model.enums.FinancialInstitution;
 import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.repository.AccountProjection;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -32,4 +33,15 @@ public class AccountDTO {
         this.createdAt = account.getCreatedAt();
         this.updatedAt = account.getUpdatedAt();
     }
+
+    public AccountDTO(AccountProjection account) {
+        this.accountId = account.accountId();
+        this.financialInstitution = account.financialInstitution();
+        this.accountName = account.accountName();
+        this.accountType = account.accountType();
+        this.initialBalance = account.initialBalance();
+        this.balance = account.balance();
+        this.createdAt = account.createdAt();
+        this.updatedAt = account.updatedAt();
+    }
 }
@@ -0,0 +1,21 @@
+package com.ebudget.account.scheduler;
+
+import com.ebudget.account.service.interfaces.IAccountSnapshotService;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+public class AccountSnapshotScheduler {
+    private final IAccountSnapshotService accountSnapshotService;
+
+    @Scheduled(
+            identity = "account-snapshot",
+            every = "${e-budget.account.snapshot.interval}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP
+    )
+    void snapshot() {
+        accountSnapshotService.snapshot();
+    }
+}
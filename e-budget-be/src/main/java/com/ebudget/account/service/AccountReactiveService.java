@@ -0,0 +1,35 @@
+package com.ebudget.account.service;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.account.repository.AccountReactiveRepository;
+import com.ebudget.account.resource.response.AccountDTO;
+import com.ebudget.account.service.interfaces.IAccountReactiveService;
+import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.reactive.ReactiveReads;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class AccountReactiveService implements IAccountReactiveService {
+    private final AccountReactiveRepository accountReactiveRepository;
+
+    @Override
+    public Uni<AccountDTO> getAccount(UUID accountId) {
+        return accountReactiveRepository.findById(accountId)
+                .onItem().ifNull().failWith(() -> new EntityNotFoundException(Account.class, accountId))
+                .map(AccountDTO::new);
+    }
+
+    @Override
+    public Uni<List<AccountDTO>> getAccounts() {
+        return accountReactiveRepository.listAll()
+                .map(accounts -> accounts.stream().map(AccountDTO::new).toList());
+    }
+}
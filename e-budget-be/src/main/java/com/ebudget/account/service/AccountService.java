@@ -1,25 +1,34 @@
 package com.ebudget.account.service;
 
 import com.ebudget.account.model.Account;
+import com.ebudget.account.repository.AccountLedgerRepository;
 import com.ebudget.account.repository.AccountRepository;
 import com.ebudget.account.resource.request.NewAccountDTO;
 import com.ebudget.account.resource.request.UpdateAccountDTO;
+import com.ebudget.account.resource.response.AccountBalanceDTO;
 import com.ebudget.account.resource.response.AccountDTO;
 import com.ebudget.account.service.interfaces.IAccountService;
+import com.ebudget.core.concurrency.OptimisticRetry;
 import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.metrics.Measured;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @ApplicationScoped
+@Measured
 @RequiredArgsConstructor
 public class AccountService implements IAccountService {
     private final AccountRepository accountRepository;
+    private final AccountLedgerRepository accountLedgerRepository;
 
     @Override
+    @OptimisticRetry
     @Transactional
     public AccountDTO addAccount(NewAccountDTO newAccountDTO) {
         Account account = Account.builder()
@@ -30,12 +39,13 @@ public class AccountService implements IAccountService {
                 .balance(newAccountDTO.initialBalance())
                 .build();
 
-        accountRepository.persistAndFlush(account);
+        accountRepository.persist(account);
 
         return new AccountDTO(account);
     }
 
     @Override
+    @OptimisticRetry
     @Transactional
     public void updateAccount(UUID accountId, UpdateAccountDTO updateAccountDTO) {
         Account account = accountRepository.findById(accountId);
@@ -59,15 +69,29 @@ public class AccountService implements IAccountService {
     }
 
     @Override
-    public List<AccountDTO> getAccounts() {
-        List<Account> accounts = accountRepository.listAll();
+    public String getAccountTag(UUID accountId) {
+        return accountRepository.findTag(accountId);
+    }
+
+    @Override
+    public AccountBalanceDTO getBalance(UUID accountId, LocalDateTime asOf) {
+        LocalDateTime at = asOf == null ? LocalDateTime.now() : asOf;
+        BigDecimal balance = accountLedgerRepository.balanceAsOf(accountId, at);
 
-        return accounts.stream()
-                .map(AccountDTO::new)
-                .toList();
+        if(balance == null) {
+            throw new EntityNotFoundException(Account.class, accountId);
+        }
+
+        return new AccountBalanceDTO(accountId, at, balance);
+    }
+
+    @Override
+    public List<AccountDTO> getAccounts() {
+        return accountRepository.listAllProjected().stream().map(AccountDTO::new).toList();
     }
 
     @Override
+    @OptimisticRetry
     @Transactional
     public void deleteAccount(UUID accountId) {
         Account account = accountRepository.findById(accountId);
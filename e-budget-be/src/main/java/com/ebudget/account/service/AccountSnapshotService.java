@@ -0,0 +1,25 @@
+package com.ebudget.account.service;
+
+import com.ebudget.account.config.AccountSnapshotConfig;
+import com.ebudget.account.repository.AccountLedgerRepository;
+import com.ebudget.account.service.interfaces.IAccountSnapshotService;
+import com.ebudget.core.metrics.Measured;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@ApplicationScoped
+@Measured
+@RequiredArgsConstructor
+public class AccountSnapshotService implements IAccountSnapshotService {
+    private final AccountLedgerRepository accountLedgerRepository;
+    private final AccountSnapshotConfig accountSnapshotConfig;
+
+    @Override
+    @Transactional
+    public int snapshot() {
+        return accountLedgerRepository.snapshot(LocalDateTime.now().minus(accountSnapshotConfig.settle()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.ebudget.account.service.interfaces;
+
+import com.ebudget.account.resource.response.AccountDTO;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface IAccountReactiveService {
+    Uni<AccountDTO> getAccount(UUID accountId);
+    Uni<List<AccountDTO>> getAccounts();
+}
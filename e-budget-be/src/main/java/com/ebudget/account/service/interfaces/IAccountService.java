@@ -2,8 +2,10 @@ package com.ebudget.account.service.interfaces;
 
 import com.ebudget.account.resource.request.NewAccountDTO;
 import com.ebudget.account.resource.request.UpdateAccountDTO;
+import com.ebudget.account.resource.response.AccountBalanceDTO;
 import com.ebudget.account.resource.response.AccountDTO;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,6 +13,8 @@ public interface IAccountService {
     AccountDTO addAccount(NewAccountDTO newAccountDTO);
     void updateAccount(UUID accountId, UpdateAccountDTO updateAccountDTO);
     AccountDTO getAccount(UUID accountId);
+    String getAccountTag(UUID accountId);
+    AccountBalanceDTO getBalance(UUID accountId, LocalDateTime asOf);
     List<AccountDTO> getAccounts();
     void deleteAccount(UUID accountId);
 }
@@ -0,0 +1,5 @@
+package com.ebudget.account.service.interfaces;
+
+public interface IAccountSnapshotService {
+    int snapshot();
+}
@@ -0,0 +1,19 @@
+package com.ebudget.budget.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "e-budget.budget.reconcile")
+public interface BudgetReconcileConfig {
+    /**
+     * Maximum number of budgets recomputed in one statement and transaction.
+     */
+    @WithDefault("1000")
+    int chunkSize();
+
+    /**
+     * Number of chunks recomputed at once, each on its own connection.
+     */
+    @WithDefault("4")
+    int parallelism();
+}
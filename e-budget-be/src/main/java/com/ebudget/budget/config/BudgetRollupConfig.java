@@ -0,0 +1,25 @@
+package com.ebudget.budget.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "e-budget.budget.rollup")
+public interface BudgetRollupConfig {
+    /**
+     * Whether budget reads include expense events that have not been folded yet.
+     */
+    @WithDefault("true")
+    boolean readYourWrites();
+
+    /**
+     * Maximum number of events folded in one transaction.
+     */
+    @WithDefault("500")
+    int batchSize();
+
+    /**
+     * Period between two runs of the rollup worker.
+     */
+    @WithDefault("5s")
+    String interval();
+}
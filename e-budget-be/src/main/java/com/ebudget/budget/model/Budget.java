@@ -2,28 +2,31 @@ package com.ebudget.budget.model;
 
 import com.ebudget.budget.resource.request.UpdateBudgetDTO;
 import com.ebudget.category.model.Category;
+import com.ebudget.core.id.UuidV7;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
+@Cacheable
 @Getter
 @Builder
 @NoArgsConstructor
@@ -32,7 +35,7 @@ import java.util.UUID;
 public class Budget {
     @Id
     @Column(name = "budget_id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID budgetId;
     @Column(name = "budget_month")
     private Integer budgetMonth;
@@ -49,33 +52,83 @@ public class Budget {
     private BigDecimal monthlyBudgetUsedPercentage;
     @Column(name = "monthly_budget_balance")
     private BigDecimal monthlyBudgetBalance;
-    @CreationTimestamp
+    @Version
+    private Long version;
+    @Column(name = "changed_xid", insertable = false, updatable = false)
+    private Long changedXid;
     @Column(name = "created_at")
     private LocalDateTime createdAt;
-    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
     public void update(UpdateBudgetDTO updateBudgetDTO) {
         setBudgetMonth(updateBudgetDTO.budgetMonth());
         setBudgetYear(updateBudgetDTO.budgetYear());
-        // Logic to update monthlyBudgetUsed / monthlyBudgetUsedPercentage
-        // / monthlyBudgetBalance to be implemented along with expenses
-        // feature
         setMonthlyBudget(updateBudgetDTO.monthlyBudget());
         setMonthlyBudgetBalance(getMonthlyBudget().add(getMonthlyBudgetUsed().negate()));
-        setMonthlyBudgetUsedPercentage(getMonthlyBudgetUsed().multiply(new BigDecimal(100)).divide(getMonthlyBudget(), RoundingMode.HALF_UP));
+        setMonthlyBudgetUsedPercentage(usedPercentage(getMonthlyBudgetUsed(), getMonthlyBudget()));
     }
 
     public void subtract(BigDecimal amount) {
         setMonthlyBudgetBalance(getMonthlyBudgetBalance().subtract(amount));
         setMonthlyBudgetUsed(getMonthlyBudgetUsed().add(amount));
-        setMonthlyBudgetUsedPercentage(getMonthlyBudgetUsed().multiply(new BigDecimal(100)).divide(getMonthlyBudget(), RoundingMode.HALF_UP));
+        setMonthlyBudgetUsedPercentage(usedPercentage(getMonthlyBudgetUsed(), getMonthlyBudget()));
     }
 
     public void add(BigDecimal amount) {
         setMonthlyBudgetBalance(getMonthlyBudgetBalance().add(amount));
         setMonthlyBudgetUsed(getMonthlyBudgetUsed().subtract(amount));
-        setMonthlyBudgetUsedPercentage(getMonthlyBudgetUsed().multiply(new BigDecimal(100)).divide(getMonthlyBudget(), RoundingMode.HALF_UP));
+        setMonthlyBudgetUsedPercentage(usedPercentage(getMonthlyBudgetUsed(), getMonthlyBudget()));
+    }
+
+    /**
+     * Replaces the usage with one derived from the expenses of the budget's period.
+     */
+    public void reconcile(BigDecimal monthlyBudgetUsed) {
+        setMonthlyBudgetUsed(monthlyBudgetUsed);
+        setMonthlyBudgetBalance(getMonthlyBudget().subtract(monthlyBudgetUsed));
+        setMonthlyBudgetUsedPercentage(usedPercentage(monthlyBudgetUsed, getMonthlyBudget()));
+    }
+
+    public static BigDecimal usedPercentage(BigDecimal monthlyBudgetUsed, BigDecimal monthlyBudget) {
+        return monthlyBudgetUsed.multiply(new BigDecimal(100)).divide(monthlyBudget, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Returns a detached copy of this budget with usage that has not been folded yet applied, leaving the
+     * managed entity untouched.
+     */
+    public Budget withPendingUsage(BigDecimal pendingUsage) {
+        if(pendingUsage.signum() == 0) {
+            return this;
+        }
+
+        Budget projected = Budget.builder()
+                .budgetId(getBudgetId())
+                .budgetMonth(getBudgetMonth())
+                .budgetYear(getBudgetYear())
+                .category(getCategory())
+                .monthlyBudget(getMonthlyBudget())
+                .monthlyBudgetUsed(getMonthlyBudgetUsed())
+                .monthlyBudgetUsedPercentage(getMonthlyBudgetUsedPercentage())
+                .monthlyBudgetBalance(getMonthlyBudgetBalance())
+                .version(getVersion())
+                .createdAt(getCreatedAt())
+                .updatedAt(getUpdatedAt())
+                .build();
+        projected.subtract(pendingUsage);
+
+        return projected;
+    }
+
+    @PrePersist
+    void onPersist() {
+        setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        setUpdatedAt(getCreatedAt());
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        setUpdatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
     }
 }
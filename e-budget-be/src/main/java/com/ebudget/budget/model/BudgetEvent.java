@@ -0,0 +1,58 @@
+package com.ebudget.budget.model;
+
+import com.ebudget.category.model.Category;
+import com.ebudget.core.id.UuidV7;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Pending change to the used amount of the budget of a category-month. Positive amounts consume
+ * budget, negative amounts give it back. Events are folded into {@link Budget} by the rollup worker
+ * and deleted once applied.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter(AccessLevel.PRIVATE)
+@Table(name = "budget_event")
+public class BudgetEvent {
+    @Id
+    @Column(name = "budget_event_id")
+    @UuidV7
+    private UUID budgetEventId;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id")
+    private Category category;
+    @Column(name = "event_month")
+    private Integer eventMonth;
+    @Column(name = "event_year")
+    private Integer eventYear;
+    private BigDecimal amount;
+    @Column(name = "changed_xid", insertable = false, updatable = false)
+    private Long changedXid;
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public BudgetKey key() {
+        return new BudgetKey(getCategory().getCategoryId(), getEventMonth(), getEventYear());
+    }
+}
@@ -0,0 +1,25 @@
+package com.ebudget.budget.model;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Natural key of a budget: one budget exists per category, month and year.
+ */
+public record BudgetKey(UUID categoryId, Integer month, Integer year) implements Comparable<BudgetKey> {
+    private static final Comparator<BudgetKey> ORDER = Comparator.comparing(BudgetKey::categoryId)
+            .thenComparing(BudgetKey::year)
+            .thenComparing(BudgetKey::month);
+
+    /**
+     * Identifier of the transaction-level advisory lock taken on this key.
+     */
+    public long lockId() {
+        return ((categoryId.getMostSignificantBits() * 31 + categoryId.getLeastSignificantBits()) * 31 + year) * 31 + month;
+    }
+
+    @Override
+    public int compareTo(BudgetKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ebudget.budget.repository;
+
+import com.ebudget.budget.model.BudgetEvent;
+import com.ebudget.core.metrics.Measured;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import org.hibernate.LockMode;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@Measured
+public class BudgetEventRepository implements PanacheRepositoryBase<BudgetEvent, UUID> {
+    public List<BudgetEvent> lockPending(int limit) {
+        // Rows held by another worker are skipped so concurrent folds never block each other
+        return this.find("order by createdAt")
+                .withLock(LockModeType.PESSIMISTIC_WRITE)
+                .withHint(HibernateHints.HINT_NATIVE_LOCK_MODE, LockMode.UPGRADE_SKIPLOCKED)
+                .page(0, limit)
+                .list();
+    }
+
+    public long deleteByIds(List<UUID> budgetEventIds) {
+        return this.delete("budgetEventId in ?1", budgetEventIds);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ebudget.budget.repository;
+
+import com.ebudget.category.repository.CategoryProjection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Budget columns selected by read queries, with its category and the usage of events not folded into it yet.
+ */
+public record BudgetProjection(UUID budgetId, Integer budgetMonth, Integer budgetYear, CategoryProjection category,
+                               BigDecimal monthlyBudget, BigDecimal monthlyBudgetUsed, BigDecimal monthlyBudgetUsedPercentage,
+                               BigDecimal monthlyBudgetBalance, LocalDateTime createdAt, LocalDateTime updatedAt,
+                               BigDecimal pendingUsage) {
+    public BudgetProjection(UUID budgetId, Integer budgetMonth, Integer budgetYear, CategoryProjection category,
+                            BigDecimal monthlyBudget, BigDecimal monthlyBudgetUsed, BigDecimal monthlyBudgetUsedPercentage,
+                            BigDecimal monthlyBudgetBalance, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(budgetId, budgetMonth, budgetYear, category, monthlyBudget, monthlyBudgetUsed, monthlyBudgetUsedPercentage,
+                monthlyBudgetBalance, createdAt, updatedAt, BigDecimal.ZERO);
+    }
+}
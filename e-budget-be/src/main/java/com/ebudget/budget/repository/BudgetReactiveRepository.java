@@ -0,0 +1,62 @@
+package com.ebudget.budget.repository;
+
+import com.ebudget.category.repository.CategoryReactiveRepository;
+import com.ebudget.core.reactive.ReactiveReads;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class BudgetReactiveRepository {
+    private static final String SELECT = "select "
+            + ReactiveReads.columns("b", List.of("budget_id", "budget_month", "budget_year", "monthly_budget", "monthly_budget_used",
+                    "monthly_budget_used_percentage", "monthly_budget_balance", "created_at", "updated_at")) + ", "
+            + CategoryReactiveRepository.columns("c") + ", %s as pending_usage"
+            + " from budget b join category c on c.category_id = b.category_id";
+    private static final String PENDING_USAGE = """
+            (select coalesce(sum(e.amount), 0) from budget_event e
+             where e.category_id = b.category_id and e.event_month = b.budget_month and e.event_year = b.budget_year)""";
+
+    private final Pool pool;
+
+    public Uni<BudgetProjection> findById(UUID budgetId, boolean withPendingUsage) {
+        return pool.preparedQuery(select(withPendingUsage) + " where b.budget_id = $1")
+                .execute(Tuple.of(budgetId))
+                .map(rows -> ReactiveReads.first(rows, BudgetReactiveRepository::toProjection));
+    }
+
+    public Uni<List<BudgetProjection>> listAll(boolean withPendingUsage) {
+        return pool.query(select(withPendingUsage))
+                .execute()
+                .map(rows -> ReactiveReads.toList(rows, BudgetReactiveRepository::toProjection));
+    }
+
+    private static String select(boolean withPendingUsage) {
+        return SELECT.formatted(withPendingUsage ? PENDING_USAGE : "0");
+    }
+
+    private static BudgetProjection toProjection(Row row) {
+        return new BudgetProjection(
+                row.getUUID("b_budget_id"),
+                row.getInteger("b_budget_month"),
+                row.getInteger("b_budget_year"),
+                CategoryReactiveRepository.toProjection(row, "c"),
+                row.getBigDecimal("b_monthly_budget"),
+                row.getBigDecimal("b_monthly_budget_used"),
+                row.getBigDecimal("b_monthly_budget_used_percentage"),
+                row.getBigDecimal("b_monthly_budget_balance"),
+                ReactiveReads.localDateTime(row, "b_created_at"),
+                ReactiveReads.localDateTime(row, "b_updated_at"),
+                row.getBigDecimal("pending_usage")
+        );
+    }
+}
@@ -1,15 +1,76 @@
 package com.ebudget.budget.repository;
 
 import com.ebudget.budget.model.Budget;
+import com.ebudget.budget.model.BudgetKey;
 import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.core.http.EntityTags;
+import com.ebudget.core.metrics.Measured;
+import com.ebudget.sync.repository.SyncWindow;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 @ApplicationScoped
+@Measured
 public class BudgetRepository implements PanacheRepositoryBase<Budget, UUID> {
+    private static final String PENDING_USAGE = """
+            (select coalesce(sum(e.amount), 0) from BudgetEvent e
+             where e.category = b.category and e.eventMonth = b.budgetMonth and e.eventYear = b.budgetYear)""";
+    // Budget and pending usage are read in one statement so a concurrent fold is seen entirely or not at all.
+    // Cached results are dropped whenever budget, category or budget_event rows change through Hibernate
+    private static final String SELECT_WITH_PENDING_USAGE = "select b, " + PENDING_USAGE + " from Budget b join fetch b.category";
+    // Read endpoints project the columns they return, so no entity or dirty-checking snapshot is kept
+    private static final String SELECT_PROJECTED = "select new " + BudgetProjection.class.getName()
+            + "(b.budgetId, b.budgetMonth, b.budgetYear, " + CategoryRepository.projection("c") + ", b.monthlyBudget,"
+            + " b.monthlyBudgetUsed, b.monthlyBudgetUsedPercentage, b.monthlyBudgetBalance, b.createdAt, b.updatedAt%s)"
+            + " from Budget b join b.category c";
+    // Usage derived from the expenses dated in the period, as ExpenseService assigns them, less events not
+    // folded yet: the rollup applies those on top later
+    private static final String DERIVED_USAGE = """
+            CAST((SELECT coalesce(sum(e.amount), 0) FROM expense e
+                  WHERE e.category_id = %1$s.category_id
+                    AND e.date >= make_date(%1$s.budget_year, %1$s.budget_month, 1)
+                    AND e.date < CAST(make_date(%1$s.budget_year, %1$s.budget_month, 1) + INTERVAL '1 month' AS DATE))
+               - (SELECT coalesce(sum(p.amount), 0) FROM budget_event p
+                  WHERE p.category_id = %1$s.category_id AND p.event_year = %1$s.budget_year AND p.event_month = %1$s.budget_month)
+            AS DECIMAL(10, 2))""";
+    private static final String SELECT_DERIVED_USAGE = "SELECT " + DERIVED_USAGE.formatted("k")
+            + " FROM (SELECT CAST(:categoryId AS UUID) AS category_id, CAST(:budgetYear AS INT) AS budget_year, CAST(:budgetMonth AS INT) AS budget_month) k";
+    // Rows are locked first, so the update below reads expenses and pending events in a snapshot taken after
+    // any fold touching these budgets has committed. They are locked in BudgetKey order, as the rollup does,
+    // which compares category ids as two signed longs
+    private static final String LOCK_FOR_RECONCILE = """
+            SELECT budget_id FROM budget WHERE budget_id IN (:budgetIds)
+            ORDER BY CAST(CAST('x' || left(replace(CAST(category_id AS TEXT), '-', ''), 16) AS BIT(64)) AS BIGINT),
+                     CAST(CAST('x' || right(replace(CAST(category_id AS TEXT), '-', ''), 16) AS BIT(64)) AS BIGINT),
+                     budget_year, budget_month
+            FOR UPDATE""";
+    private static final String RECONCILE = """
+            UPDATE budget b
+            SET monthly_budget_used = d.used,
+                monthly_budget_balance = b.monthly_budget - d.used,
+                monthly_budget_used_percentage = round(d.used * 100 / b.monthly_budget, 2),
+                version = b.version + 1,
+                updated_at = now()
+            FROM (SELECT x.budget_id, %s AS used FROM budget x WHERE x.budget_id IN (:budgetIds)) d
+            WHERE b.budget_id = d.budget_id
+              AND (b.monthly_budget_used <> d.used OR b.monthly_budget_balance <> b.monthly_budget - d.used)""".formatted(DERIVED_USAGE.formatted("x"));
+    private static final String LOCK_KEY = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:lockId)) l";
+    private static final String SELECT_IDS = "select b.budgetId from Budget b %s order by b.category.categoryId, b.budgetYear, b.budgetMonth";
+    // Pending events count in when reads include them, so they are part of the tag either way
+    private static final String TAG = """
+            select b.changedXid, c.changedXid, (select max(e.changedXid) from BudgetEvent e
+             where e.category = b.category and e.eventMonth = b.budgetMonth and e.eventYear = b.budgetYear)
+            from Budget b join b.category c where b.budgetId = :budgetId""";
+
     public Long countByCategoryMonthYear(Map<String, Object> values) {
         return this.count("category = :category and budgetMonth = :budgetMonth and budgetYear = :budgetYear", values);
     }
@@ -17,4 +78,101 @@ public class BudgetRepository implements PanacheRepositoryBase<Budget, UUID> {
     public Budget findByCategoryMonthYear(Category category, Integer budgetMonth, Integer budgetYear) {
         return this.find("category = ?1 and budgetMonth = ?2 and budgetYear = ?3", category, budgetMonth, budgetYear).firstResult();
     }
+
+    public Budget findByKeyForUpdate(BudgetKey key) {
+        return this.find("category.categoryId = ?1 and budgetMonth = ?2 and budgetYear = ?3", key.categoryId(), key.month(), key.year())
+                .withLock(LockModeType.PESSIMISTIC_WRITE)
+                .firstResult();
+    }
+
+    /**
+     * Holds the key until the transaction ends, whether or not a budget exists for it yet.
+     */
+    public void lockKey(BudgetKey key) {
+        getEntityManager().createNativeQuery(LOCK_KEY)
+                .setParameter("lockId", key.lockId())
+                .getSingleResult();
+    }
+
+    public List<BudgetProjection> listAllProjected() {
+        return getEntityManager().createQuery(SELECT_PROJECTED.formatted(""), BudgetProjection.class)
+                .getResultList();
+    }
+
+    public String findTag(UUID budgetId) {
+        return getEntityManager().createQuery(TAG, Object[].class)
+                .setParameter("budgetId", budgetId)
+                .getResultStream()
+                .findFirst()
+                .map(EntityTags::of)
+                .orElse(null);
+    }
+
+    // Pending events are left out: folding them rewrites the budget row, which syncs it again
+    public List<BudgetProjection> listChangedProjected(SyncWindow window) {
+        return window.bind(getEntityManager().createQuery(SELECT_PROJECTED.formatted("") + " where " + SyncWindow.predicate("b"), BudgetProjection.class))
+                .getResultList();
+    }
+
+    public Budget findByIdWithPendingUsage(UUID budgetId) {
+        return getEntityManager().createQuery(SELECT_WITH_PENDING_USAGE + " where b.budgetId = :budgetId", Object[].class)
+                .setParameter("budgetId", budgetId)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultStream()
+                .map(BudgetRepository::withPendingUsage)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public List<BudgetProjection> listAllProjectedWithPendingUsage() {
+        return getEntityManager().createQuery(SELECT_PROJECTED.formatted(", " + PENDING_USAGE), BudgetProjection.class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList();
+    }
+
+    public List<UUID> findIds() {
+        return getEntityManager().createQuery(SELECT_IDS.formatted(""), UUID.class)
+                .getResultList();
+    }
+
+    public List<UUID> findIdsByMonthYear(Integer budgetMonth, Integer budgetYear) {
+        return getEntityManager().createQuery(SELECT_IDS.formatted("where b.budgetMonth = :budgetMonth and b.budgetYear = :budgetYear"), UUID.class)
+                .setParameter("budgetMonth", budgetMonth)
+                .setParameter("budgetYear", budgetYear)
+                .getResultList();
+    }
+
+    public BigDecimal sumUsage(UUID categoryId, Integer budgetMonth, Integer budgetYear) {
+        return (BigDecimal) getEntityManager().createNativeQuery(SELECT_DERIVED_USAGE, BigDecimal.class)
+                .setParameter("categoryId", categoryId)
+                .setParameter("budgetMonth", budgetMonth)
+                .setParameter("budgetYear", budgetYear)
+                .getSingleResult();
+    }
+
+    /**
+     * Recomputes the usage of the given budgets from their expenses in one statement and returns how many
+     * had drifted. Meant to run in its own transaction.
+     */
+    public int reconcile(List<UUID> budgetIds) {
+        if(budgetIds.isEmpty()) {
+            return 0;
+        }
+
+        getEntityManager().createNativeQuery(LOCK_FOR_RECONCILE)
+                .setParameter("budgetIds", budgetIds)
+                .getResultList();
+
+        // Synchronizing on Budget evicts the cached budgets and budget queries the statement may have changed,
+        // now and again once the transaction completes
+        return getEntityManager().createNativeQuery(RECONCILE)
+                .setParameter("budgetIds", budgetIds)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Budget.class)
+                .executeUpdate();
+    }
+
+    private static Budget withPendingUsage(Object[] row) {
+        return ((Budget) row[0]).withPendingUsage((BigDecimal) row[1]);
+    }
 }
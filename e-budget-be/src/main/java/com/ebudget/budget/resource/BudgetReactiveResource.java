@@ -0,0 +1,40 @@
+package com.ebudget.budget.resource;
+
+import com.ebudget.budget.resource.response.BudgetDTO;
+import com.ebudget.budget.service.interfaces.IBudgetReactiveService;
+import com.ebudget.core.reactive.ReactiveReads;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import lombok.RequiredArgsConstructor;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@Path("/reactive/budget")
+@RequiredArgsConstructor
+@Produces(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class BudgetReactiveResource {
+    private final IBudgetReactiveService budgetReactiveService;
+
+    @GET
+    @Path("{budgetId}")
+    public Uni<RestResponse<BudgetDTO>> getBudget(@PathParam("budgetId") UUID budgetId) {
+        return budgetReactiveService.getBudget(budgetId)
+                .map(budget -> RestResponse.status(RestResponse.Status.OK, budget));
+    }
+
+    @GET
+    public Uni<RestResponse<List<BudgetDTO>>> getBudgets() {
+        return budgetReactiveService.getBudgets()
+                .map(budgets -> RestResponse.status(RestResponse.Status.OK, budgets));
+    }
+}
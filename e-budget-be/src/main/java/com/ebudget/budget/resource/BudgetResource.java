@@ -3,9 +3,16 @@ package com.ebudget.budget.resource;
 import com.ebudget.budget.resource.request.NewBudgetDTO;
 import com.ebudget.budget.resource.request.UpdateBudgetDTO;
 import com.ebudget.budget.resource.response.BudgetDTO;
+import com.ebudget.budget.resource.response.BudgetReconcileDTO;
+import com.ebudget.budget.service.interfaces.IBudgetReconcileService;
 import com.ebudget.budget.service.interfaces.IBudgetService;
+import com.ebudget.core.concurrency.ConnectionBulkhead;
+import com.ebudget.core.http.ConditionalGet;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
@@ -14,6 +21,7 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import lombok.RequiredArgsConstructor;
 import org.jboss.resteasy.reactive.RestResponse;
@@ -26,8 +34,15 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
+@ConnectionBulkhead
+@RunOnVirtualThread
 public class BudgetResource {
+    // Listed usage includes pending budget events when reads include them
+    private static final List<String> TABLES = List.of("budget", "category", "budget_event");
+
     private final IBudgetService budgetService;
+    private final IBudgetReconcileService budgetReconcileService;
+    private final ConditionalGet conditionalGet;
 
     @POST
     public RestResponse<BudgetDTO> addBudget(@Valid NewBudgetDTO newBudgetDTO) {
@@ -46,17 +61,13 @@ public class BudgetResource {
 
     @GET
     @Path("{budgetId}")
-    public RestResponse<BudgetDTO> getBudget(@PathParam("budgetId") UUID budgetId) {
-        BudgetDTO budget = budgetService.getBudget(budgetId);
-
-        return RestResponse.status(RestResponse.Status.OK, budget);
+    public RestResponse<BudgetDTO> getBudget(@PathParam("budgetId") UUID budgetId, HttpHeaders headers) {
+        return conditionalGet.entity(headers, budgetService.getBudgetTag(budgetId), () -> budgetService.getBudget(budgetId));
     }
 
     @GET
-    public RestResponse<List<BudgetDTO>> getBudgets() {
-        List<BudgetDTO> budgets = budgetService.getBudgets();
-
-        return RestResponse.status(RestResponse.Status.OK, budgets);
+    public RestResponse<List<BudgetDTO>> getBudgets(HttpHeaders headers) {
+        return conditionalGet.collection(headers, TABLES, budgetService::getBudgets);
     }
 
     @DELETE
@@ -66,4 +77,29 @@ public class BudgetResource {
 
         return RestResponse.status(RestResponse.Status.OK);
     }
+
+    @POST
+    @Path("{budgetId}/reconcile")
+    public RestResponse<BudgetReconcileDTO> reconcileBudget(@PathParam("budgetId") UUID budgetId) {
+        BudgetReconcileDTO reconcile = budgetReconcileService.reconcileBudget(budgetId);
+
+        return RestResponse.status(RestResponse.Status.OK, reconcile);
+    }
+
+    @POST
+    @Path("reconcile/{budgetYear}/{budgetMonth}")
+    public RestResponse<BudgetReconcileDTO> reconcileMonth(@PathParam("budgetYear") Integer budgetYear,
+                                                           @PathParam("budgetMonth") @Min(1) @Max(12) Integer budgetMonth) {
+        BudgetReconcileDTO reconcile = budgetReconcileService.reconcileMonth(budgetMonth, budgetYear);
+
+        return RestResponse.status(RestResponse.Status.OK, reconcile);
+    }
+
+    @POST
+    @Path("reconcile")
+    public RestResponse<BudgetReconcileDTO> reconcileAll() {
+        BudgetReconcileDTO reconcile = budgetReconcileService.reconcileAll();
+
+        return RestResponse.status(RestResponse.Status.OK, reconcile);
+    }
 }
@@ -1,6 +1,7 @@
 package com.ebudget.budget.resource.response;
 
 import com.ebudget.budget.model.Budget;
+import com.ebudget.budget.repository.BudgetProjection;
 import com.ebudget.category.resource.response.CategoryDTO;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -35,4 +36,22 @@ public class BudgetDTO {
         this.createdAt = budget.getCreatedAt();
         this.updatedAt = budget.getUpdatedAt();
     }
+
+    /**
+     * Maps a projected budget with usage that has not been folded yet applied, as {@link Budget#withPendingUsage} does.
+     */
+    public BudgetDTO(BudgetProjection budget) {
+        this.budgetId = budget.budgetId();
+        this.budgetMonth = budget.budgetMonth();
+        this.budgetYear = budget.budgetYear();
+        this.category = new CategoryDTO(budget.category());
+        this.monthlyBudget = budget.monthlyBudget();
+        this.monthlyBudgetUsed = budget.monthlyBudgetUsed().add(budget.pendingUsage());
+        this.monthlyBudgetUsedPercentage = budget.pendingUsage().signum() == 0
+                ? budget.monthlyBudgetUsedPercentage()
+                : Budget.usedPercentage(this.monthlyBudgetUsed, budget.monthlyBudget());
+        this.monthlyBudgetBalance = budget.monthlyBudgetBalance().subtract(budget.pendingUsage());
+        this.createdAt = budget.createdAt();
+        this.updatedAt = budget.updatedAt();
+    }
 }
@@ -0,0 +1,16 @@
+package com.ebudget.budget.resource.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(force = true)
+public class BudgetReconcileDTO {
+    private final Integer budgets;
+    private final Integer corrected;
+
+    public BudgetReconcileDTO(Integer budgets, Integer corrected) {
+        this.budgets = budgets;
+        this.corrected = corrected;
+    }
+}
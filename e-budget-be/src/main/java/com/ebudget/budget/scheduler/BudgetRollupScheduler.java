@@ -0,0 +1,28 @@
+package com.ebudget.budget.scheduler;
+
+import com.ebudget.budget.config.BudgetRollupConfig;
+import com.ebudget.budget.service.interfaces.IBudgetRollupService;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+public class BudgetRollupScheduler {
+    private final IBudgetRollupService budgetRollupService;
+    private final BudgetRollupConfig budgetRollupConfig;
+
+    @Scheduled(
+            identity = "budget-rollup",
+            every = "${e-budget.budget.rollup.interval}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP
+    )
+    void rollup() {
+        int folded;
+
+        // A full batch means more events may be waiting, so keep draining until the backlog is gone
+        do {
+            folded = budgetRollupService.foldPending();
+        } while(folded == budgetRollupConfig.batchSize());
+    }
+}
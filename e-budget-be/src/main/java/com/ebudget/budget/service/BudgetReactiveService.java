@@ -0,0 +1,37 @@
+package com.ebudget.budget.service;
+
+import com.ebudget.budget.config.BudgetRollupConfig;
+import com.ebudget.budget.model.Budget;
+import com.ebudget.budget.repository.BudgetReactiveRepository;
+import com.ebudget.budget.resource.response.BudgetDTO;
+import com.ebudget.budget.service.interfaces.IBudgetReactiveService;
+import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.reactive.ReactiveReads;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class BudgetReactiveService implements IBudgetReactiveService {
+    private final BudgetReactiveRepository budgetReactiveRepository;
+    private final BudgetRollupConfig budgetRollupConfig;
+
+    @Override
+    public Uni<BudgetDTO> getBudget(UUID budgetId) {
+        return budgetReactiveRepository.findById(budgetId, budgetRollupConfig.readYourWrites())
+                .onItem().ifNull().failWith(() -> new EntityNotFoundException(Budget.class, budgetId))
+                .map(BudgetDTO::new);
+    }
+
+    @Override
+    public Uni<List<BudgetDTO>> getBudgets() {
+        return budgetReactiveRepository.listAll(budgetRollupConfig.readYourWrites())
+                .map(budgets -> budgets.stream().map(BudgetDTO::new).toList());
+    }
+}
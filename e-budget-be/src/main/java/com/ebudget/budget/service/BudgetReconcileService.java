@@ -0,0 +1,115 @@
+package com.ebudget.budget.service;
+
+import com.ebudget.budget.config.BudgetReconcileConfig;
+import com.ebudget.budget.model.Budget;
+import com.ebudget.budget.repository.BudgetRepository;
+import com.ebudget.budget.resource.response.BudgetReconcileDTO;
+import com.ebudget.budget.service.interfaces.IBudgetReconcileService;
+import com.ebudget.core.concurrency.ConnectionPermits;
+import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.exceptions.ServiceBusyException;
+import com.ebudget.core.metrics.Measured;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.microprofile.context.ManagedExecutor;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Recomputes budget usage from the expenses of each budget's period, correcting budgets that drifted from
+ * the incremental updates. Larger runs are split into chunks of budgets that are recomputed in parallel on
+ * the managed executor, each chunk with one statement in its own transaction and under its own
+ * {@link ConnectionPermits bulkhead permit}.
+ */
+@ApplicationScoped
+@Measured
+@RequiredArgsConstructor
+public class BudgetReconcileService implements IBudgetReconcileService {
+    private static final String OPERATION = "BudgetReconcileService.reconcileChunk";
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetReconcileConfig budgetReconcileConfig;
+    private final ConnectionPermits connectionPermits;
+    private final ManagedExecutor managedExecutor;
+
+    @Override
+    @Transactional
+    public BudgetReconcileDTO reconcileBudget(UUID budgetId) {
+        if(budgetRepository.findById(budgetId) == null) {
+            throw new EntityNotFoundException(Budget.class, budgetId);
+        }
+
+        return new BudgetReconcileDTO(1, budgetRepository.reconcile(List.of(budgetId)));
+    }
+
+    @Override
+    public BudgetReconcileDTO reconcileMonth(Integer budgetMonth, Integer budgetYear) {
+        return reconcile(QuarkusTransaction.requiringNew().call(() -> budgetRepository.findIdsByMonthYear(budgetMonth, budgetYear)));
+    }
+
+    @Override
+    public BudgetReconcileDTO reconcileAll() {
+        return reconcile(QuarkusTransaction.requiringNew().call(budgetRepository::findIds));
+    }
+
+    private BudgetReconcileDTO reconcile(List<UUID> budgetIds) {
+        AtomicInteger next = new AtomicInteger();
+        int chunks = (budgetIds.size() + budgetReconcileConfig.chunkSize() - 1) / budgetReconcileConfig.chunkSize();
+        int corrected = 0;
+
+        // Chunks hold disjoint budgets, so they never wait on each other's row locks
+        List<CompletableFuture<Integer>> workers = IntStream.range(0, Math.min(budgetReconcileConfig.parallelism(), chunks))
+                .mapToObj(worker -> managedExecutor.supplyAsync(() -> reconcileChunks(budgetIds, next)))
+                .toList();
+
+        try {
+            for(CompletableFuture<Integer> worker : workers) {
+                corrected += worker.join();
+            }
+        } catch(CompletionException exception) {
+            if(exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new IllegalStateException(exception.getCause());
+        }
+
+        return new BudgetReconcileDTO(budgetIds.size(), corrected);
+    }
+
+    // Workers take the next chunk until none is left, so at most parallelism chunks run at once
+    private int reconcileChunks(List<UUID> budgetIds, AtomicInteger next) {
+        int corrected = 0;
+
+        for(int from = next.getAndAdd(budgetReconcileConfig.chunkSize()); from < budgetIds.size(); from = next.getAndAdd(budgetReconcileConfig.chunkSize())) {
+            corrected += reconcileChunk(budgetIds.subList(from, Math.min(from + budgetReconcileConfig.chunkSize(), budgetIds.size())));
+        }
+
+        return corrected;
+    }
+
+    // Each chunk holds a connection of its own, so it takes a bulkhead permit of its own as well
+    private int reconcileChunk(List<UUID> chunk) {
+        try {
+            if(!connectionPermits.acquire()) {
+                throw new ServiceBusyException(OPERATION);
+            }
+        } catch(InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+
+        try {
+            return QuarkusTransaction.requiringNew().call(() -> budgetRepository.reconcile(chunk));
+        } finally {
+            connectionPermits.release();
+        }
+    }
+}
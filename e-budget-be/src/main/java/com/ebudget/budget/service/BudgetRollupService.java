@@ -0,0 +1,68 @@
+package com.ebudget.budget.service;
+
+import com.ebudget.budget.config.BudgetRollupConfig;
+import com.ebudget.budget.model.Budget;
+import com.ebudget.budget.model.BudgetEvent;
+import com.ebudget.budget.model.BudgetKey;
+import com.ebudget.budget.repository.BudgetEventRepository;
+import com.ebudget.budget.repository.BudgetRepository;
+import com.ebudget.budget.service.interfaces.IBudgetRollupService;
+import com.ebudget.core.cache.SecondLevelCache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+public class BudgetRollupService implements IBudgetRollupService {
+    private final BudgetEventRepository budgetEventRepository;
+    private final BudgetRepository budgetRepository;
+    private final BudgetRollupConfig budgetRollupConfig;
+    private final SecondLevelCache secondLevelCache;
+
+    @Override
+    @Transactional
+    public int foldPending() {
+        List<BudgetEvent> events = budgetEventRepository.lockPending(budgetRollupConfig.batchSize());
+
+        if(events.isEmpty()) {
+            return 0;
+        }
+
+        // Sorted by key so concurrent workers always lock budget rows in the same order
+        Map<BudgetKey, BigDecimal> usageByBudget = events.stream()
+                .collect(Collectors.groupingBy(
+                        BudgetEvent::key,
+                        TreeMap::new,
+                        Collectors.reducing(BigDecimal.ZERO, BudgetEvent::getAmount, BigDecimal::add)
+                ));
+
+        usageByBudget.values().removeIf(usage -> usage.signum() == 0);
+
+        // A budget created for a key, or moved into it, counts that key's events as pending. Holding the key
+        // until the events are folded or dropped makes it wait for them; keys are all locked before any budget
+        // row so the two can never deadlock
+        usageByBudget.keySet().forEach(budgetRepository::lockKey);
+
+        usageByBudget.forEach((key, usage) -> {
+            Budget budget = budgetRepository.findByKeyForUpdate(key);
+
+            if(budget != null) {
+                budget.subtract(usage);
+                secondLevelCache.evict(Budget.class, budget.getBudgetId());
+            }
+        });
+
+        budgetEventRepository.deleteByIds(events.stream()
+                .map(BudgetEvent::getBudgetEventId)
+                .toList());
+
+        return events.size();
+    }
+}
@@ -1,15 +1,20 @@
 package com.ebudget.budget.service;
 
+import com.ebudget.budget.config.BudgetRollupConfig;
 import com.ebudget.budget.exception.BudgetAlreadyExistsException;
 import com.ebudget.budget.model.Budget;
+import com.ebudget.budget.model.BudgetKey;
+import com.ebudget.budget.repository.BudgetProjection;
 import com.ebudget.budget.repository.BudgetRepository;
 import com.ebudget.budget.resource.request.NewBudgetDTO;
 import com.ebudget.budget.resource.request.UpdateBudgetDTO;
 import com.ebudget.budget.resource.response.BudgetDTO;
 import com.ebudget.budget.service.interfaces.IBudgetService;
+import com.ebudget.category.cache.CategoryCache;
 import com.ebudget.category.model.Category;
-import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.core.concurrency.OptimisticRetry;
 import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.metrics.Measured;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -20,19 +25,22 @@ import java.util.Map;
 import java.util.UUID;
 
 @ApplicationScoped
+@Measured
 @RequiredArgsConstructor
 public class BudgetService implements IBudgetService {
     private final BudgetRepository budgetRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
+    private final BudgetRollupConfig budgetRollupConfig;
 
     private static final String CATEGORY = "category";
     private static final String BUDGET_MONTH = "budgetMonth";
     private static final String BUDGET_YEAR = "budgetYear";
 
     @Override
+    @OptimisticRetry
     @Transactional
     public BudgetDTO addBudget(NewBudgetDTO newBudgetDTO) {
-        Category category = categoryRepository.findById(newBudgetDTO.categoryId());
+        Category category = categoryCache.findById(newBudgetDTO.categoryId());
 
         if(category == null) {
             throw new EntityNotFoundException(Category.class, newBudgetDTO.categoryId());
@@ -56,12 +64,17 @@ public class BudgetService implements IBudgetService {
                 .monthlyBudgetBalance(newBudgetDTO.monthlyBudget())
                 .build();
 
-        budgetRepository.persistAndFlush(budget);
+        // Expenses may already exist for the period. Their events are counted as pending, so a fold that
+        // would drop them for lack of a budget has to finish first
+        budgetRepository.lockKey(new BudgetKey(category.getCategoryId(), budget.getBudgetMonth(), budget.getBudgetYear()));
+        budget.reconcile(budgetRepository.sumUsage(category.getCategoryId(), budget.getBudgetMonth(), budget.getBudgetYear()));
+        budgetRepository.persist(budget);
 
         return new BudgetDTO(budget);
     }
 
     @Override
+    @OptimisticRetry
     @Transactional
     public void updateBudget(UUID budgetId, UpdateBudgetDTO updateBudgetDTO) {
         Budget budget = budgetRepository.findById(budgetId);
@@ -70,9 +83,10 @@ public class BudgetService implements IBudgetService {
             throw new EntityNotFoundException(Budget.class, budgetId);
         }
 
-        if((!updateBudgetDTO.budgetMonth().equals(budget.getBudgetMonth()) ||
-            !updateBudgetDTO.budgetYear().equals(budget.getBudgetYear())) &&
-            containsBudget(budget.getCategory(), updateBudgetDTO.budgetMonth(), updateBudgetDTO.budgetYear())) {
+        boolean periodChanged = !updateBudgetDTO.budgetMonth().equals(budget.getBudgetMonth()) ||
+                                !updateBudgetDTO.budgetYear().equals(budget.getBudgetYear());
+
+        if(periodChanged && containsBudget(budget.getCategory(), updateBudgetDTO.budgetMonth(), updateBudgetDTO.budgetYear())) {
             throw new BudgetAlreadyExistsException(Map.of(
                     CATEGORY, budget.getCategory().getCategoryName(),
                     BUDGET_MONTH, updateBudgetDTO.budgetMonth(),
@@ -80,12 +94,23 @@ public class BudgetService implements IBudgetService {
             ));
         }
 
+        // Locked before the budget row is written, in the same order as the rollup
+        if(periodChanged) {
+            budgetRepository.lockKey(new BudgetKey(budget.getCategory().getCategoryId(), updateBudgetDTO.budgetMonth(), updateBudgetDTO.budgetYear()));
+        }
+
         budget.update(updateBudgetDTO);
+
+        if(periodChanged) {
+            budget.reconcile(budgetRepository.sumUsage(budget.getCategory().getCategoryId(), budget.getBudgetMonth(), budget.getBudgetYear()));
+        }
     }
 
     @Override
     public BudgetDTO getBudget(UUID budgetId) {
-        Budget budget = budgetRepository.findById(budgetId);
+        Budget budget = budgetRollupConfig.readYourWrites()
+                ? budgetRepository.findByIdWithPendingUsage(budgetId)
+                : budgetRepository.findById(budgetId);
 
         if(budget == null) {
             throw new EntityNotFoundException(Budget.class, budgetId);
@@ -94,16 +119,22 @@ public class BudgetService implements IBudgetService {
         return new BudgetDTO(budget);
     }
 
+    @Override
+    public String getBudgetTag(UUID budgetId) {
+        return budgetRepository.findTag(budgetId);
+    }
+
     @Override
     public List<BudgetDTO> getBudgets() {
-        List<Budget> budgets = budgetRepository.listAll();
+        List<BudgetProjection> budgets = budgetRollupConfig.readYourWrites()
+                ? budgetRepository.listAllProjectedWithPendingUsage()
+                : budgetRepository.listAllProjected();
 
-        return budgets.stream()
-                .map(BudgetDTO::new)
-                .toList();
+        return budgets.stream().map(BudgetDTO::new).toList();
     }
 
     @Override
+    @OptimisticRetry
     @Transactional
     public void deleteBudget(UUID budgetId) {
         Budget budget = budgetRepository.findById(budgetId);
@@ -0,0 +1,12 @@
+package com.ebudget.budget.service.interfaces;
+
+import com.ebudget.budget.resource.response.BudgetDTO;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface IBudgetReactiveService {
+    Uni<BudgetDTO> getBudget(UUID budgetId);
+    Uni<List<BudgetDTO>> getBudgets();
+}
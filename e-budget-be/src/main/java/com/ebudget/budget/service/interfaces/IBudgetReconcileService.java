@@ -0,0 +1,11 @@
+package com.ebudget.budget.service.interfaces;
+
+import com.ebudget.budget.resource.response.BudgetReconcileDTO;
+
+import java.util.UUID;
+
+public interface IBudgetReconcileService {
+    BudgetReconcileDTO reconcileBudget(UUID budgetId);
+    BudgetReconcileDTO reconcileMonth(Integer budgetMonth, Integer budgetYear);
+    BudgetReconcileDTO reconcileAll();
+}
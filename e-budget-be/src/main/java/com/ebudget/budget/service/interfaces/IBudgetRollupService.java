@@ -0,0 +1,5 @@
+package com.ebudget.budget.service.interfaces;
+
+public interface IBudgetRollupService {
+    int foldPending();
+}
@@ -11,6 +11,7 @@ public interface IBudgetService {
     BudgetDTO addBudget(NewBudgetDTO newBudgetDTO);
     void updateBudget(UUID budgetId, UpdateBudgetDTO updateBudgetDTO);
     BudgetDTO getBudget(UUID budgetId);
+    String getBudgetTag(UUID budgetId);
     List<BudgetDTO> getBudgets();
     void deleteBudget(UUID budgetId);
 }
@@ -0,0 +1,61 @@
+package com.ebudget.category.cache;
+
+import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.category.resource.response.CategoryDTO;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-through cache of categories for lookups that only reference or display them. Cached
+ * instances are detached and shared between requests, so they must never be modified; writes load
+ * the category from {@link CategoryRepository}.
+ */
+@ApplicationScoped
+public class CategoryCache {
+    public static final String CATEGORY = "category";
+    public static final String CATEGORY_LIST = "category-list";
+    private static final String ALL = "all";
+
+    @Inject
+    CategoryRepository categoryRepository;
+    @Inject
+    @CacheName(CATEGORY)
+    Cache categoryCache;
+    @Inject
+    @CacheName(CATEGORY_LIST)
+    Cache categoryListCache;
+
+    public Category findById(UUID categoryId) {
+        if(categoryId == null) {
+            return null;
+        }
+
+        return categoryCache.get(categoryId, categoryRepository::findById)
+                .await()
+                .indefinitely();
+    }
+
+    public List<CategoryDTO> listAll() {
+        return categoryListCache.get(ALL, key -> categoryRepository.listAllProjected().stream().map(CategoryDTO::new).toList())
+                .await()
+                .indefinitely();
+    }
+
+    // Evicting before commit would let a concurrent reader cache the old row again
+    void onCategoryChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) CategoryChangedEvent event) {
+        categoryCache.invalidate(event.categoryId())
+                .await()
+                .indefinitely();
+        categoryListCache.invalidateAll()
+                .await()
+                .indefinitely();
+    }
+}
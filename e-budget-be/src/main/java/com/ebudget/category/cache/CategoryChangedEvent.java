@@ -0,0 +1,10 @@
+package com.ebudget.category.cache;
+
+import java.util.UUID;
+
+/**
+ * Fired when a category is added, updated or deleted. Cached copies are dropped once the
+ * transaction that changed it commits.
+ */
+public record CategoryChangedEvent(UUID categoryId) {
+}
@@ -1,21 +1,22 @@
 package com.ebudget.category.model;
 
 import com.ebudget.category.resource.request.UpdateCategoryDTO;
+import com.ebudget.core.id.UuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
@@ -27,18 +28,31 @@ import java.util.UUID;
 public class Category {
     @Id
     @Column(name = "category_id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID categoryId;
     @Column(name = "category_name")
     private String categoryName;
-    @CreationTimestamp
+    @Version
+    private Long version;
+    @Column(name = "changed_xid", insertable = false, updatable = false)
+    private Long changedXid;
     @Column(name = "created_at")
     private LocalDateTime createdAt;
-    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
     public void update(UpdateCategoryDTO updateCategoryDTO) {
         setCategoryName(updateCategoryDTO.categoryName());
     }
+
+    @PrePersist
+    void onPersist() {
+        setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        setUpdatedAt(getCreatedAt());
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        setUpdatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
 }
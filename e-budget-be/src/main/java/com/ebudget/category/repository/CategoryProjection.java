@@ -0,0 +1,10 @@
+package com.ebudget.category.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Category columns selected by read queries that do not load the entity.
+ */
+public record CategoryProjection(UUID categoryId, String categoryName, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
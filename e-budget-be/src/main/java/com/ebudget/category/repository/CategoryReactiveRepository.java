@@ -0,0 +1,60 @@
+package com.ebudget.category.repository;
+
+import com.ebudget.core.reactive.ReactiveReads;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class CategoryReactiveRepository {
+    private static final List<String> COLUMNS = List.of("category_id", "category_name", "created_at", "updated_at");
+    private static final String SELECT = "select " + columns("c") + " from category c";
+
+    private final Pool pool;
+
+    /**
+     * Category columns of the table aliased {@code alias}, read back by {@link #toProjection(Row, String)}.
+     */
+    public static String columns(String alias) {
+        return ReactiveReads.columns(alias, COLUMNS);
+    }
+
+    /**
+     * Returns {@code null} when the category columns are empty, as they are for an outer join without match.
+     */
+    public static CategoryProjection toProjection(Row row, String alias) {
+        UUID categoryId = row.getUUID(alias + "_category_id");
+
+        if(categoryId == null) {
+            return null;
+        }
+
+        return new CategoryProjection(
+                categoryId,
+                row.getString(alias + "_category_name"),
+                ReactiveReads.localDateTime(row, alias + "_created_at"),
+                ReactiveReads.localDateTime(row, alias + "_updated_at")
+        );
+    }
+
+    public Uni<CategoryProjection> findById(UUID categoryId) {
+        return pool.preparedQuery(SELECT + " where c.category_id = $1")
+                .execute(Tuple.of(categoryId))
+                .map(rows -> ReactiveReads.first(rows, row -> toProjection(row, "c")));
+    }
+
+    public Uni<List<CategoryProjection>> listAll() {
+        return pool.query(SELECT)
+                .execute()
+                .map(rows -> ReactiveReads.toList(rows, row -> toProjection(row, "c")));
+    }
+}
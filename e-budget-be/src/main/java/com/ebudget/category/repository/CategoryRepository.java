@@ -1,11 +1,55 @@
 package com.ebudget.category.repository;
 
 import com.ebudget.category.model.Category;
+import com.ebudget.core.http.EntityTags;
+import com.ebudget.core.metrics.Measured;
+import com.ebudget.sync.repository.SyncWindow;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @ApplicationScoped
+@Measured
 public class CategoryRepository implements PanacheRepositoryBase<Category, UUID> {
+    private static final String TAG = "select c.changedXid from Category c where c.categoryId = :categoryId";
+
+    /**
+     * Constructor expression building a {@link CategoryProjection} from the category joined as {@code alias}, for
+     * read queries that do not load entities.
+     */
+    public static String projection(String alias) {
+        return "new %1$s(%2$s.categoryId, %2$s.categoryName, %2$s.createdAt, %2$s.updatedAt)"
+                .formatted(CategoryProjection.class.getName(), alias);
+    }
+
+    public List<CategoryProjection> listAllProjected() {
+        return getEntityManager().createQuery("select " + projection("c") + " from Category c", CategoryProjection.class)
+                .getResultList();
+    }
+
+    public String findTag(UUID categoryId) {
+        return getEntityManager().createQuery(TAG, Object[].class)
+                .setParameter("categoryId", categoryId)
+                .getResultStream()
+                .findFirst()
+                .map(EntityTags::of)
+                .orElse(null);
+    }
+
+    public List<CategoryProjection> listChangedProjected(SyncWindow window) {
+        return window.bind(getEntityManager().createQuery("select " + projection("c") + " from Category c where "
+                        + SyncWindow.predicate("c"), CategoryProjection.class))
+                .getResultList();
+    }
+
+    public List<Category> findByIds(Collection<UUID> categoryIds) {
+        if(categoryIds.isEmpty()) {
+            return List.of();
+        }
+
+        return list("categoryId in ?1", categoryIds);
+    }
 }
@@ -0,0 +1,40 @@
+package com.ebudget.category.resource;
+
+import com.ebudget.category.resource.response.CategoryDTO;
+import com.ebudget.category.service.interfaces.ICategoryReactiveService;
+import com.ebudget.core.reactive.ReactiveReads;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import lombok.RequiredArgsConstructor;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@Path("/reactive/category")
+@RequiredArgsConstructor
+@Produces(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class CategoryReactiveResource {
+    private final ICategoryReactiveService categoryReactiveService;
+
+    @GET
+    @Path("{categoryId}")
+    public Uni<RestResponse<CategoryDTO>> getCategory(@PathParam("categoryId") UUID categoryId) {
+        return categoryReactiveService.getCategory(categoryId)
+                .map(category -> RestResponse.status(RestResponse.Status.OK, category));
+    }
+
+    @GET
+    public Uni<RestResponse<List<CategoryDTO>>> getCategories() {
+        return categoryReactiveService.getCategories()
+                .map(categories -> RestResponse.status(RestResponse.Status.OK, categories));
+    }
+}
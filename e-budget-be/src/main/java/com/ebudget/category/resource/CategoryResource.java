@@ -4,6 +4,9 @@ import com.ebudget.category.resource.request.NewCategoryDTO;
 import com.ebudget.category.resource.request.UpdateCategoryDTO;
 import com.ebudget.category.resource.response.CategoryDTO;
 import com.ebudget.category.service.interfaces.ICategoryService;
+import com.ebudget.core.concurrency.ConnectionBulkhead;
+import com.ebudget.core.http.ConditionalGet;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
@@ -14,6 +17,7 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import lombok.RequiredArgsConstructor;
 import org.jboss.resteasy.reactive.RestResponse;
@@ -26,8 +30,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
+@ConnectionBulkhead
+@RunOnVirtualThread
 public class CategoryResource {
+    private static final List<String> TABLES = List.of("category");
+
     private final ICategoryService categoryService;
+    private final ConditionalGet conditionalGet;
 
     @POST
     public RestResponse<CategoryDTO> addCategory(@Valid NewCategoryDTO newCategoryDTO) {
@@ -46,17 +55,13 @@ public class CategoryResource {
 
     @GET
     @Path("{categoryId}")
-    public RestResponse<CategoryDTO> getCategory(@PathParam("categoryId") UUID categoryId) {
-        CategoryDTO category = categoryService.getCategory(categoryId);
-
-        return RestResponse.status(RestResponse.Status.OK, category);
+    public RestResponse<CategoryDTO> getCategory(@PathParam("categoryId") UUID categoryId, HttpHeaders headers) {
+        return conditionalGet.entity(headers, categoryService.getCategoryTag(categoryId), () -> categoryService.getCategory(categoryId));
     }
 
     @GET
-    public RestResponse<List<CategoryDTO>> getCategories() {
-        List<CategoryDTO> categories = categoryService.getCategories();
-
-        return RestResponse.status(RestResponse.Status.OK, categories);
+    public RestResponse<List<CategoryDTO>> getCategories(HttpHeaders headers) {
+        return conditionalGet.collection(headers, TABLES, categoryService::getCategories);
     }
 
     @DELETE
@@ -1,6 +1,7 @@
 package com.ebudget.category.resource.response;
 
 import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryProjection;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -21,4 +22,11 @@ public class CategoryDTO {
         this.createdAt = category.getCreatedAt();
         this.updatedAt = category.getUpdatedAt();
     }
+
+    public CategoryDTO(CategoryProjection category) {
+        this.categoryId = category.categoryId();
+        this.categoryName = category.categoryName();
+        this.createdAt = category.createdAt();
+        this.updatedAt = category.updatedAt();
+    }
 }
@@ -0,0 +1,35 @@
+package com.ebudget.category.service;
+
+import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryReactiveRepository;
+import com.ebudget.category.resource.response.CategoryDTO;
+import com.ebudget.category.service.interfaces.ICategoryReactiveService;
+import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.reactive.ReactiveReads;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class CategoryReactiveService implements ICategoryReactiveService {
+    private final CategoryReactiveRepository categoryReactiveRepository;
+
+    @Override
+    public Uni<CategoryDTO> getCategory(UUID categoryId) {
+        return categoryReactiveRepository.findById(categoryId)
+                .onItem().ifNull().failWith(() -> new EntityNotFoundException(Category.class, categoryId))
+                .map(CategoryDTO::new);
+    }
+
+    @Override
+    public Uni<List<CategoryDTO>> getCategories() {
+        return categoryReactiveRepository.listAll()
+                .map(categories -> categories.stream().map(CategoryDTO::new).toList());
+    }
+}
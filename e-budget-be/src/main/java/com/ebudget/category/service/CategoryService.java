@@ -1,13 +1,18 @@
 package com.ebudget.category.service;
 
+import com.ebudget.category.cache.CategoryCache;
+import com.ebudget.category.cache.CategoryChangedEvent;
 import com.ebudget.category.model.Category;
 import com.ebudget.category.repository.CategoryRepository;
 import com.ebudget.category.resource.request.NewCategoryDTO;
 import com.ebudget.category.resource.request.UpdateCategoryDTO;
 import com.ebudget.category.resource.response.CategoryDTO;
 import com.ebudget.category.service.interfaces.ICategoryService;
+import com.ebudget.core.concurrency.OptimisticRetry;
 import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.metrics.Measured;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
@@ -15,23 +20,29 @@ import java.util.List;
 import java.util.UUID;
 
 @ApplicationScoped
+@Measured
 @RequiredArgsConstructor
 public class CategoryService implements ICategoryService {
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
+    private final Event<CategoryChangedEvent> categoryChanged;
 
     @Override
+    @OptimisticRetry
     @Transactional
     public CategoryDTO addCategory(NewCategoryDTO newCategoryDTO) {
         Category category = Category.builder()
                 .categoryName(newCategoryDTO.categoryName())
                 .build();
 
-        categoryRepository.persistAndFlush(category);
+        categoryRepository.persist(category);
+        categoryChanged.fire(new CategoryChangedEvent(category.getCategoryId()));
 
         return new CategoryDTO(category);
     }
 
     @Override
+    @OptimisticRetry
     @Transactional
     public void updateCategory(UUID categoryId, UpdateCategoryDTO updateCategoryDTO) {
         Category category = categoryRepository.findById(categoryId);
@@ -41,11 +52,12 @@ public class CategoryService implements ICategoryService {
         }
 
         category.update(updateCategoryDTO);
+        categoryChanged.fire(new CategoryChangedEvent(categoryId));
     }
 
     @Override
     public CategoryDTO getCategory(UUID categoryId) {
-        Category category = categoryRepository.findById(categoryId);
+        Category category = categoryCache.findById(categoryId);
 
         if(category == null) {
             throw new EntityNotFoundException(Category.class, categoryId);
@@ -55,15 +67,17 @@ public class CategoryService implements ICategoryService {
     }
 
     @Override
-    public List<CategoryDTO> getCategories() {
-        List<Category> categories = categoryRepository.listAll();
+    public String getCategoryTag(UUID categoryId) {
+        return categoryRepository.findTag(categoryId);
+    }
 
-        return categories.stream()
-                .map(CategoryDTO::new)
-                .toList();
+    @Override
+    public List<CategoryDTO> getCategories() {
+        return categoryCache.listAll();
     }
 
     @Override
+    @OptimisticRetry
     @Transactional
     public void deleteCategory(UUID categoryId) {
         Category category = categoryRepository.findById(categoryId);
@@ -73,5 +87,6 @@ public class CategoryService implements ICategoryService {
         }
 
         categoryRepository.delete(category);
+        categoryChanged.fire(new CategoryChangedEvent(categoryId));
     }
 }
@@ -0,0 +1,12 @@
+package com.ebudget.category.service.interfaces;
+
+import com.ebudget.category.resource.response.CategoryDTO;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ICategoryReactiveService {
+    Uni<CategoryDTO> getCategory(UUID categoryId);
+    Uni<List<CategoryDTO>> getCategories();
+}
@@ -11,6 +11,7 @@ public interface ICategoryService {
     CategoryDTO addCategory(NewCategoryDTO newCategoryDTO);
     void updateCategory(UUID categoryId, UpdateCategoryDTO updateCategoryDTO);
     CategoryDTO getCategory(UUID categoryId);
+    String getCategoryTag(UUID categoryId);
     List<CategoryDTO> getCategories();
     void deleteCategory(UUID categoryId);
 }
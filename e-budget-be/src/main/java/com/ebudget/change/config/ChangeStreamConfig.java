@@ -0,0 +1,22 @@
+package com.ebudget.change.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+@ConfigMapping(prefix = "e-budget.change-stream")
+public interface ChangeStreamConfig {
+    /**
+     * Window over which changes are coalesced: the last balance of an account and the summed usage of a budget.
+     */
+    @WithDefault("250ms")
+    Duration coalesce();
+
+    /**
+     * Coalesced batches buffered for a subscriber that reads slower than they are produced. A subscriber
+     * falling further behind is disconnected and has to read the current state again.
+     */
+    @WithDefault("64")
+    int bufferSize();
+}
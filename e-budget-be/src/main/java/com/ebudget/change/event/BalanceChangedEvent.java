@@ -0,0 +1,11 @@
+package com.ebudget.change.event;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Fired whenever the balance of an account is adjusted, carrying the balance it was left with. Pushed to
+ * change stream subscribers once the transaction commits.
+ */
+public record BalanceChangedEvent(UUID accountId, BigDecimal balance) {
+}
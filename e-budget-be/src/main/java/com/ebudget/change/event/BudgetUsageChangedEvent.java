@@ -0,0 +1,11 @@
+package com.ebudget.change.event;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Fired when expenses change the usage of the budget of a category-month by {@code delta}. Pushed to change
+ * stream subscribers once the transaction commits, before the rollup folds it into the budget.
+ */
+public record BudgetUsageChangedEvent(UUID categoryId, Integer month, Integer year, BigDecimal delta) {
+}
@@ -0,0 +1,6 @@
+package com.ebudget.change.model.enums;
+
+public enum ChangeType {
+    ACCOUNT_BALANCE,
+    BUDGET_USAGE
+}
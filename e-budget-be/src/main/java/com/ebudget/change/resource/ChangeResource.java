@@ -0,0 +1,28 @@
+package com.ebudget.change.resource;
+
+import com.ebudget.change.resource.response.ChangeDTO;
+import com.ebudget.change.service.interfaces.IChangeStreamService;
+import io.smallrye.mutiny.Multi;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import lombok.RequiredArgsConstructor;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+// Streams stay open for as long as the client listens and never touch the database, so they are neither
+// bulkheaded nor pinned to a virtual thread
+@ApplicationScoped
+@Path("/change")
+@RequiredArgsConstructor
+public class ChangeResource {
+    private final IChangeStreamService changeStreamService;
+
+    @GET
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    public Multi<ChangeDTO> stream() {
+        return changeStreamService.stream();
+    }
+}
@@ -0,0 +1,42 @@
+package com.ebudget.change.resource.response;
+
+import com.ebudget.change.model.enums.ChangeType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(force = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeDTO {
+    private final ChangeType type;
+    private final UUID accountId;
+    private final BigDecimal balance;
+    private final UUID categoryId;
+    private final Integer month;
+    private final Integer year;
+    private final BigDecimal usedDelta;
+
+    public ChangeDTO(UUID accountId, BigDecimal balance) {
+        this.type = ChangeType.ACCOUNT_BALANCE;
+        this.accountId = accountId;
+        this.balance = balance;
+        this.categoryId = null;
+        this.month = null;
+        this.year = null;
+        this.usedDelta = null;
+    }
+
+    public ChangeDTO(UUID categoryId, Integer month, Integer year, BigDecimal usedDelta) {
+        this.type = ChangeType.BUDGET_USAGE;
+        this.accountId = null;
+        this.balance = null;
+        this.categoryId = categoryId;
+        this.month = month;
+        this.year = year;
+        this.usedDelta = usedDelta;
+    }
+}
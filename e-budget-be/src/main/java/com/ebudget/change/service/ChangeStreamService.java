@@ -0,0 +1,66 @@
+package com.ebudget.change.service;
+
+import com.ebudget.budget.model.BudgetKey;
+import com.ebudget.change.config.ChangeStreamConfig;
+import com.ebudget.change.event.BalanceChangedEvent;
+import com.ebudget.change.event.BudgetUsageChangedEvent;
+import com.ebudget.change.model.enums.ChangeType;
+import com.ebudget.change.resource.response.ChangeDTO;
+import com.ebudget.change.service.interfaces.IChangeStreamService;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.operators.multi.processors.SerializedProcessor;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Broadcasts committed balance and budget usage changes to every subscriber. Each subscriber gets its own
+ * coalescing window and buffer, so a slow client only ever holds back itself.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+public class ChangeStreamService implements IChangeStreamService {
+    private final ChangeStreamConfig changeStreamConfig;
+    private final BroadcastProcessor<ChangeDTO> changes = BroadcastProcessor.create();
+    // Events are fired from any request thread, so emissions go through a serialized view of the processor
+    private final SerializedProcessor<ChangeDTO, ChangeDTO> emitter = changes.serialized();
+
+    @Override
+    public Multi<ChangeDTO> stream() {
+        return changes
+                .group().intoLists().every(changeStreamConfig.coalesce())
+                .onItem().transformToIterable(ChangeStreamService::coalesce)
+                .onOverflow().buffer(changeStreamConfig.bufferSize());
+    }
+
+    void onBalanceChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) BalanceChangedEvent event) {
+        emitter.onNext(new ChangeDTO(event.accountId(), event.balance()));
+    }
+
+    void onBudgetUsageChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) BudgetUsageChangedEvent event) {
+        emitter.onNext(new ChangeDTO(event.categoryId(), event.month(), event.year(), event.delta()));
+    }
+
+    // An account keeps its latest balance and a budget the sum of its usage deltas, in order of first change
+    static List<ChangeDTO> coalesce(List<ChangeDTO> batch) {
+        Map<Object, ChangeDTO> coalesced = new LinkedHashMap<>();
+
+        for(ChangeDTO change : batch) {
+            if(change.getType() == ChangeType.ACCOUNT_BALANCE) {
+                coalesced.put(change.getAccountId(), change);
+            } else {
+                coalesced.merge(new BudgetKey(change.getCategoryId(), change.getMonth(), change.getYear()), change,
+                        (previous, next) -> new ChangeDTO(next.getCategoryId(), next.getMonth(), next.getYear(),
+                                previous.getUsedDelta().add(next.getUsedDelta())));
+            }
+        }
+
+        return List.copyOf(coalesced.values());
+    }
+}
@@ -0,0 +1,8 @@
+package com.ebudget.change.service.interfaces;
+
+import com.ebudget.change.resource.response.ChangeDTO;
+import io.smallrye.mutiny.Multi;
+
+public interface IChangeStreamService {
+    Multi<ChangeDTO> stream();
+}
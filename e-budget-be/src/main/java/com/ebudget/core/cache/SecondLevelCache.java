@@ -0,0 +1,52 @@
+package com.ebudget.core.cache;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.budget.model.Budget;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evicts entries from Hibernate's second-level cache, which is local to each node. A node evicts the rows it
+ * changes itself, and drops every cached account, budget and query result on a schedule so rows changed by
+ * another node are served stale for at most {@code e-budget.cache.max-staleness}.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+public class SecondLevelCache {
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    /**
+     * Evicts an entity changed by the current transaction, right away and again once it completes.
+     */
+    public void evict(Class<?> entityClass, Object id) {
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(entityClass, id);
+
+        // Another transaction may cache the old row before this one commits, so evict again afterwards
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                cache.evict(entityClass, id);
+            }
+        });
+    }
+
+    /**
+     * Drops the cached accounts, budgets and query results of this node.
+     */
+    public void expire() {
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(Account.class);
+        cache.evict(Budget.class);
+        cache.unwrap(org.hibernate.Cache.class).evictDefaultQueryRegion();
+    }
+}
@@ -0,0 +1,14 @@
+package com.ebudget.core.cache;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "e-budget.cache")
+public interface SecondLevelCacheConfig {
+    /**
+     * Period after which every node drops its cached accounts, budgets and query results, bounding how long
+     * it serves a row another node has changed.
+     */
+    @WithDefault("30s")
+    String maxStaleness();
+}
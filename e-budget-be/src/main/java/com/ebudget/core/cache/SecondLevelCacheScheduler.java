@@ -0,0 +1,20 @@
+package com.ebudget.core.cache;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+public class SecondLevelCacheScheduler {
+    private final SecondLevelCache secondLevelCache;
+
+    @Scheduled(
+            identity = "second-level-cache-expiry",
+            every = "${e-budget.cache.max-staleness}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP
+    )
+    void expire() {
+        secondLevelCache.expire();
+    }
+}
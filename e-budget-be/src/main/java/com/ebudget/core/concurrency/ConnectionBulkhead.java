@@ -0,0 +1,21 @@
+package com.ebudget.core.concurrency;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caps the number of annotated calls running at once to the size of the connection pool. Callers over
+ * the cap wait up to {@code e-budget.bulkhead.max-wait} for a permit and are then turned away, so a burst
+ * on virtual threads queues here instead of timing out on connection acquisition mid-request.
+ */
+@Inherited
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ConnectionBulkhead {
+}
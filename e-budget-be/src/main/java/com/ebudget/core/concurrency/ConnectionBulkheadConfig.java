@@ -0,0 +1,21 @@
+package com.ebudget.core.concurrency;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+@ConfigMapping(prefix = "e-budget.bulkhead")
+public interface ConnectionBulkheadConfig {
+    /**
+     * Number of calls allowed to run at once; should match the JDBC pool size.
+     */
+    @WithDefault("20")
+    int maxConcurrent();
+
+    /**
+     * How long a call waits for a permit before it is rejected.
+     */
+    @WithDefault("2s")
+    Duration maxWait();
+}
@@ -0,0 +1,38 @@
+package com.ebudget.core.concurrency;
+
+import com.ebudget.core.exceptions.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@Interceptor
+@ConnectionBulkhead
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+public class ConnectionBulkheadInterceptor {
+    private static final String REJECTED = "ebudget.bulkhead.rejected";
+    private static final String OPERATION = "operation";
+
+    @Inject
+    ConnectionPermits connectionPermits;
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @AroundInvoke
+    Object limit(InvocationContext context) throws Exception {
+        if(!connectionPermits.acquire()) {
+            String operation = context.getMethod().getDeclaringClass().getSimpleName() + "." + context.getMethod().getName();
+
+            meterRegistry.counter(REJECTED, OPERATION, operation).increment();
+            throw new ServiceBusyException(operation);
+        }
+
+        try {
+            return context.proceed();
+        } finally {
+            connectionPermits.release();
+        }
+    }
+}
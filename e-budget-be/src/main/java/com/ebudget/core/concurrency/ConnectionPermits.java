@@ -0,0 +1,33 @@
+package com.ebudget.core.concurrency;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permits shared by every {@link ConnectionBulkhead} call; interceptor instances are per bean, so the
+ * semaphore cannot live in the interceptor itself.
+ */
+@ApplicationScoped
+public class ConnectionPermits {
+    @Inject
+    ConnectionBulkheadConfig connectionBulkheadConfig;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(connectionBulkheadConfig.maxConcurrent(), true);
+    }
+
+    public boolean acquire() throws InterruptedException {
+        return permits.tryAcquire(connectionBulkheadConfig.maxWait().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
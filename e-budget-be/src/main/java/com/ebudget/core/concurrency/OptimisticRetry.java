@@ -0,0 +1,21 @@
+package com.ebudget.core.concurrency;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs the annotated transactional method when its transaction fails on a version conflict.
+ * The interceptor wraps {@code @Transactional}, so every attempt runs in a fresh transaction and
+ * persistence context.
+ */
+@Inherited
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface OptimisticRetry {
+}
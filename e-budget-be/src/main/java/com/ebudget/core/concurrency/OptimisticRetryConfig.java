@@ -0,0 +1,27 @@
+package com.ebudget.core.concurrency;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+@ConfigMapping(prefix = "e-budget.optimistic-retry")
+public interface OptimisticRetryConfig {
+    /**
+     * Total number of attempts, including the first one.
+     */
+    @WithDefault("4")
+    int maxAttempts();
+
+    /**
+     * Backoff before the first retry; doubled on every following retry.
+     */
+    @WithDefault("10ms")
+    Duration initialBackoff();
+
+    /**
+     * Upper bound of the backoff between two attempts.
+     */
+    @WithDefault("200ms")
+    Duration maxBackoff();
+}
@@ -0,0 +1,89 @@
+package com.ebudget.core.concurrency;
+
+import com.ebudget.core.exceptions.ConcurrentUpdateException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.lock.OptimisticEntityLockException;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Interceptor
+@OptimisticRetry
+// Runs outside the transaction interceptor (PLATFORM_BEFORE + 200) so each attempt commits on its own
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class OptimisticRetryInterceptor {
+    private static final Logger LOGGER = Logger.getLogger(OptimisticRetryInterceptor.class);
+    private static final String CONFLICTS = "ebudget.optimistic.conflicts";
+    private static final String RETRIES = "ebudget.optimistic.retries";
+    private static final String EXHAUSTED = "ebudget.optimistic.exhausted";
+    private static final String OPERATION = "operation";
+
+    @Inject
+    OptimisticRetryConfig optimisticRetryConfig;
+    @Inject
+    MeterRegistry meterRegistry;
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @AroundInvoke
+    Object retry(InvocationContext context) throws Exception {
+        // A caller that already owns the transaction has to retry the whole unit of work itself
+        if(transactionSynchronizationRegistry.getTransactionStatus() != Status.STATUS_NO_TRANSACTION) {
+            return context.proceed();
+        }
+
+        String operation = context.getMethod().getDeclaringClass().getSimpleName() + "." + context.getMethod().getName();
+
+        for(int attempt = 1; ; attempt++) {
+            try {
+                return context.proceed();
+            } catch(Exception exception) {
+                if(!isVersionConflict(exception)) {
+                    throw exception;
+                }
+
+                meterRegistry.counter(CONFLICTS, OPERATION, operation).increment();
+
+                if(attempt >= optimisticRetryConfig.maxAttempts()) {
+                    meterRegistry.counter(EXHAUSTED, OPERATION, operation).increment();
+                    throw new ConcurrentUpdateException(operation);
+                }
+
+                meterRegistry.counter(RETRIES, OPERATION, operation).increment();
+                LOGGER.debugf("Version conflict on %s, retrying (attempt %d)", operation, attempt);
+                Thread.sleep(backoff(attempt).toMillis());
+            }
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        Duration exponential = optimisticRetryConfig.initialBackoff().multipliedBy(1L << Math.min(attempt - 1, 16));
+        long ceiling = Math.min(exponential.toMillis(), optimisticRetryConfig.maxBackoff().toMillis());
+
+        // Jitter spreads out callers that collided on the same row
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+    }
+
+    // The conflict usually surfaces at commit, wrapped by the transaction manager
+    private boolean isVersionConflict(Throwable exception) {
+        for(Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if(cause instanceof OptimisticLockException ||
+               cause instanceof StaleStateException ||
+               cause instanceof OptimisticEntityLockException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
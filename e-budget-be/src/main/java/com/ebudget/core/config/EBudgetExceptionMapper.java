@@ -2,10 +2,14 @@ package com.ebudget.core.config;
 
 import com.ebudget.core.exceptions.EBudgetException;
 import com.ebudget.core.response.ExceptionDTO;
+import com.ebudget.core.response.ExceptionTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.quarkus.hibernate.validator.runtime.jaxrs.ResteasyReactiveViolationException;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ValidationException;
+import lombok.RequiredArgsConstructor;
 import org.jboss.resteasy.reactive.RestResponse;
 import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
 
@@ -14,13 +18,32 @@ import java.util.Map;
 import java.util.Set;
 
 @ApplicationScoped
+@RequiredArgsConstructor
 public class EBudgetExceptionMapper {
     private static final String VALIDATION_EXCEPTION_MESSAGE = "Request contains validation errors";
     private static final String KEY = "key";
     private static final String VALUE = "value";
+    private static final String EXCEPTIONS = "ebudget.exceptions";
+    private static final String EXCEPTION = "exception";
+
+    private static final ExceptionTemplate VALIDATION_EXCEPTION_TEMPLATE = ExceptionTemplate.of(
+            ValidationException.class,
+            VALIDATION_EXCEPTION_MESSAGE
+    );
+
+    private final MeterRegistry meterRegistry;
+    // Resolved once per exception type instead of looking the meter up by name and tags on every error
+    private final ClassValue<Counter> counters = new ClassValue<>() {
+        @Override
+        protected Counter computeValue(Class<?> exception) {
+            return meterRegistry.counter(EXCEPTIONS, EXCEPTION, exception.getSimpleName());
+        }
+    };
 
     @ServerExceptionMapper
     public RestResponse<ExceptionDTO> mapEBudgetException(EBudgetException eBudgetException) {
+        counters.get(eBudgetException.getClass()).increment();
+
         return RestResponse.status(
                 eBudgetException.getStatus(),
                 eBudgetException.get()
@@ -31,11 +54,12 @@ public class EBudgetExceptionMapper {
     public RestResponse<ExceptionDTO> mapValidationException(ValidationException validationException) {
         ResteasyReactiveViolationException resteasyReactiveViolationException = (ResteasyReactiveViolationException) validationException;
 
+        counters.get(ValidationException.class).increment();
+
         return RestResponse.status(
                 RestResponse.Status.BAD_REQUEST,
                 new ExceptionDTO(
-                        ValidationException.class.getSimpleName(),
-                        VALIDATION_EXCEPTION_MESSAGE,
+                        VALIDATION_EXCEPTION_TEMPLATE,
                         buildValidationErrors(resteasyReactiveViolationException.getConstraintViolations())
                 )
         );
@@ -0,0 +1,19 @@
+package com.ebudget.core.exceptions;
+
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.util.Map;
+
+public class ConcurrentUpdateException extends EBudgetException {
+    private static final String MESSAGE = "Resource was modified concurrently, please retry";
+    private static final String PROPERTY_NAME = "operation";
+
+    public ConcurrentUpdateException(String operation) {
+        super(
+                ConcurrentUpdateException.class,
+                MESSAGE,
+                Map.of(PROPERTY_NAME, operation),
+                RestResponse.Status.CONFLICT
+        );
+    }
+}
@@ -1,15 +1,20 @@
 package com.ebudget.core.exceptions;
 
 import com.ebudget.core.response.ExceptionDTO;
+import com.ebudget.core.response.ExceptionTemplate;
 import lombok.Getter;
 import org.jboss.resteasy.reactive.RestResponse;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Base of the exceptions that end up as an error response. They are part of normal control flow (a 404 for
+ * every unknown id), so they are created without a stack trace and their response head is shared per message.
+ */
 public class EBudgetException extends RuntimeException {
-    private final String exception;
-    private final String message;
+    private final transient ExceptionTemplate template;
     private final transient Map<String, Object> details;
     @Getter
     private final RestResponse.Status status;
@@ -18,26 +23,29 @@ public class EBudgetException extends RuntimeException {
     private static final String VALUE = "value";
 
     public EBudgetException(Class<?> exception, String message, Map<String, Object> details, RestResponse.Status status) {
-        this.exception = exception.getSimpleName();
-        this.message = message;
+        super(message, null, false, false);
+        this.template = ExceptionTemplate.of(exception, message);
         this.details = details;
         this.status = status;
     }
 
     public ExceptionDTO get() {
         return new ExceptionDTO(
-                exception,
-                message,
+                template,
                 buildDetails(details)
         );
     }
 
     private List<Map<String, String>> buildDetails(Map<String, Object> details) {
-        return details.entrySet().stream()
-                .map(detail -> Map.of(
-                        KEY, detail.getKey(),
-                        VALUE, detail.getValue().toString()
-                ))
-                .toList();
+        List<Map<String, String>> built = new ArrayList<>(details.size());
+
+        for(Map.Entry<String, Object> detail : details.entrySet()) {
+            built.add(Map.of(
+                    KEY, detail.getKey(),
+                    VALUE, detail.getValue().toString()
+            ));
+        }
+
+        return built;
     }
 }
@@ -7,11 +7,17 @@ import java.util.UUID;
 
 public class EntityNotFoundException extends EBudgetException {
     private static final String PROPERTY_NAME = "entityId";
+    private static final ClassValue<String> MESSAGES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> entity) {
+            return entity.getSimpleName() + " not found";
+        }
+    };
 
     public EntityNotFoundException(Class<?> entity, UUID entityId) {
         super(
                 EntityNotFoundException.class,
-                entity.getSimpleName() + " not found",
+                MESSAGES.get(entity),
                 Map.of(PROPERTY_NAME, entityId),
                 RestResponse.Status.NOT_FOUND
         );
@@ -0,0 +1,19 @@
+package com.ebudget.core.exceptions;
+
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.util.Map;
+
+public class ServiceBusyException extends EBudgetException {
+    private static final String MESSAGE = "Service is busy, please retry";
+    private static final String PROPERTY_NAME = "operation";
+
+    public ServiceBusyException(String operation) {
+        super(
+                ServiceBusyException.class,
+                MESSAGE,
+                Map.of(PROPERTY_NAME, operation),
+                RestResponse.Status.SERVICE_UNAVAILABLE
+        );
+    }
+}
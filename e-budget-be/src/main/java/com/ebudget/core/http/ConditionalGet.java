@@ -0,0 +1,98 @@
+package com.ebudget.core.http;
+
+import com.ebudget.sync.repository.SyncRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import lombok.RequiredArgsConstructor;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Answers GET requests whose {@code If-None-Match} still holds with 304 Not Modified, before the response is read.
+ * Single entities are tagged by {@link EntityTags}. Collections are tagged with the change watermark taken before
+ * they were read, and the tag holds for as long as no row of the tables they are built from is written or deleted.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+public class ConditionalGet {
+    private static final String WATERMARK_PREFIX = "w";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String QUOTE = "\"";
+
+    private final SyncRepository syncRepository;
+
+    /**
+     * Responds with {@code body} tagged with {@code tag}, or with 304 when the client holds that tag. A {@code null}
+     * tag means the entity does not exist, which {@code body} reports.
+     */
+    public <T> RestResponse<T> entity(HttpHeaders headers, String tag, Supplier<T> body) {
+        if(tag != null && clientTags(headers).contains(tag)) {
+            return RestResponse.ResponseBuilder.<T>notModified(new EntityTag(tag)).build();
+        }
+
+        RestResponse.ResponseBuilder<T> response = RestResponse.ResponseBuilder.ok(body.get());
+
+        return tag == null ? response.build() : response.tag(new EntityTag(tag)).build();
+    }
+
+    /**
+     * Responds with {@code body} tagged with the current watermark, or with 304 when a tag held by the client is
+     * still valid for {@code tables}.
+     */
+    public <T> RestResponse<T> collection(HttpHeaders headers, List<String> tables, Supplier<T> body) {
+        return collection(headers, tables, body, RestResponse.ResponseBuilder::ok);
+    }
+
+    /**
+     * As {@link #collection(HttpHeaders, List, Supplier)}, building the response from what {@code read} returns.
+     */
+    public <S, T> RestResponse<T> collection(HttpHeaders headers, List<String> tables, Supplier<S> read,
+                                             Function<S, RestResponse.ResponseBuilder<T>> response) {
+        for(String tag : clientTags(headers)) {
+            Long watermark = watermark(tag);
+
+            if(watermark != null && syncRepository.unchangedSince(tables, watermark)) {
+                return RestResponse.ResponseBuilder.<T>notModified(new EntityTag(tag)).build();
+            }
+        }
+
+        String tag = WATERMARK_PREFIX + syncRepository.watermark();
+
+        return response.apply(read.get())
+                .tag(new EntityTag(tag))
+                .build();
+    }
+
+    private List<String> clientTags(HttpHeaders headers) {
+        String ifNoneMatch = headers.getHeaderString(HttpHeaders.IF_NONE_MATCH);
+
+        if(ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return List.of();
+        }
+
+        // If-None-Match compares weakly, so W/"x" matches "x"
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::strip)
+                .map(tag -> tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag)
+                .filter(tag -> tag.length() > 1 && tag.startsWith(QUOTE) && tag.endsWith(QUOTE))
+                .map(tag -> tag.substring(1, tag.length() - 1))
+                .toList();
+    }
+
+    private Long watermark(String tag) {
+        if(!tag.startsWith(WATERMARK_PREFIX)) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(tag.substring(WATERMARK_PREFIX.length()));
+        } catch(NumberFormatException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ebudget.core.http;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the entity tag of a single entity response from the ids of the transactions that last wrote the rows it is
+ * built from. Every write stamps a new id, so the tag changes whenever any of those rows does.
+ */
+public final class EntityTags {
+    private static final String SEPARATOR = "-";
+    private static final String NONE = "0";
+
+    private EntityTags() {
+    }
+
+    public static String of(Object[] changedXids) {
+        return Arrays.stream(changedXids)
+                .map(changedXid -> Objects.toString(changedXid, NONE))
+                .collect(Collectors.joining(SEPARATOR));
+    }
+}
@@ -0,0 +1,19 @@
+package com.ebudget.core.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns a time-ordered version 7 UUID to the annotated identifier when the entity is persisted.
+ * The identifier is known before the insert is executed, so inserts can be deferred to the flush at
+ * commit and batched, and new rows land at the right-hand edge of the primary key index.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,69 @@
+package com.ebudget.core.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RFC 9562 version 7 UUIDs: 48 bits of Unix epoch milliseconds followed by random bits. The 12 bit
+ * {@code rand_a} field is used as a counter within the same millisecond, so identifiers generated by
+ * this instance are strictly increasing even when the clock does not move or steps back.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long COUNTER_MASK = 0xFFFL;
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static long lastTimestamp;
+    private static long counter;
+
+    public static UUID next() {
+        long timestamp;
+        long sequence;
+
+        LOCK.lock();
+        try {
+            timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+
+            if(timestamp == lastTimestamp) {
+                counter = (counter + 1) & COUNTER_MASK;
+
+                // Counter overflowed within one millisecond: borrow the next one
+                if(counter == 0) {
+                    timestamp++;
+                }
+            } else {
+                counter = RANDOM.nextInt(0x800);
+            }
+
+            lastTimestamp = timestamp;
+            sequence = counter;
+        } finally {
+            LOCK.unlock();
+        }
+
+        long mostSignificantBits = (timestamp << 16) | VERSION | sequence;
+        long leastSignificantBits = VARIANT | (RANDOM.nextLong() & RAND_B_MASK);
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ebudget.core.metrics;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Times every call to the annotated bean's methods into {@code ebudget.calls}, tagged with the operation
+ * and the exception it ended with, if any. Placed on services and repositories so a slow request can be
+ * traced to the service method and the queries it ran.
+ */
+@Inherited
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Measured {
+}
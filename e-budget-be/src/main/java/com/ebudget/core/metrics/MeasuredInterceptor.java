@@ -0,0 +1,49 @@
+package com.ebudget.core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.arc.Subclass;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@Interceptor
+@Measured
+// Runs outside the retry (PLATFORM_BEFORE + 100) and transaction interceptors so timings include retries and commit
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 50)
+public class MeasuredInterceptor {
+    private static final String CALLS = "ebudget.calls";
+    private static final String OPERATION = "operation";
+    private static final String EXCEPTION = "exception";
+    private static final String NONE = "none";
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @AroundInvoke
+    Object measure(InvocationContext context) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NONE;
+
+        try {
+            return context.proceed();
+        } catch(Exception thrown) {
+            exception = thrown.getClass().getSimpleName();
+            throw thrown;
+        } finally {
+            sample.stop(meterRegistry.timer(CALLS, OPERATION, operation(context), EXCEPTION, exception));
+        }
+    }
+
+    // Methods a bean inherits, such as the Panache repository defaults, are named after the bean rather than
+    // the interface that declares them, so findById shows up once per repository
+    private static String operation(InvocationContext context) {
+        Class<?> bean = context.getTarget() instanceof Subclass
+                ? context.getTarget().getClass().getSuperclass()
+                : context.getMethod().getDeclaringClass();
+
+        return bean.getSimpleName() + "." + context.getMethod().getName();
+    }
+}
@@ -0,0 +1,57 @@
+package com.ebudget.core.reactive;
+
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Shared pieces of the reactive read path, which serves {@code GET} requests under {@code /reactive}
+ * from the event loop through the Vert.x PostgreSQL client. The path and its connection pool only exist
+ * when the application is built with {@value #ENABLED} set to {@code true}.
+ */
+public final class ReactiveReads {
+    public static final String ENABLED = "e-budget.reactive.enabled";
+
+    private ReactiveReads() {
+    }
+
+    /**
+     * Selects {@code columns} of the table aliased {@code alias} labelled {@code <alias>_<column>}, so rows
+     * joining several tables can be read column by label.
+     */
+    public static String columns(String alias, List<String> columns) {
+        return columns.stream()
+                .map(column -> alias + "." + column + " as " + alias + "_" + column)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Reads a {@code TIMESTAMPTZ} column as the JDBC driver does for the entities, in the JVM time zone.
+     */
+    public static LocalDateTime localDateTime(Row row, String column) {
+        OffsetDateTime value = row.getOffsetDateTime(column);
+
+        return value == null ? null : value.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    public static <T> List<T> toList(RowSet<Row> rows, Function<Row, T> mapper) {
+        List<T> items = new ArrayList<>(rows.size());
+
+        for(Row row : rows) {
+            items.add(mapper.apply(row));
+        }
+
+        return items;
+    }
+
+    public static <T> T first(RowSet<Row> rows, Function<Row, T> mapper) {
+        return rows.size() == 0 ? null : mapper.apply(rows.iterator().next());
+    }
+}
@@ -1,5 +1,6 @@
 package com.ebudget.core.response;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -12,10 +13,24 @@ public class ExceptionDTO {
     private final String exception;
     private final String message;
     private final List<Map<String, String>> details;
+    @Getter(AccessLevel.NONE)
+    private final transient ExceptionTemplate template;
 
     public ExceptionDTO(String exception, String message, List<Map<String, String>> details) {
         this.exception = exception;
         this.message = message;
         this.details = details;
+        this.template = null;
     }
-}
\ No newline at end of file
+
+    public ExceptionDTO(ExceptionTemplate template, List<Map<String, String>> details) {
+        this.exception = template.getException();
+        this.message = template.getMessage();
+        this.details = details;
+        this.template = template;
+    }
+
+    ExceptionTemplate template() {
+        return template != null ? template : new ExceptionTemplate(exception, message);
+    }
+}
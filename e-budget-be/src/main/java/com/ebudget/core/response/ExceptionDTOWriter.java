@@ -0,0 +1,105 @@
+package com.ebudget.core.response;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes {@link ExceptionDTO} bodies without going through Jackson: the pre-encoded head of its
+ * {@link ExceptionTemplate} followed by the details. The output is the JSON Jackson would produce.
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class ExceptionDTOWriter implements MessageBodyWriter<ExceptionDTO> {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return ExceptionDTO.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(ExceptionDTO exceptionDTO, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        entityStream.write(exceptionDTO.template().head());
+        entityStream.write(encodeDetails(exceptionDTO.getDetails()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String encodeDetails(List<Map<String, String>> details) {
+        if(details == null) {
+            return "null}";
+        }
+
+        StringBuilder json = new StringBuilder(details.size() * 64 + 2).append('[');
+
+        for(int index = 0; index < details.size(); index++) {
+            if(index > 0) {
+                json.append(',');
+            }
+
+            appendObject(json, details.get(index));
+        }
+
+        return json.append("]}").toString();
+    }
+
+    private static void appendObject(StringBuilder json, Map<String, String> detail) {
+        json.append('{');
+        boolean first = true;
+
+        for(Map.Entry<String, String> entry : detail.entrySet()) {
+            if(!first) {
+                json.append(',');
+            }
+
+            appendString(json, entry.getKey());
+            json.append(':');
+            appendString(json, entry.getValue());
+            first = false;
+        }
+
+        json.append('}');
+    }
+
+    static void appendString(StringBuilder json, String value) {
+        if(value == null) {
+            json.append("null");
+            return;
+        }
+
+        json.append('"');
+
+        for(int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+
+            switch(character) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                case '\b' -> json.append("\\b");
+                case '\f' -> json.append("\\f");
+                default -> {
+                    if(character < 0x20) {
+                        json.append("\\u00").append(HEX[character >> 4]).append(HEX[character & 0xF]);
+                    } else {
+                        json.append(character);
+                    }
+                }
+            }
+        }
+
+        json.append('"');
+    }
+}
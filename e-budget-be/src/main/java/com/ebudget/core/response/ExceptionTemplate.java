@@ -0,0 +1,58 @@
+package com.ebudget.core.response;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The part of an {@link ExceptionDTO} body that does not change between occurrences: the exception name and
+ * message, encoded once into the JSON that precedes the details.
+ */
+@Getter
+public final class ExceptionTemplate {
+    private static final ClassValue<Map<String, ExceptionTemplate>> TEMPLATES = new ClassValue<>() {
+        @Override
+        protected Map<String, ExceptionTemplate> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String exception;
+    private final String message;
+    @Getter(AccessLevel.NONE)
+    private final byte[] head;
+
+    ExceptionTemplate(String exception, String message) {
+        this.exception = exception;
+        this.message = message;
+        this.head = encodeHead(exception, message);
+    }
+
+    public static ExceptionTemplate of(Class<?> exception, String message) {
+        Map<String, ExceptionTemplate> templates = TEMPLATES.get(exception);
+        ExceptionTemplate template = templates.get(message);
+
+        if(template != null) {
+            return template;
+        }
+
+        return templates.computeIfAbsent(message, key -> new ExceptionTemplate(exception.getSimpleName(), key));
+    }
+
+    byte[] head() {
+        return head;
+    }
+
+    private static byte[] encodeHead(String exception, String message) {
+        StringBuilder json = new StringBuilder("{\"exception\":");
+        ExceptionDTOWriter.appendString(json, exception);
+        json.append(",\"message\":");
+        ExceptionDTOWriter.appendString(json, message);
+        json.append(",\"details\":");
+
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ebudget.expense.config;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "e-budget.expense.partition")
+public interface ExpensePartitionConfig {
+    /**
+     * Period between two checks for missing expense partitions.
+     */
+    @WithDefault("24h")
+    String interval();
+
+    /**
+     * How many years after the current one get their partition ahead of time.
+     */
+    @WithDefault("1")
+    int yearsAhead();
+}
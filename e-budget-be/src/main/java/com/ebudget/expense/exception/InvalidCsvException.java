@@ -0,0 +1,19 @@
+package com.ebudget.expense.exception;
+
+import com.ebudget.core.exceptions.EBudgetException;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.util.Map;
+
+public class InvalidCsvException extends EBudgetException {
+    private static final String MESSAGE = "Provided CSV is not valid";
+
+    public InvalidCsvException(Map<String, Object> details) {
+        super(
+                InvalidCsvException.class,
+                MESSAGE,
+                details,
+                RestResponse.Status.BAD_REQUEST
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.ebudget.expense.exception;
+
+import com.ebudget.core.exceptions.EBudgetException;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.util.Map;
+
+public class InvalidCursorException extends EBudgetException {
+    private static final String MESSAGE = "Provided cursor is not valid";
+
+    public InvalidCursorException(Map<String, Object> details) {
+        super(
+                InvalidCursorException.class,
+                MESSAGE,
+                details,
+                RestResponse.Status.BAD_REQUEST
+        );
+    }
+}
@@ -2,26 +2,28 @@ package com.ebudget.expense.model;
 
 import com.ebudget.account.model.Account;
 import com.ebudget.category.model.Category;
+import com.ebudget.core.id.UuidV7;
 import com.ebudget.expense.resource.request.UpdateExpenseDTO;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.PartitionKey;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
@@ -33,7 +35,7 @@ import java.util.UUID;
 public class Expense {
     @Id
     @Column(name = "expense_id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID expenseId;
     @Column(name = "expense_description")
     private String expenseDescription;
@@ -48,11 +50,14 @@ public class Expense {
     @ManyToOne
     @JoinColumn(name = "account_id")
     private Account account;
+    @PartitionKey
     private LocalDate date;
-    @CreationTimestamp
+    @Version
+    private Long version;
+    @Column(name = "changed_xid", insertable = false, updatable = false)
+    private Long changedXid;
     @Column(name = "created_at")
     private LocalDateTime createdAt;
-    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
@@ -69,4 +74,15 @@ public class Expense {
     public void bindAccount(Account account) {
         setAccount(account);
     }
+
+    @PrePersist
+    void onPersist() {
+        setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        setUpdatedAt(getCreatedAt());
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        setUpdatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
 }
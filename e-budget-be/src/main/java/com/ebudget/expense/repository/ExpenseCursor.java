@@ -0,0 +1,47 @@
+package com.ebudget.expense.repository;
+
+import com.ebudget.expense.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keyset position on ({@code date}, {@code expense_id}) used to resume an expense listing
+ * after the last row returned to the client.
+ */
+public record ExpenseCursor(LocalDate date, UUID expenseId) {
+    private static final String SEPARATOR = "|";
+    private static final String CURSOR = "cursor";
+
+    public static ExpenseCursor of(ExpenseProjection expense) {
+        return new ExpenseCursor(expense.date(), expense.expenseId());
+    }
+
+    public static ExpenseCursor decode(String cursor) {
+        if(cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+
+            return new ExpenseCursor(
+                    LocalDate.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1))
+            );
+        } catch(IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException exception) {
+            throw new InvalidCursorException(Map.of(CURSOR, cursor));
+        }
+    }
+
+    public String encode() {
+        String raw = date + SEPARATOR + expenseId;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,29 @@
+package com.ebudget.expense.repository;
+
+import com.ebudget.account.repository.AccountProjection;
+import com.ebudget.category.repository.CategoryProjection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Expense columns selected by read queries, with its account and category.
+ */
+public record ExpenseProjection(UUID expenseId, String expenseDescription, Integer expenseMonth, Integer expenseYear,
+                                BigDecimal amount, CategoryProjection category, AccountProjection account, LocalDate date,
+                                LocalDateTime createdAt, LocalDateTime updatedAt) {
+    /**
+     * Takes the category columns of the optional category join one by one, so an uncategorized expense gets no
+     * category instead of one made of nulls.
+     */
+    public ExpenseProjection(UUID expenseId, String expenseDescription, Integer expenseMonth, Integer expenseYear,
+                             BigDecimal amount, UUID categoryId, String categoryName, LocalDateTime categoryCreatedAt,
+                             LocalDateTime categoryUpdatedAt, AccountProjection account, LocalDate date,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(expenseId, expenseDescription, expenseMonth, expenseYear, amount,
+                categoryId == null ? null : new CategoryProjection(categoryId, categoryName, categoryCreatedAt, categoryUpdatedAt),
+                account, date, createdAt, updatedAt);
+    }
+}
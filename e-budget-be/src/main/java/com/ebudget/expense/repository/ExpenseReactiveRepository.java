@@ -0,0 +1,96 @@
+package com.ebudget.expense.repository;
+
+import com.ebudget.account.repository.AccountReactiveRepository;
+import com.ebudget.category.repository.CategoryReactiveRepository;
+import com.ebudget.core.reactive.ReactiveReads;
+import com.ebudget.expense.resource.request.ExpenseFilterDTO;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of the {@link ExpenseRepository} reads, with the same filters and keyset order.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class ExpenseReactiveRepository {
+    private static final String SELECT = "select "
+            + ReactiveReads.columns("e", List.of("expense_id", "expense_description", "expense_month", "expense_year", "amount", "date",
+                    "created_at", "updated_at")) + ", "
+            + CategoryReactiveRepository.columns("c") + ", "
+            + AccountReactiveRepository.columns("a")
+            + " from expense e join account a on a.account_id = e.account_id left join category c on c.category_id = e.category_id";
+    private static final String KEYSET_ORDER = " order by e.date desc, e.expense_id desc";
+
+    private final Pool pool;
+
+    public Uni<ExpenseProjection> findById(UUID expenseId) {
+        return pool.preparedQuery(SELECT + " where e.expense_id = $1")
+                .execute(Tuple.of(expenseId))
+                .map(rows -> ReactiveReads.first(rows, ExpenseReactiveRepository::toProjection));
+    }
+
+    public Uni<List<ExpenseProjection>> findPage(ExpenseFilterDTO filter, ExpenseCursor cursor, int size) {
+        Tuple parameters = Tuple.tuple();
+        StringBuilder query = new StringBuilder(SELECT);
+
+        appendPredicate(query, parameters, "e.account_id", filter.accountId());
+        appendPredicate(query, parameters, "e.category_id", filter.categoryId());
+        appendPredicate(query, parameters, "e.expense_month", filter.month());
+        appendPredicate(query, parameters, "e.expense_year", filter.year());
+
+        if(filter.from() != null) {
+            appendPredicate(query, "e.date >= $" + parameters.addLocalDate(filter.from()).size());
+        }
+
+        if(filter.to() != null) {
+            appendPredicate(query, "e.date <= $" + parameters.addLocalDate(filter.to()).size());
+        }
+
+        if(cursor != null) {
+            int date = parameters.addLocalDate(cursor.date()).size();
+            int expenseId = parameters.addUUID(cursor.expenseId()).size();
+
+            appendPredicate(query, "(e.date < $%1$d or (e.date = $%1$d and e.expense_id < $%2$d))".formatted(date, expenseId));
+        }
+
+        query.append(KEYSET_ORDER).append(" limit $").append(parameters.addInteger(size).size());
+
+        return pool.preparedQuery(query.toString())
+                .execute(parameters)
+                .map(rows -> ReactiveReads.toList(rows, ExpenseReactiveRepository::toProjection));
+    }
+
+    private static ExpenseProjection toProjection(Row row) {
+        return new ExpenseProjection(
+                row.getUUID("e_expense_id"),
+                row.getString("e_expense_description"),
+                row.getInteger("e_expense_month"),
+                row.getInteger("e_expense_year"),
+                row.getBigDecimal("e_amount"),
+                CategoryReactiveRepository.toProjection(row, "c"),
+                AccountReactiveRepository.toProjection(row, "a"),
+                row.getLocalDate("e_date"),
+                ReactiveReads.localDateTime(row, "e_created_at"),
+                ReactiveReads.localDateTime(row, "e_updated_at")
+        );
+    }
+
+    private void appendPredicate(StringBuilder query, Tuple parameters, String column, Object value) {
+        if(value != null) {
+            appendPredicate(query, column + " = $" + parameters.addValue(value).size());
+        }
+    }
+
+    private void appendPredicate(StringBuilder query, String predicate) {
+        query.append(query.indexOf(" where ") < 0 ? " where " : " and ").append(predicate);
+    }
+}
@@ -1,11 +1,136 @@
 package com.ebudget.expense.repository;
 
+import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.core.http.EntityTags;
+import com.ebudget.core.metrics.Measured;
 import com.ebudget.expense.model.Expense;
+import com.ebudget.expense.resource.request.ExpenseFilterDTO;
+import com.ebudget.sync.repository.SyncWindow;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.panache.common.Parameters;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+/**
+ * The {@code expense} table is range-partitioned by year of {@code date}, with a default partition for years without
+ * their own. Filters on {@code date}, including the keyset cursor, let PostgreSQL skip the partitions of other years.
+ */
 @ApplicationScoped
+@Measured
 public class ExpenseRepository implements PanacheRepositoryBase<Expense, UUID> {
+    private static final String SELECT = "from Expense e join fetch e.account left join fetch e.category";
+    // The category columns are passed one by one since the category join is optional
+    private static final String SELECT_PROJECTED = "select new " + ExpenseProjection.class.getName()
+            + "(e.expenseId, e.expenseDescription, e.expenseMonth, e.expenseYear, e.amount, c.categoryId, c.categoryName, c.createdAt, c.updatedAt, "
+            + AccountRepository.projection("a") + ", e.date, e.createdAt, e.updatedAt)"
+            + " from Expense e join e.account a left join e.category c";
+    private static final String KEYSET_ORDER = " order by e.date desc, e.expenseId desc";
+    private static final String KEYSET_PREDICATE = "(e.date < :cursorDate or (e.date = :cursorDate and e.expenseId < :cursorId))";
+    private static final int STREAM_FETCH_SIZE = 500;
+    // The years of rows sitting in the default partition, the current one and the ones ahead
+    private static final String CREATE_PARTITIONS = """
+            SELECT count(*) FILTER (WHERE create_expense_partition(partition_year))
+            FROM (SELECT DISTINCT CAST(EXTRACT(YEAR FROM date) AS INT) AS partition_year FROM expense_default
+                  UNION
+                  SELECT CAST(EXTRACT(YEAR FROM now()) AS INT) + years_ahead
+                  FROM generate_series(0, CAST(:yearsAhead AS INT)) years_ahead) partition_years""";
+    private static final String TAG = "select e.changedXid, a.changedXid, c.changedXid from Expense e join e.account a left join e.category c where e.expenseId = :expenseId";
+
+    public List<ExpenseProjection> findPage(ExpenseFilterDTO filter, ExpenseCursor cursor, int size) {
+        Parameters parameters = new Parameters();
+        StringBuilder query = buildFilter(filter, parameters);
+
+        if(cursor != null) {
+            appendPredicate(query, KEYSET_PREDICATE);
+            parameters.and("cursorDate", cursor.date()).and("cursorId", cursor.expenseId());
+        }
+
+        TypedQuery<ExpenseProjection> page = getEntityManager().createQuery(SELECT_PROJECTED + query + KEYSET_ORDER, ExpenseProjection.class)
+                .setMaxResults(size);
+        parameters.map().forEach(page::setParameter);
+
+        return page.getResultList();
+    }
+
+    public String findTag(UUID expenseId) {
+        return getEntityManager().createQuery(TAG, Object[].class)
+                .setParameter("expenseId", expenseId)
+                .getResultStream()
+                .findFirst()
+                .map(EntityTags::of)
+                .orElse(null);
+    }
+
+    public List<ExpenseProjection> listChangedProjected(SyncWindow window) {
+        return window.bind(getEntityManager().createQuery(SELECT_PROJECTED + " where " + SyncWindow.predicate("e"), ExpenseProjection.class))
+                .getResultList();
+    }
+
+    public Stream<Expense> streamByFilter(ExpenseFilterDTO filter) {
+        Parameters parameters = new Parameters();
+        StringBuilder query = buildFilter(filter, parameters);
+        EntityManager entityManager = getEntityManager();
+
+        return find(SELECT + query + KEYSET_ORDER, parameters)
+                .withHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream()
+                .peek(entityManager::detach);
+    }
+
+    /**
+     * Creates the missing partitions of the current year, the {@code yearsAhead} following ones and the years found
+     * in the default partition, and returns how many were created.
+     */
+    public int createPartitions(int yearsAhead) {
+        return ((Number) getEntityManager().createNativeQuery(CREATE_PARTITIONS, Long.class)
+                .setParameter("yearsAhead", yearsAhead)
+                .getSingleResult()).intValue();
+    }
+
+    private StringBuilder buildFilter(ExpenseFilterDTO filter, Parameters parameters) {
+        StringBuilder query = new StringBuilder();
+
+        if(filter.accountId() != null) {
+            appendPredicate(query, "e.account.accountId = :accountId");
+            parameters.and("accountId", filter.accountId());
+        }
+
+        if(filter.categoryId() != null) {
+            appendPredicate(query, "e.category.categoryId = :categoryId");
+            parameters.and("categoryId", filter.categoryId());
+        }
+
+        if(filter.month() != null) {
+            appendPredicate(query, "e.expenseMonth = :month");
+            parameters.and("month", filter.month());
+        }
+
+        if(filter.year() != null) {
+            appendPredicate(query, "e.expenseYear = :year");
+            parameters.and("year", filter.year());
+        }
+
+        if(filter.from() != null) {
+            appendPredicate(query, "e.date >= :from");
+            parameters.and("from", filter.from());
+        }
+
+        if(filter.to() != null) {
+            appendPredicate(query, "e.date <= :to");
+            parameters.and("to", filter.to());
+        }
+
+        return query;
+    }
+
+    private void appendPredicate(StringBuilder query, String predicate) {
+        query.append(query.isEmpty() ? " where " : " and ").append(predicate);
+    }
 }
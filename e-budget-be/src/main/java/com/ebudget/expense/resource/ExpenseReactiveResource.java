@@ -0,0 +1,57 @@
+package com.ebudget.expense.resource;
+
+import com.ebudget.core.reactive.ReactiveReads;
+import com.ebudget.expense.resource.request.ExpenseFilterDTO;
+import com.ebudget.expense.resource.response.ExpenseDTO;
+import com.ebudget.expense.service.interfaces.IExpenseReactiveService;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import lombok.RequiredArgsConstructor;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@Path("/reactive/expense")
+@RequiredArgsConstructor
+@Produces(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class ExpenseReactiveResource {
+    private final IExpenseReactiveService expenseReactiveService;
+
+    @GET
+    @Path("{expenseId}")
+    public Uni<RestResponse<ExpenseDTO>> getExpense(@PathParam("expenseId") UUID expenseId) {
+        return expenseReactiveService.getExpense(expenseId)
+                .map(expense -> RestResponse.status(RestResponse.Status.OK, expense));
+    }
+
+    @GET
+    public Uni<RestResponse<List<ExpenseDTO>>> getExpenses(@QueryParam("accountId") UUID accountId,
+                                                           @QueryParam("categoryId") UUID categoryId,
+                                                           @QueryParam("month") Integer month,
+                                                           @QueryParam("year") Integer year,
+                                                           @QueryParam("from") LocalDate from,
+                                                           @QueryParam("to") LocalDate to,
+                                                           @QueryParam("cursor") String cursor,
+                                                           @QueryParam("size") @DefaultValue("50") @Min(1) @Max(500) Integer size) {
+        ExpenseFilterDTO filter = new ExpenseFilterDTO(accountId, categoryId, month, year, from, to);
+
+        return expenseReactiveService.getExpenses(filter, cursor, size)
+                .map(expenses -> RestResponse.ResponseBuilder.ok(expenses.getExpenses())
+                        .header(ExpenseResource.NEXT_CURSOR_HEADER, expenses.getNextCursor())
+                        .build());
+    }
+}
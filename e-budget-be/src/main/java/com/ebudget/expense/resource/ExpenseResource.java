@@ -1,22 +1,45 @@
 package com.ebudget.expense.resource;
 
+import com.ebudget.core.concurrency.ConnectionBulkhead;
+import com.ebudget.core.concurrency.ConnectionPermits;
+import com.ebudget.core.exceptions.ServiceBusyException;
+import com.ebudget.core.http.ConditionalGet;
+import com.ebudget.expense.resource.request.ExpenseCsvParser;
+import com.ebudget.expense.resource.request.ExpenseFilterDTO;
 import com.ebudget.expense.resource.request.NewExpenseDTO;
 import com.ebudget.expense.resource.request.UpdateExpenseDTO;
+import com.ebudget.expense.resource.response.ExpenseBatchDTO;
 import com.ebudget.expense.resource.response.ExpenseDTO;
 import com.ebudget.expense.service.interfaces.IExpenseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
 import lombok.RequiredArgsConstructor;
 import org.jboss.resteasy.reactive.RestResponse;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,8 +48,19 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
+@ConnectionBulkhead
+@RunOnVirtualThread
 public class ExpenseResource {
     private final IExpenseService expenseService;
+    private final ObjectMapper objectMapper;
+    private final ConditionalGet conditionalGet;
+    private final ConnectionPermits connectionPermits;
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int LINE_SEPARATOR = '\n';
+    private static final String TEXT_CSV = "text/csv";
+    private static final String STREAM_OPERATION = "ExpenseResource.streamExpenses";
+    private static final List<String> TABLES = List.of("expense", "account", "category");
 
     @POST
     public RestResponse<ExpenseDTO> addExpense(@Valid NewExpenseDTO newExpenseDTO) {
@@ -35,6 +69,23 @@ public class ExpenseResource {
         return RestResponse.status(RestResponse.Status.CREATED, expense);
     }
 
+    @POST
+    @Path("batch")
+    public RestResponse<ExpenseBatchDTO> addExpenses(@NotNull List<NewExpenseDTO> newExpenseDTOs) {
+        ExpenseBatchDTO batch = expenseService.addExpenses(newExpenseDTOs);
+
+        return RestResponse.status(RestResponse.Status.OK, batch);
+    }
+
+    @POST
+    @Path("batch")
+    @Consumes(TEXT_CSV)
+    public RestResponse<ExpenseBatchDTO> addExpensesFromCsv(String csv) {
+        ExpenseBatchDTO batch = expenseService.addExpenses(ExpenseCsvParser.parse(csv));
+
+        return RestResponse.status(RestResponse.Status.OK, batch);
+    }
+
     @PUT
     @Path("{expenseId}")
     public RestResponse<Void> updateExpense(UUID expenseId, @Valid UpdateExpenseDTO updateExpenseDTO) {
@@ -45,17 +96,50 @@ public class ExpenseResource {
 
     @GET
     @Path("{expenseId}")
-    public RestResponse<ExpenseDTO> getExpense(UUID expenseId) {
-        ExpenseDTO expense = expenseService.getExpense(expenseId);
+    public RestResponse<ExpenseDTO> getExpense(UUID expenseId, HttpHeaders headers) {
+        return conditionalGet.entity(headers, expenseService.getExpenseTag(expenseId), () -> expenseService.getExpense(expenseId));
+    }
+
+    @GET
+    public RestResponse<List<ExpenseDTO>> getExpenses(@QueryParam("accountId") UUID accountId,
+                                                      @QueryParam("categoryId") UUID categoryId,
+                                                      @QueryParam("month") Integer month,
+                                                      @QueryParam("year") Integer year,
+                                                      @QueryParam("from") LocalDate from,
+                                                      @QueryParam("to") LocalDate to,
+                                                      @QueryParam("cursor") String cursor,
+                                                      @QueryParam("size") @DefaultValue("50") @Min(1) @Max(500) Integer size,
+                                                      HttpHeaders headers) {
+        ExpenseFilterDTO filter = new ExpenseFilterDTO(accountId, categoryId, month, year, from, to);
 
-        return RestResponse.status(RestResponse.Status.OK, expense);
+        return conditionalGet.collection(headers, TABLES, () -> expenseService.getExpenses(filter, cursor, size),
+                expenses -> RestResponse.ResponseBuilder.ok(expenses.getExpenses())
+                        .header(NEXT_CURSOR_HEADER, expenses.getNextCursor()));
     }
 
     @GET
-    public RestResponse<List<ExpenseDTO>> getExpenses() {
-        List<ExpenseDTO> expenses = expenseService.getExpenses();
+    @Path("stream")
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    public StreamingOutput streamExpenses(@QueryParam("accountId") UUID accountId,
+                                          @QueryParam("categoryId") UUID categoryId,
+                                          @QueryParam("month") Integer month,
+                                          @QueryParam("year") Integer year,
+                                          @QueryParam("from") LocalDate from,
+                                          @QueryParam("to") LocalDate to) {
+        ExpenseFilterDTO filter = new ExpenseFilterDTO(accountId, categoryId, month, year, from, to);
+        ObjectWriter writer = objectMapper.writerFor(ExpenseDTO.class);
+
+        // The body is written after this method has returned and released its bulkhead permit, and keeps a
+        // connection until the last line, so the stream takes a permit of its own for as long as it runs
+        return output -> {
+            acquirePermit();
 
-        return RestResponse.status(RestResponse.Status.OK, expenses);
+            try {
+                expenseService.streamExpenses(filter, expense -> writeLine(writer, output, expense));
+            } finally {
+                connectionPermits.release();
+            }
+        };
     }
 
     @DELETE
@@ -65,4 +149,24 @@ public class ExpenseResource {
 
         return RestResponse.status(RestResponse.Status.OK);
     }
+
+    private void acquirePermit() throws InterruptedIOException {
+        try {
+            if(!connectionPermits.acquire()) {
+                throw new ServiceBusyException(STREAM_OPERATION);
+            }
+        } catch(InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    private void writeLine(ObjectWriter writer, OutputStream output, ExpenseDTO expense) {
+        try {
+            output.write(writer.writeValueAsBytes(expense));
+            output.write(LINE_SEPARATOR);
+        } catch(IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package com.ebudget.expense.resource.request;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows read from an expense CSV upload, in file order. A row with a cell that could not be parsed is
+ * {@code null} in {@code expenses}, and its errors are in {@code rejected} under its 1-based row number.
+ */
+public record ExpenseCsv(List<NewExpenseDTO> expenses, Map<Integer, List<Map<String, String>>> rejected) {
+}
@@ -0,0 +1,168 @@
+package com.ebudget.expense.resource.request;
+
+import com.ebudget.expense.exception.InvalidCsvException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Reads an expense CSV upload into {@link NewExpenseDTO} rows. The first line is a header naming
+ * the {@link NewExpenseDTO} components; {@code categoryId} is the only optional column.
+ * Empty cells become {@code null} and are left to bean validation. A cell that cannot be parsed
+ * rejects its row only; a malformed header or an unterminated quote rejects the whole upload.
+ */
+public final class ExpenseCsvParser {
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+    private static final String EXPENSE_DESCRIPTION = "expenseDescription";
+    private static final String EXPENSE_MONTH = "expenseMonth";
+    private static final String EXPENSE_YEAR = "expenseYear";
+    private static final String AMOUNT = "amount";
+    private static final String CATEGORY_ID = "categoryId";
+    private static final String ACCOUNT_ID = "accountId";
+    private static final String DATE = "date";
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            EXPENSE_DESCRIPTION, EXPENSE_MONTH, EXPENSE_YEAR, AMOUNT, ACCOUNT_ID, DATE
+    );
+    private static final String LINE = "line";
+    private static final String COLUMN = "column";
+    private static final String KEY = "key";
+    private static final String VALUE = "value";
+    private static final String CANNOT_BE_PARSED = "cannot be parsed";
+
+    private ExpenseCsvParser() {
+    }
+
+    public static ExpenseCsv parse(String csv) {
+        List<String> lines = csv == null ? List.of() : csv.lines().toList();
+        List<NewExpenseDTO> expenses = new ArrayList<>();
+        Map<Integer, List<Map<String, String>>> rejected = new HashMap<>();
+        Map<String, Integer> header = null;
+
+        for(int index = 0; index < lines.size(); index++) {
+            String line = lines.get(index);
+
+            if(line.isBlank()) {
+                continue;
+            }
+
+            List<String> cells = split(line, index + 1);
+
+            if(header == null) {
+                header = readHeader(cells);
+                continue;
+            }
+
+            List<Map<String, String>> errors = new ArrayList<>();
+            NewExpenseDTO expense = readRow(header, cells, errors);
+
+            if(errors.isEmpty()) {
+                expenses.add(expense);
+            } else {
+                expenses.add(null);
+                rejected.put(expenses.size(), errors);
+            }
+        }
+
+        return new ExpenseCsv(expenses, rejected);
+    }
+
+    private static Map<String, Integer> readHeader(List<String> cells) {
+        Map<String, Integer> header = new HashMap<>();
+
+        for(int column = 0; column < cells.size(); column++) {
+            header.put(cells.get(column).strip(), column);
+        }
+
+        for(String required : REQUIRED_COLUMNS) {
+            if(!header.containsKey(required)) {
+                throw new InvalidCsvException(Map.of(LINE, 1, COLUMN, required));
+            }
+        }
+
+        return header;
+    }
+
+    private static NewExpenseDTO readRow(Map<String, Integer> header, List<String> cells, List<Map<String, String>> errors) {
+        return new NewExpenseDTO(
+                cell(header, cells, EXPENSE_DESCRIPTION),
+                read(header, cells, EXPENSE_MONTH, Integer::valueOf, errors),
+                read(header, cells, EXPENSE_YEAR, Integer::valueOf, errors),
+                read(header, cells, AMOUNT, BigDecimal::new, errors),
+                read(header, cells, CATEGORY_ID, UUID::fromString, errors),
+                read(header, cells, ACCOUNT_ID, UUID::fromString, errors),
+                read(header, cells, DATE, LocalDate::parse, errors)
+        );
+    }
+
+    private static <T> T read(Map<String, Integer> header, List<String> cells, String column, Function<String, T> reader,
+                              List<Map<String, String>> errors) {
+        String value = cell(header, cells, column);
+
+        if(value == null) {
+            return null;
+        }
+
+        try {
+            return reader.apply(value);
+        } catch(IllegalArgumentException | DateTimeParseException exception) {
+            errors.add(Map.of(KEY, column, VALUE, CANNOT_BE_PARSED));
+            return null;
+        }
+    }
+
+    private static String cell(Map<String, Integer> header, List<String> cells, String column) {
+        Integer index = header.get(column);
+
+        if(index == null || index >= cells.size()) {
+            return null;
+        }
+
+        String value = cells.get(index).strip();
+
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> split(String line, int lineNumber) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+
+        for(int index = 0; index < line.length(); index++) {
+            char character = line.charAt(index);
+
+            if(quoted) {
+                if(character != QUOTE) {
+                    cell.append(character);
+                } else if(index + 1 < line.length() && line.charAt(index + 1) == QUOTE) {
+                    cell.append(QUOTE);
+                    index++;
+                } else {
+                    quoted = false;
+                }
+            } else if(character == QUOTE) {
+                quoted = true;
+            } else if(character == DELIMITER) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(character);
+            }
+        }
+
+        if(quoted) {
+            throw new InvalidCsvException(Map.of(LINE, lineNumber));
+        }
+
+        cells.add(cell.toString());
+
+        return cells;
+    }
+}
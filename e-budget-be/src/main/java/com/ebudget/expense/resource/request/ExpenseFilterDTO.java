@@ -0,0 +1,14 @@
+package com.ebudget.expense.resource.request;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ExpenseFilterDTO(
+        UUID accountId,
+        UUID categoryId,
+        Integer month,
+        Integer year,
+        LocalDate from,
+        LocalDate to
+) {
+}
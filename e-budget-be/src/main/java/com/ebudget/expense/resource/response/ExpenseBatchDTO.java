@@ -0,0 +1,18 @@
+package com.ebudget.expense.resource.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(force = true)
+public class ExpenseBatchDTO {
+    private final Integer imported;
+    private final List<ExpenseBatchFailureDTO> failures;
+
+    public ExpenseBatchDTO(Integer imported, List<ExpenseBatchFailureDTO> failures) {
+        this.imported = imported;
+        this.failures = failures;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ebudget.expense.resource.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor(force = true)
+public class ExpenseBatchFailureDTO {
+    private final Integer row;
+    private final List<Map<String, String>> details;
+
+    public ExpenseBatchFailureDTO(Integer row, List<Map<String, String>> details) {
+        this.row = row;
+        this.details = details;
+    }
+}
@@ -3,6 +3,7 @@ package com.ebudget.expense.resource.response;
 import com.ebudget.account.resource.response.AccountDTO;
 import com.ebudget.category.resource.response.CategoryDTO;
 import com.ebudget.expense.model.Expense;
+import com.ebudget.expense.repository.ExpenseProjection;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -37,4 +38,17 @@ public class ExpenseDTO {
         this.createdAt = expense.getCreatedAt();
         this.updatedAt = expense.getUpdatedAt();
     }
+
+    public ExpenseDTO(ExpenseProjection expense) {
+        this.expenseId = expense.expenseId();
+        this.expenseDescription = expense.expenseDescription();
+        this.expenseMonth = expense.expenseMonth();
+        this.expenseYear = expense.expenseYear();
+        this.amount = expense.amount();
+        this.category = expense.category() != null ? new CategoryDTO(expense.category()) : null;
+        this.account = new AccountDTO(expense.account());
+        this.date = expense.date();
+        this.createdAt = expense.createdAt();
+        this.updatedAt = expense.updatedAt();
+    }
 }
@@ -0,0 +1,18 @@
+package com.ebudget.expense.resource.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(force = true)
+public class ExpensePageDTO {
+    private final List<ExpenseDTO> expenses;
+    private final String nextCursor;
+
+    public ExpensePageDTO(List<ExpenseDTO> expenses, String nextCursor) {
+        this.expenses = expenses;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ebudget.expense.scheduler;
+
+import com.ebudget.expense.service.interfaces.IExpensePartitionService;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+public class ExpensePartitionScheduler {
+    private final IExpensePartitionService expensePartitionService;
+
+    @Scheduled(
+            identity = "expense-partition",
+            every = "${e-budget.expense.partition.interval}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP
+    )
+    void createPartitions() {
+        expensePartitionService.createPartitions();
+    }
+}
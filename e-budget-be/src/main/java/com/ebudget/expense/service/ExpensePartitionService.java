@@ -0,0 +1,23 @@
+package com.ebudget.expense.service;
+
+import com.ebudget.core.metrics.Measured;
+import com.ebudget.expense.config.ExpensePartitionConfig;
+import com.ebudget.expense.repository.ExpenseRepository;
+import com.ebudget.expense.service.interfaces.IExpensePartitionService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@ApplicationScoped
+@Measured
+@RequiredArgsConstructor
+public class ExpensePartitionService implements IExpensePartitionService {
+    private final ExpenseRepository expenseRepository;
+    private final ExpensePartitionConfig expensePartitionConfig;
+
+    @Override
+    @Transactional
+    public int createPartitions() {
+        return expenseRepository.createPartitions(expensePartitionConfig.yearsAhead());
+    }
+}
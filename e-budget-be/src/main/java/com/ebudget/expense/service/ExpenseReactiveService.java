@@ -0,0 +1,45 @@
+package com.ebudget.expense.service;
+
+import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.reactive.ReactiveReads;
+import com.ebudget.expense.model.Expense;
+import com.ebudget.expense.repository.ExpenseCursor;
+import com.ebudget.expense.repository.ExpenseProjection;
+import com.ebudget.expense.repository.ExpenseReactiveRepository;
+import com.ebudget.expense.resource.request.ExpenseFilterDTO;
+import com.ebudget.expense.resource.response.ExpenseDTO;
+import com.ebudget.expense.resource.response.ExpensePageDTO;
+import com.ebudget.expense.service.interfaces.IExpenseReactiveService;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class ExpenseReactiveService implements IExpenseReactiveService {
+    private final ExpenseReactiveRepository expenseReactiveRepository;
+
+    @Override
+    public Uni<ExpenseDTO> getExpense(UUID expenseId) {
+        return expenseReactiveRepository.findById(expenseId)
+                .onItem().ifNull().failWith(() -> new EntityNotFoundException(Expense.class, expenseId))
+                .map(ExpenseDTO::new);
+    }
+
+    @Override
+    public Uni<ExpensePageDTO> getExpenses(ExpenseFilterDTO filter, String cursor, int size) {
+        // One extra row is fetched to know whether another page exists
+        return expenseReactiveRepository.findPage(filter, ExpenseCursor.decode(cursor), size + 1)
+                .map(expenses -> {
+                    List<ExpenseProjection> page = expenses.size() > size ? expenses.subList(0, size) : expenses;
+                    String nextCursor = expenses.size() > size ? ExpenseCursor.of(page.getLast()).encode() : null;
+
+                    return new ExpensePageDTO(page.stream().map(ExpenseDTO::new).toList(), nextCursor);
+                });
+    }
+}
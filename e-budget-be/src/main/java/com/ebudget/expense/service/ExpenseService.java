@@ -2,36 +2,74 @@ package com.ebudget.expense.service;
 
 import com.ebudget.account.model.Account;
 import com.ebudget.account.repository.AccountRepository;
-import com.ebudget.budget.model.Budget;
-import com.ebudget.budget.repository.BudgetRepository;
+import com.ebudget.budget.model.BudgetEvent;
+import com.ebudget.budget.model.BudgetKey;
+import com.ebudget.budget.repository.BudgetEventRepository;
+import com.ebudget.category.cache.CategoryCache;
 import com.ebudget.category.model.Category;
 import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.change.event.BudgetUsageChangedEvent;
+import com.ebudget.core.concurrency.OptimisticRetry;
 import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.metrics.Measured;
 import com.ebudget.expense.model.Expense;
+import com.ebudget.expense.repository.ExpenseCursor;
+import com.ebudget.expense.repository.ExpenseProjection;
 import com.ebudget.expense.repository.ExpenseRepository;
+import com.ebudget.expense.resource.request.ExpenseCsv;
+import com.ebudget.expense.resource.request.ExpenseFilterDTO;
 import com.ebudget.expense.resource.request.NewExpenseDTO;
 import com.ebudget.expense.resource.request.UpdateExpenseDTO;
+import com.ebudget.expense.resource.response.ExpenseBatchDTO;
+import com.ebudget.expense.resource.response.ExpenseBatchFailureDTO;
 import com.ebudget.expense.resource.response.ExpenseDTO;
+import com.ebudget.expense.resource.response.ExpensePageDTO;
 import com.ebudget.expense.service.interfaces.IExpenseService;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @ApplicationScoped
+@Measured
 @RequiredArgsConstructor
 public class ExpenseService implements IExpenseService {
     private final ExpenseRepository expenseRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
     private final AccountRepository accountRepository;
-    private final BudgetRepository budgetRepository;
+    private final BudgetEventRepository budgetEventRepository;
+    private final Validator validator;
+    private final Event<BudgetUsageChangedEvent> budgetUsageChanged;
+
+    private static final String KEY = "key";
+    private static final String VALUE = "value";
+    private static final String ROW = "row";
+    private static final String ACCOUNT_ID = "accountId";
+    private static final String MUST_NOT_BE_NULL = "must not be null";
+    private static final String ACCOUNT_NOT_FOUND = "account not found";
 
     @Override
+    @OptimisticRetry
     @Transactional
     public ExpenseDTO addExpense(NewExpenseDTO newExpenseDTO) {
-        Category category = categoryRepository.findById(newExpenseDTO.categoryId());
+        Category category = categoryCache.findById(newExpenseDTO.categoryId());
         Account account = accountRepository.findById(newExpenseDTO.accountId());
 
         if(account == null) {
@@ -48,18 +86,83 @@ public class ExpenseService implements IExpenseService {
                 .account(account)
                 .build();
 
+        processAccount(expense);
+
         if(category != null) {
             processBudget(expense);
         }
 
-        processAccount(expense);
-
-        expenseRepository.persistAndFlush(expense);
+        expenseRepository.persist(expense);
 
         return new ExpenseDTO(expense);
     }
 
     @Override
+    @OptimisticRetry
+    @Transactional
+    public ExpenseBatchDTO addExpenses(List<NewExpenseDTO> newExpenseDTOs) {
+        return importExpenses(newExpenseDTOs, Map.of());
+    }
+
+    @Override
+    @OptimisticRetry
+    @Transactional
+    public ExpenseBatchDTO addExpenses(ExpenseCsv expenseCsv) {
+        return importExpenses(expenseCsv.expenses(), expenseCsv.rejected());
+    }
+
+    private ExpenseBatchDTO importExpenses(List<NewExpenseDTO> newExpenseDTOs, Map<Integer, List<Map<String, String>>> rejected) {
+        Map<UUID, Account> accounts = accountRepository.findByIds(collectIds(newExpenseDTOs, NewExpenseDTO::accountId)).stream()
+                .collect(Collectors.toMap(Account::getAccountId, Function.identity()));
+        Map<UUID, Category> categories = categoryRepository.findByIds(collectIds(newExpenseDTOs, NewExpenseDTO::categoryId)).stream()
+                .collect(Collectors.toMap(Category::getCategoryId, Function.identity()));
+
+        List<Expense> expenses = new ArrayList<>();
+        List<ExpenseBatchFailureDTO> failures = new ArrayList<>();
+
+        for(int row = 0; row < newExpenseDTOs.size(); row++) {
+            NewExpenseDTO newExpenseDTO = newExpenseDTOs.get(row);
+            List<Map<String, String>> errors = rejected.containsKey(row + 1)
+                    ? rejected.get(row + 1)
+                    : validateRow(newExpenseDTO, accounts);
+
+            if(!errors.isEmpty()) {
+                failures.add(new ExpenseBatchFailureDTO(row + 1, errors));
+                continue;
+            }
+
+            expenses.add(Expense.builder()
+                    .expenseDescription(newExpenseDTO.expenseDescription())
+                    .expenseMonth(newExpenseDTO.expenseMonth())
+                    .expenseYear(newExpenseDTO.expenseYear())
+                    .amount(newExpenseDTO.amount())
+                    .date(newExpenseDTO.date())
+                    .category(newExpenseDTO.categoryId() == null ? null : categories.get(newExpenseDTO.categoryId()))
+                    .account(accounts.get(newExpenseDTO.accountId()))
+                    .build());
+        }
+
+        // Balances and budgets move once per account and budget key, not once per imported row
+        Map<UUID, BigDecimal> withdrawals = expenses.stream()
+                .collect(Collectors.groupingBy(expense -> expense.getAccount().getAccountId(), TreeMap::new,
+                        Collectors.reducing(BigDecimal.ZERO, Expense::getAmount, BigDecimal::add)));
+        withdrawals.forEach((accountId, amount) -> accountRepository.withdraw(accounts.get(accountId), amount));
+
+        Map<BudgetKey, BigDecimal> budgetUsage = expenses.stream()
+                .filter(expense -> expense.getCategory() != null)
+                .collect(Collectors.groupingBy(
+                        expense -> new BudgetKey(expense.getCategory().getCategoryId(), expense.getDate().getMonthValue(), expense.getDate().getYear()),
+                        TreeMap::new,
+                        Collectors.reducing(BigDecimal.ZERO, Expense::getAmount, BigDecimal::add)));
+        budgetUsage.forEach((key, amount) -> recordBudgetUsage(categories.get(key.categoryId()), key.month(), key.year(), amount));
+
+        expenseRepository.persist(expenses);
+
+        return new ExpenseBatchDTO(expenses.size(), failures);
+    }
+
+    @Override
+    @OptimisticRetry
     @Transactional
     public void updateExpense(UUID expenseId, UpdateExpenseDTO updateExpenseDTO) {
         Expense expense = expenseRepository.findById(expenseId);
@@ -68,8 +171,8 @@ public class ExpenseService implements IExpenseService {
             throw new EntityNotFoundException(Expense.class, expenseId);
         }
 
-        processBudget(expense, updateExpenseDTO);
         processAccount(expense, updateExpenseDTO);
+        processBudget(expense, updateExpenseDTO);
 
         expense.update(updateExpenseDTO);
     }
@@ -86,15 +189,32 @@ public class ExpenseService implements IExpenseService {
     }
 
     @Override
-    public List<ExpenseDTO> getExpenses() {
-        List<Expense> expenses = expenseRepository.listAll();
+    public String getExpenseTag(UUID expenseId) {
+        return expenseRepository.findTag(expenseId);
+    }
+
+    @Override
+    public ExpensePageDTO getExpenses(ExpenseFilterDTO filter, String cursor, int size) {
+        // One extra row is fetched to know whether another page exists
+        List<ExpenseProjection> expenses = expenseRepository.findPage(filter, ExpenseCursor.decode(cursor), size + 1);
 
-        return expenses.stream()
-                .map(ExpenseDTO::new)
-                .toList();
+        List<ExpenseProjection> page = expenses.size() > size ? expenses.subList(0, size) : expenses;
+        String nextCursor = expenses.size() > size ? ExpenseCursor.of(page.getLast()).encode() : null;
+
+        return new ExpensePageDTO(page.stream().map(ExpenseDTO::new).toList(), nextCursor);
+    }
+
+    @Override
+    @Transactional
+    public void streamExpenses(ExpenseFilterDTO filter, Consumer<ExpenseDTO> consumer) {
+        try(Stream<Expense> expenses = expenseRepository.streamByFilter(filter)) {
+            expenses.map(ExpenseDTO::new)
+                    .forEach(consumer);
+        }
     }
 
     @Override
+    @OptimisticRetry
     @Transactional
     public void deleteExpense(UUID expenseId) {
         Expense expense = expenseRepository.findById(expenseId);
@@ -103,70 +223,99 @@ public class ExpenseService implements IExpenseService {
             throw new EntityNotFoundException(Expense.class, expenseId);
         }
 
-        Budget budget = budgetRepository.findByCategoryMonthYear(expense.getCategory(), expense.getExpenseMonth(), expense.getExpenseYear());
+        accountRepository.deposit(expense.getAccount(), expense.getAmount());
 
-        if(budget != null) {
-            budget.add(expense.getAmount());
+        if(expense.getCategory() != null) {
+            recordBudgetUsage(expense.getCategory(), expense.getDate().getMonthValue(), expense.getDate().getYear(), expense.getAmount().negate());
         }
 
-        expense.getAccount().deposit(expense.getAmount());
-
         expenseRepository.delete(expense);
     }
 
-    private void processBudget(Expense expense) {
-        Integer associatedMonth = expense.getDate().getMonthValue();
-        Integer associatedYear = expense.getDate().getYear();
+    private List<Map<String, String>> validateRow(NewExpenseDTO newExpenseDTO, Map<UUID, Account> accounts) {
+        if(newExpenseDTO == null) {
+            return List.of(Map.of(KEY, ROW, VALUE, MUST_NOT_BE_NULL));
+        }
 
-        Budget budget = budgetRepository.findByCategoryMonthYear(expense.getCategory(), associatedMonth, associatedYear);
+        Set<ConstraintViolation<NewExpenseDTO>> violations = validator.validate(newExpenseDTO);
 
-        if(budget != null) {
-            budget.subtract(expense.getAmount());
+        if(!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> Map.of(
+                            KEY, violation.getPropertyPath().toString(),
+                            VALUE, violation.getMessage()
+                    ))
+                    .toList();
         }
+
+        if(!accounts.containsKey(newExpenseDTO.accountId())) {
+            return List.of(Map.of(KEY, ACCOUNT_ID, VALUE, ACCOUNT_NOT_FOUND));
+        }
+
+        return List.of();
     }
 
-    private void processBudget(Expense expense, UpdateExpenseDTO updateExpenseDTO) {
+    private Collection<UUID> collectIds(List<NewExpenseDTO> newExpenseDTOs, Function<NewExpenseDTO, UUID> id) {
+        return newExpenseDTOs.stream()
+                .filter(Objects::nonNull)
+                .map(id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private void processBudget(Expense expense) {
         Integer associatedMonth = expense.getDate().getMonthValue();
         Integer associatedYear = expense.getDate().getYear();
 
-        Budget budget = budgetRepository.findByCategoryMonthYear(expense.getCategory(), associatedMonth, associatedYear);
+        recordBudgetUsage(expense.getCategory(), associatedMonth, associatedYear, expense.getAmount());
+    }
+
+    private void processBudget(Expense expense, UpdateExpenseDTO updateExpenseDTO) {
+        if(expense.getCategory() != null) {
+            Integer associatedMonth = expense.getDate().getMonthValue();
+            Integer associatedYear = expense.getDate().getYear();
 
-        if(budget != null) {
-            budget.add(expense.getAmount());
+            recordBudgetUsage(expense.getCategory(), associatedMonth, associatedYear, expense.getAmount().negate());
         }
 
-        Category newCategory = categoryRepository.findById(updateExpenseDTO.categoryId());
+        Category newCategory = categoryCache.findById(updateExpenseDTO.categoryId());
 
         if(newCategory != null) {
             Integer newAssociatedMonth = updateExpenseDTO.date().getMonthValue();
             Integer newAssociatedYear = updateExpenseDTO.date().getYear();
 
-            Budget newBudget = budgetRepository.findByCategoryMonthYear(newCategory, newAssociatedMonth, newAssociatedYear);
-
-            if(newBudget != null) {
-                newBudget.subtract(updateExpenseDTO.amount());
-            }
+            recordBudgetUsage(newCategory, newAssociatedMonth, newAssociatedYear, updateExpenseDTO.amount());
         }
 
         expense.bindCategory(newCategory);
     }
 
+    // Budget rows stay off the request path; the rollup worker folds these events into them
+    private void recordBudgetUsage(Category category, Integer month, Integer year, BigDecimal amount) {
+        BudgetEvent budgetEvent = BudgetEvent.builder()
+                .category(category)
+                .eventMonth(month)
+                .eventYear(year)
+                .amount(amount)
+                .build();
+
+        budgetEventRepository.persist(budgetEvent);
+        budgetUsageChanged.fire(new BudgetUsageChangedEvent(category.getCategoryId(), month, year, amount));
+    }
+
     private void processAccount(Expense expense) {
-        expense.getAccount().withdraw(expense.getAmount());
+        accountRepository.withdraw(expense.getAccount(), expense.getAmount());
     }
 
     private void processAccount(Expense expense, UpdateExpenseDTO updateExpenseDTO) {
         Account account = expense.getAccount();
-
-        account.deposit(expense.getAmount());
-
         Account newAccount = accountRepository.findById(updateExpenseDTO.accountId());
 
         if(newAccount == null) {
             throw new EntityNotFoundException(Account.class, updateExpenseDTO.accountId());
         }
 
-        newAccount.withdraw(updateExpenseDTO.amount());
+        accountRepository.withdrawAndDeposit(newAccount, updateExpenseDTO.amount(), account, expense.getAmount());
         expense.bindAccount(newAccount);
     }
 }
@@ -0,0 +1,5 @@
+package com.ebudget.expense.service.interfaces;
+
+public interface IExpensePartitionService {
+    int createPartitions();
+}
@@ -0,0 +1,13 @@
+package com.ebudget.expense.service.interfaces;
+
+import com.ebudget.expense.resource.request.ExpenseFilterDTO;
+import com.ebudget.expense.resource.response.ExpenseDTO;
+import com.ebudget.expense.resource.response.ExpensePageDTO;
+import io.smallrye.mutiny.Uni;
+
+import java.util.UUID;
+
+public interface IExpenseReactiveService {
+    Uni<ExpenseDTO> getExpense(UUID expenseId);
+    Uni<ExpensePageDTO> getExpenses(ExpenseFilterDTO filter, String cursor, int size);
+}
@@ -1,16 +1,25 @@
 package com.ebudget.expense.service.interfaces;
 
+import com.ebudget.expense.resource.request.ExpenseCsv;
+import com.ebudget.expense.resource.request.ExpenseFilterDTO;
 import com.ebudget.expense.resource.request.NewExpenseDTO;
 import com.ebudget.expense.resource.request.UpdateExpenseDTO;
+import com.ebudget.expense.resource.response.ExpenseBatchDTO;
 import com.ebudget.expense.resource.response.ExpenseDTO;
+import com.ebudget.expense.resource.response.ExpensePageDTO;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface IExpenseService {
     ExpenseDTO addExpense(NewExpenseDTO newExpenseDTO);
+    ExpenseBatchDTO addExpenses(List<NewExpenseDTO> newExpenseDTOs);
+    ExpenseBatchDTO addExpenses(ExpenseCsv expenseCsv);
     void updateExpense(UUID expenseId, UpdateExpenseDTO updateExpenseDTO);
     ExpenseDTO getExpense(UUID expenseId);
-    List<ExpenseDTO> getExpenses();
+    String getExpenseTag(UUID expenseId);
+    ExpensePageDTO getExpenses(ExpenseFilterDTO filter, String cursor, int size);
+    void streamExpenses(ExpenseFilterDTO filter, Consumer<ExpenseDTO> consumer);
     void deleteExpense(UUID expenseId);
 }
@@ -1,25 +1,26 @@
 package com.ebudget.income.model;
 
 import com.ebudget.account.model.Account;
+import com.ebudget.core.id.UuidV7;
 import com.ebudget.income.resource.request.UpdateIncomeDTO;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
@@ -31,7 +32,7 @@ import java.util.UUID;
 public class Income {
     @Id
     @Column(name = "income_id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID incomeId;
     @Column(name = "income_description")
     private String incomeDescription;
@@ -39,10 +40,12 @@ public class Income {
     @ManyToOne
     @JoinColumn(name = "account_id")
     private Account account;
-    @CreationTimestamp
+    @Version
+    private Long version;
+    @Column(name = "changed_xid", insertable = false, updatable = false)
+    private Long changedXid;
     @Column(name = "created_at")
     private LocalDateTime createdAt;
-    @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
@@ -56,4 +59,15 @@ public class Income {
         setAmount(updateIncomeDTO.amount());
         setAccount(account);
     }
+
+    @PrePersist
+    void onPersist() {
+        setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        setUpdatedAt(getCreatedAt());
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        setUpdatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
 }
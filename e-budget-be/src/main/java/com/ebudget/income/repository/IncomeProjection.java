@@ -0,0 +1,14 @@
+package com.ebudget.income.repository;
+
+import com.ebudget.account.repository.AccountProjection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Income columns selected by read queries, with its account.
+ */
+public record IncomeProjection(UUID incomeId, String incomeDescription, BigDecimal amount, AccountProjection account,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
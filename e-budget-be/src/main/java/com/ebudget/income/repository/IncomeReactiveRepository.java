@@ -0,0 +1,49 @@
+package com.ebudget.income.repository;
+
+import com.ebudget.account.repository.AccountReactiveRepository;
+import com.ebudget.core.reactive.ReactiveReads;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class IncomeReactiveRepository {
+    private static final String SELECT = "select "
+            + ReactiveReads.columns("i", List.of("income_id", "income_description", "amount", "created_at", "updated_at")) + ", "
+            + AccountReactiveRepository.columns("a")
+            + " from income i join account a on a.account_id = i.account_id";
+
+    private final Pool pool;
+
+    public Uni<IncomeProjection> findById(UUID incomeId) {
+        return pool.preparedQuery(SELECT + " where i.income_id = $1")
+                .execute(Tuple.of(incomeId))
+                .map(rows -> ReactiveReads.first(rows, IncomeReactiveRepository::toProjection));
+    }
+
+    public Uni<List<IncomeProjection>> listAll() {
+        return pool.query(SELECT)
+                .execute()
+                .map(rows -> ReactiveReads.toList(rows, IncomeReactiveRepository::toProjection));
+    }
+
+    private static IncomeProjection toProjection(Row row) {
+        return new IncomeProjection(
+                row.getUUID("i_income_id"),
+                row.getString("i_income_description"),
+                row.getBigDecimal("i_amount"),
+                AccountReactiveRepository.toProjection(row, "a"),
+                ReactiveReads.localDateTime(row, "i_created_at"),
+                ReactiveReads.localDateTime(row, "i_updated_at")
+        );
+    }
+}
@@ -1,11 +1,40 @@
 package com.ebudget.income.repository;
 
+import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.core.http.EntityTags;
+import com.ebudget.core.metrics.Measured;
 import com.ebudget.income.model.Income;
+import com.ebudget.sync.repository.SyncWindow;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.List;
 import java.util.UUID;
 
 @ApplicationScoped
+@Measured
 public class IncomeRepository implements PanacheRepositoryBase<Income, UUID> {
+    private static final String SELECT_PROJECTED = "select new " + IncomeProjection.class.getName()
+            + "(i.incomeId, i.incomeDescription, i.amount, " + AccountRepository.projection("a") + ", i.createdAt, i.updatedAt)"
+            + " from Income i join i.account a";
+    private static final String TAG = "select i.changedXid, a.changedXid from Income i join i.account a where i.incomeId = :incomeId";
+
+    public List<IncomeProjection> listAllProjected() {
+        return getEntityManager().createQuery(SELECT_PROJECTED, IncomeProjection.class)
+                .getResultList();
+    }
+
+    public String findTag(UUID incomeId) {
+        return getEntityManager().createQuery(TAG, Object[].class)
+                .setParameter("incomeId", incomeId)
+                .getResultStream()
+                .findFirst()
+                .map(EntityTags::of)
+                .orElse(null);
+    }
+
+    public List<IncomeProjection> listChangedProjected(SyncWindow window) {
+        return window.bind(getEntityManager().createQuery(SELECT_PROJECTED + " where " + SyncWindow.predicate("i"), IncomeProjection.class))
+                .getResultList();
+    }
 }
@@ -0,0 +1,40 @@
+package com.ebudget.income.resource;
+
+import com.ebudget.core.reactive.ReactiveReads;
+import com.ebudget.income.resource.response.IncomeDTO;
+import com.ebudget.income.service.interfaces.IIncomeReactiveService;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import lombok.RequiredArgsConstructor;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@Path("/reactive/income")
+@RequiredArgsConstructor
+@Produces(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class IncomeReactiveResource {
+    private final IIncomeReactiveService incomeReactiveService;
+
+    @GET
+    @Path("{incomeId}")
+    public Uni<RestResponse<IncomeDTO>> getIncome(@PathParam("incomeId") UUID incomeId) {
+        return incomeReactiveService.getIncome(incomeId)
+                .map(income -> RestResponse.status(RestResponse.Status.OK, income));
+    }
+
+    @GET
+    public Uni<RestResponse<List<IncomeDTO>>> getIncomes() {
+        return incomeReactiveService.getIncomes()
+                .map(incomes -> RestResponse.status(RestResponse.Status.OK, incomes));
+    }
+}
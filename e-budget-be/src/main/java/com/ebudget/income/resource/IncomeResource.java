@@ -1,9 +1,12 @@
 package com.ebudget.income.resource;
 
+import com.ebudget.core.concurrency.ConnectionBulkhead;
+import com.ebudget.core.http.ConditionalGet;
 import com.ebudget.income.resource.request.NewIncomeDTO;
 import com.ebudget.income.resource.request.UpdateIncomeDTO;
 import com.ebudget.income.resource.response.IncomeDTO;
 import com.ebudget.income.service.interfaces.IIncomeService;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
@@ -14,6 +17,7 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import lombok.RequiredArgsConstructor;
 import org.jboss.resteasy.reactive.RestResponse;
@@ -26,8 +30,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
+@ConnectionBulkhead
+@RunOnVirtualThread
 public class IncomeResource {
+    private static final List<String> TABLES = List.of("income", "account");
+
     private final IIncomeService incomeService;
+    private final ConditionalGet conditionalGet;
 
     @POST
     public RestResponse<IncomeDTO> addIncome(@Valid NewIncomeDTO newIncomeDTO) {
@@ -46,17 +55,13 @@ public class IncomeResource {
 
     @GET
     @Path("{incomeId}")
-    public RestResponse<IncomeDTO> getIncome(@PathParam("incomeId") UUID incomeId) {
-        IncomeDTO income = incomeService.getIncome(incomeId);
-
-        return RestResponse.status(RestResponse.Status.OK, income);
+    public RestResponse<IncomeDTO> getIncome(@PathParam("incomeId") UUID incomeId, HttpHeaders headers) {
+        return conditionalGet.entity(headers, incomeService.getIncomeTag(incomeId), () -> incomeService.getIncome(incomeId));
     }
 
     @GET
-    public RestResponse<List<IncomeDTO>> getIncomes() {
-        List<IncomeDTO> incomes = incomeService.getIncomes();
-
-        return RestResponse.status(RestResponse.Status.OK, incomes);
+    public RestResponse<List<IncomeDTO>> getIncomes(HttpHeaders headers) {
+        return conditionalGet.collection(headers, TABLES, incomeService::getIncomes);
     }
 
     @DELETE
@@ -2,6 +2,7 @@ package com.ebudget.income.resource.response;
 
 import com.ebudget.account.resource.response.AccountDTO;
 import com.ebudget.income.model.Income;
+import com.ebudget.income.repository.IncomeProjection;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -27,4 +28,13 @@ public class IncomeDTO {
         this.createdAt = income.getCreatedAt();
         this.updatedAt = income.getUpdatedAt();
     }
+
+    public IncomeDTO(IncomeProjection income) {
+        this.incomeId = income.incomeId();
+        this.incomeDescription = income.incomeDescription();
+        this.amount = income.amount();
+        this.account = new AccountDTO(income.account());
+        this.createdAt = income.createdAt();
+        this.updatedAt = income.updatedAt();
+    }
 }
@@ -0,0 +1,35 @@
+package com.ebudget.income.service;
+
+import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.reactive.ReactiveReads;
+import com.ebudget.income.model.Income;
+import com.ebudget.income.repository.IncomeReactiveRepository;
+import com.ebudget.income.resource.response.IncomeDTO;
+import com.ebudget.income.service.interfaces.IIncomeReactiveService;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class IncomeReactiveService implements IIncomeReactiveService {
+    private final IncomeReactiveRepository incomeReactiveRepository;
+
+    @Override
+    public Uni<IncomeDTO> getIncome(UUID incomeId) {
+        return incomeReactiveRepository.findById(incomeId)
+                .onItem().ifNull().failWith(() -> new EntityNotFoundException(Income.class, incomeId))
+                .map(IncomeDTO::new);
+    }
+
+    @Override
+    public Uni<List<IncomeDTO>> getIncomes() {
+        return incomeReactiveRepository.listAll()
+                .map(incomes -> incomes.stream().map(IncomeDTO::new).toList());
+    }
+}
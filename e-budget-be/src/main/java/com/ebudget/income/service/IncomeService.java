@@ -2,7 +2,9 @@ package com.ebudget.income.service;
 
 import com.ebudget.account.model.Account;
 import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.core.concurrency.OptimisticRetry;
 import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.metrics.Measured;
 import com.ebudget.income.model.Income;
 import com.ebudget.income.repository.IncomeRepository;
 import com.ebudget.income.resource.request.NewIncomeDTO;
@@ -18,12 +20,14 @@ import java.util.List;
 import java.util.UUID;
 
 @ApplicationScoped
+@Measured
 @RequiredArgsConstructor
 public class IncomeService implements IIncomeService {
     private final IncomeRepository incomeRepository;
     private final AccountRepository accountRepository;
 
     @Override
+    @OptimisticRetry
     @Transactional
     public IncomeDTO addIncome(NewIncomeDTO newIncomeDTO) {
         Account account = accountRepository.findById(newIncomeDTO.accountId());
@@ -32,7 +36,7 @@ public class IncomeService implements IIncomeService {
             throw new EntityNotFoundException(Account.class, newIncomeDTO.accountId());
         }
 
-        account.deposit(newIncomeDTO.amount());
+        accountRepository.deposit(account, newIncomeDTO.amount());
 
         Income income = Income.builder()
                 .incomeDescription(newIncomeDTO.incomeDescription())
@@ -40,12 +44,13 @@ public class IncomeService implements IIncomeService {
                 .account(account)
                 .build();
 
-        incomeRepository.persistAndFlush(income);
+        incomeRepository.persist(income);
 
         return new IncomeDTO(income);
     }
 
     @Override
+    @OptimisticRetry
     @Transactional
     public void updateIncome(UUID incomeId, UpdateIncomeDTO updateIncomeDTO) {
         Income income = incomeRepository.findById(incomeId);
@@ -80,15 +85,17 @@ public class IncomeService implements IIncomeService {
     }
 
     @Override
-    public List<IncomeDTO> getIncomes() {
-        List<Income> incomes = incomeRepository.listAll();
+    public String getIncomeTag(UUID incomeId) {
+        return incomeRepository.findTag(incomeId);
+    }
 
-        return incomes.stream()
-                .map(IncomeDTO::new)
-                .toList();
+    @Override
+    public List<IncomeDTO> getIncomes() {
+        return incomeRepository.listAllProjected().stream().map(IncomeDTO::new).toList();
     }
 
     @Override
+    @OptimisticRetry
     @Transactional
     public void deleteIncome(UUID incomeId) {
         Income income = incomeRepository.findById(incomeId);
@@ -97,18 +104,16 @@ public class IncomeService implements IIncomeService {
             throw new EntityNotFoundException(Income.class, incomeId);
         }
 
-        income.getAccount().withdraw(income.getAmount());
+        accountRepository.withdraw(income.getAccount(), income.getAmount());
 
         incomeRepository.delete(income);
     }
 
     private void processIncome(Account account, BigDecimal withdrawAmount, BigDecimal depositAmount) {
-        account.withdraw(withdrawAmount);
-        account.deposit(depositAmount);
+        accountRepository.withdrawAndDeposit(account, withdrawAmount, account, depositAmount);
     }
 
     private void processIncome(Account withdrawAccount, BigDecimal withdrawAmount, Account depositAccount, BigDecimal depositAmount) {
-        withdrawAccount.withdraw(withdrawAmount);
-        depositAccount.deposit(depositAmount);
+        accountRepository.withdrawAndDeposit(withdrawAccount, withdrawAmount, depositAccount, depositAmount);
     }
 }
@@ -0,0 +1,12 @@
+package com.ebudget.income.service.interfaces;
+
+import com.ebudget.income.resource.response.IncomeDTO;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface IIncomeReactiveService {
+    Uni<IncomeDTO> getIncome(UUID incomeId);
+    Uni<List<IncomeDTO>> getIncomes();
+}
@@ -11,6 +11,7 @@ public interface IIncomeService {
     IncomeDTO addIncome(NewIncomeDTO newIncomeDTO);
     void updateIncome(UUID incomeId, UpdateIncomeDTO updateIncomeDTO);
     IncomeDTO getIncome(UUID incomeId);
+    String getIncomeTag(UUID incomeId);
     List<IncomeDTO> getIncomes();
     void deleteIncome(UUID incomeId);
 }
@@ -0,0 +1,10 @@
+package com.ebudget.report.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Sums of expense and income amounts for one account, projected directly from correlated subqueries.
+ */
+public record AccountTotal(UUID accountId, String accountName, BigDecimal expenses, BigDecimal incomes) {
+}
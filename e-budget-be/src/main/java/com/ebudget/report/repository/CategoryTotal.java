@@ -0,0 +1,11 @@
+package com.ebudget.report.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Sum of expense amounts for one category, projected directly from a {@code GROUP BY} query. Uncategorized
+ * expenses are summed under a {@code null} category.
+ */
+public record CategoryTotal(UUID categoryId, String categoryName, BigDecimal total) {
+}
@@ -0,0 +1,9 @@
+package com.ebudget.report.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Sum of amounts for one month, projected directly from a {@code GROUP BY} query.
+ */
+public record PeriodTotal(Integer year, Integer month, BigDecimal total) {
+}
@@ -0,0 +1,91 @@
+package com.ebudget.report.repository;
+
+import com.ebudget.core.metrics.Measured;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Aggregations for the spending reports. Every query groups in the database and is projected into
+ * a record through a constructor expression, so no entity is loaded. Expenses are grouped by their
+ * {@code expense_year}/{@code expense_month}; incomes, which have no period columns, by the year and
+ * month of {@code created_at}.
+ */
+@ApplicationScoped
+@Measured
+@RequiredArgsConstructor
+public class ReportRepository {
+    private static final String EXPENSE_YEAR = "e.expenseYear";
+    private static final String EXPENSE_MONTH = "e.expenseMonth";
+    private static final String INCOME_YEAR = "year(i.createdAt)";
+    private static final String INCOME_MONTH = "month(i.createdAt)";
+
+    private final EntityManager entityManager;
+
+    public List<PeriodTotal> sumExpensesByMonth(Integer year) {
+        String query = "select new com.ebudget.report.repository.PeriodTotal(e.expenseYear, e.expenseMonth, sum(e.amount))"
+                + " from Expense e"
+                + period(EXPENSE_YEAR, EXPENSE_MONTH, year, null, " where ")
+                + " group by e.expenseYear, e.expenseMonth";
+
+        return bind(entityManager.createQuery(query, PeriodTotal.class), year, null).getResultList();
+    }
+
+    public List<PeriodTotal> sumIncomesByMonth(Integer year) {
+        String query = "select new com.ebudget.report.repository.PeriodTotal(year(i.createdAt), month(i.createdAt), sum(i.amount))"
+                + " from Income i"
+                + period(INCOME_YEAR, INCOME_MONTH, year, null, " where ")
+                + " group by year(i.createdAt), month(i.createdAt)";
+
+        return bind(entityManager.createQuery(query, PeriodTotal.class), year, null).getResultList();
+    }
+
+    public List<CategoryTotal> sumExpensesByCategory(Integer year, Integer month) {
+        String query = "select new com.ebudget.report.repository.CategoryTotal(c.categoryId, c.categoryName, sum(e.amount))"
+                + " from Expense e left join e.category c"
+                + period(EXPENSE_YEAR, EXPENSE_MONTH, year, month, " where ")
+                + " group by c.categoryId, c.categoryName"
+                + " order by sum(e.amount) desc";
+
+        return bind(entityManager.createQuery(query, CategoryTotal.class), year, month).getResultList();
+    }
+
+    public List<AccountTotal> sumByAccount(Integer year, Integer month) {
+        String query = "select new com.ebudget.report.repository.AccountTotal(a.accountId, a.accountName,"
+                + " (select coalesce(sum(e.amount), 0) from Expense e where e.account = a" + period(EXPENSE_YEAR, EXPENSE_MONTH, year, month, " and ") + "),"
+                + " (select coalesce(sum(i.amount), 0) from Income i where i.account = a" + period(INCOME_YEAR, INCOME_MONTH, year, month, " and ") + "))"
+                + " from Account a"
+                + " order by a.accountName";
+
+        return bind(entityManager.createQuery(query, AccountTotal.class), year, month).getResultList();
+    }
+
+    private String period(String yearPath, String monthPath, Integer year, Integer month, String prefix) {
+        StringBuilder predicate = new StringBuilder();
+
+        if(year != null) {
+            predicate.append(prefix).append(yearPath).append(" = :year");
+        }
+
+        if(month != null) {
+            predicate.append(predicate.isEmpty() ? prefix : " and ").append(monthPath).append(" = :month");
+        }
+
+        return predicate.toString();
+    }
+
+    private <T> TypedQuery<T> bind(TypedQuery<T> query, Integer year, Integer month) {
+        if(year != null) {
+            query.setParameter("year", year);
+        }
+
+        if(month != null) {
+            query.setParameter("month", month);
+        }
+
+        return query;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ebudget.report.resource;
+
+import com.ebudget.report.resource.response.AccountReportDTO;
+import com.ebudget.report.resource.response.CategoryReportDTO;
+import com.ebudget.report.resource.response.MonthlyReportDTO;
+import com.ebudget.report.service.interfaces.IReportService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import lombok.RequiredArgsConstructor;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.util.List;
+
+@ApplicationScoped
+@Path("/report")
+@RequiredArgsConstructor
+@Produces(MediaType.APPLICATION_JSON)
+public class ReportResource {
+    private final IReportService reportService;
+
+    @GET
+    @Path("monthly")
+    public RestResponse<List<MonthlyReportDTO>> getMonthlyReport(@QueryParam("year") Integer year) {
+        List<MonthlyReportDTO> report = reportService.getMonthlyReport(year);
+
+        return RestResponse.status(RestResponse.Status.OK, report);
+    }
+
+    @GET
+    @Path("category")
+    public RestResponse<List<CategoryReportDTO>> getCategoryReport(@QueryParam("year") Integer year,
+                                                                   @QueryParam("month") @Min(1) @Max(12) Integer month) {
+        List<CategoryReportDTO> report = reportService.getCategoryReport(year, month);
+
+        return RestResponse.status(RestResponse.Status.OK, report);
+    }
+
+    @GET
+    @Path("account")
+    public RestResponse<List<AccountReportDTO>> getAccountReport(@QueryParam("year") Integer year,
+                                                                 @QueryParam("month") @Min(1) @Max(12) Integer month) {
+        List<AccountReportDTO> report = reportService.getAccountReport(year, month);
+
+        return RestResponse.status(RestResponse.Status.OK, report);
+    }
+}
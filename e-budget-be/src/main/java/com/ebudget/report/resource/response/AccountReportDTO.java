@@ -0,0 +1,23 @@
+package com.ebudget.report.resource.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(force = true)
+public class AccountReportDTO {
+    private final UUID accountId;
+    private final String accountName;
+    private final BigDecimal expenses;
+    private final BigDecimal incomes;
+
+    public AccountReportDTO(UUID accountId, String accountName, BigDecimal expenses, BigDecimal incomes) {
+        this.accountId = accountId;
+        this.accountName = accountName;
+        this.expenses = expenses;
+        this.incomes = incomes;
+    }
+}
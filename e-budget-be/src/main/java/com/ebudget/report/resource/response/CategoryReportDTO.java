@@ -0,0 +1,21 @@
+package com.ebudget.report.resource.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(force = true)
+public class CategoryReportDTO {
+    private final UUID categoryId;
+    private final String categoryName;
+    private final BigDecimal expenses;
+
+    public CategoryReportDTO(UUID categoryId, String categoryName, BigDecimal expenses) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.expenses = expenses;
+    }
+}
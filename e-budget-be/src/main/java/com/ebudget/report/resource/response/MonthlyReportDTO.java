@@ -0,0 +1,24 @@
+package com.ebudget.report.resource.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor(force = true)
+public class MonthlyReportDTO {
+    private final Integer year;
+    private final Integer month;
+    private final BigDecimal expenses;
+    private final BigDecimal incomes;
+    private final BigDecimal balance;
+
+    public MonthlyReportDTO(Integer year, Integer month, BigDecimal expenses, BigDecimal incomes) {
+        this.year = year;
+        this.month = month;
+        this.expenses = expenses;
+        this.incomes = incomes;
+        this.balance = incomes.subtract(expenses);
+    }
+}
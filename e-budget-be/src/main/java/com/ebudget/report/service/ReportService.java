@@ -0,0 +1,72 @@
+package com.ebudget.report.service;
+
+import com.ebudget.core.metrics.Measured;
+import com.ebudget.report.repository.PeriodTotal;
+import com.ebudget.report.repository.ReportRepository;
+import com.ebudget.report.resource.response.AccountReportDTO;
+import com.ebudget.report.resource.response.CategoryReportDTO;
+import com.ebudget.report.resource.response.MonthlyReportDTO;
+import com.ebudget.report.service.interfaces.IReportService;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+@ApplicationScoped
+@Measured
+@RequiredArgsConstructor
+public class ReportService implements IReportService {
+    private final ReportRepository reportRepository;
+
+    @Override
+    public List<MonthlyReportDTO> getMonthlyReport(Integer year) {
+        Map<Integer, BigDecimal> expenses = byPeriod(reportRepository.sumExpensesByMonth(year));
+        Map<Integer, BigDecimal> incomes = byPeriod(reportRepository.sumIncomesByMonth(year));
+        Set<Integer> periods = new TreeSet<>(expenses.keySet());
+        List<MonthlyReportDTO> report = new ArrayList<>();
+
+        periods.addAll(incomes.keySet());
+
+        for(Integer period : periods) {
+            report.add(new MonthlyReportDTO(
+                    period / 100,
+                    period % 100,
+                    expenses.getOrDefault(period, BigDecimal.ZERO),
+                    incomes.getOrDefault(period, BigDecimal.ZERO)
+            ));
+        }
+
+        return report;
+    }
+
+    @Override
+    public List<CategoryReportDTO> getCategoryReport(Integer year, Integer month) {
+        return reportRepository.sumExpensesByCategory(year, month).stream()
+                .map(total -> new CategoryReportDTO(total.categoryId(), total.categoryName(), total.total()))
+                .toList();
+    }
+
+    @Override
+    public List<AccountReportDTO> getAccountReport(Integer year, Integer month) {
+        return reportRepository.sumByAccount(year, month).stream()
+                .map(total -> new AccountReportDTO(total.accountId(), total.accountName(), total.expenses(), total.incomes()))
+                .toList();
+    }
+
+    // Keys are yyyyMM so the merged months sort chronologically
+    private Map<Integer, BigDecimal> byPeriod(List<PeriodTotal> totals) {
+        Map<Integer, BigDecimal> byPeriod = new HashMap<>();
+
+        for(PeriodTotal total : totals) {
+            byPeriod.put(total.year() * 100 + total.month(), total.total());
+        }
+
+        return byPeriod;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ebudget.report.service.interfaces;
+
+import com.ebudget.report.resource.response.AccountReportDTO;
+import com.ebudget.report.resource.response.CategoryReportDTO;
+import com.ebudget.report.resource.response.MonthlyReportDTO;
+
+import java.util.List;
+
+public interface IReportService {
+    List<MonthlyReportDTO> getMonthlyReport(Integer year);
+    List<CategoryReportDTO> getCategoryReport(Integer year, Integer month);
+    List<AccountReportDTO> getAccountReport(Integer year, Integer month);
+}
@@ -0,0 +1,37 @@
+package com.ebudget.sync.repository;
+
+import com.ebudget.expense.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Position of a client in the change stream: the transaction id up to which it has seen every change.
+ */
+public record SyncCursor(long xid) {
+    private static final String CURSOR = "cursor";
+    private static final SyncCursor START = new SyncCursor(0);
+
+    public static SyncCursor decode(String cursor) {
+        if(cursor == null || cursor.isBlank()) {
+            return START;
+        }
+
+        try {
+            long xid = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+
+            if(xid < 0) {
+                throw new IllegalArgumentException(cursor);
+            }
+
+            return new SyncCursor(xid);
+        } catch(IllegalArgumentException exception) {
+            throw new InvalidCursorException(Map.of(CURSOR, cursor));
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(xid).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,64 @@
+package com.ebudget.sync.repository;
+
+import com.ebudget.core.metrics.Measured;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the watermark and the {@code sync_tombstone} deletion log. Rows are stamped with the id of the transaction
+ * that last wrote them, and deleted rows are logged with the id of the deleting one, by database triggers.
+ */
+@ApplicationScoped
+@Measured
+@RequiredArgsConstructor
+public class SyncRepository {
+    // Oldest transaction still running: everything below it has committed or rolled back
+    private static final String WATERMARK = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS BIGINT)";
+    // Moving an expense to another partition deletes and reinserts it, so deletions of rows still present are skipped
+    private static final String TOMBSTONES = """
+            SELECT t.entity, t.entity_id FROM sync_tombstone t
+            WHERE t.deleted_xid >= :since AND t.deleted_xid < :until
+              AND NOT (t.entity = 'expense' AND EXISTS (SELECT 1 FROM expense e WHERE e.expense_id = t.entity_id))""";
+    // A watermark ahead of the current one was not issued by this database and is never valid
+    private static final String UNCHANGED_SINCE = """
+            SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT) AS BIGINT) >= :xid
+               AND NOT EXISTS (SELECT 1 FROM sync_tombstone WHERE deleted_xid >= :xid AND entity IN (:tables))""";
+    private static final String TABLE_UNCHANGED = " AND NOT EXISTS (SELECT 1 FROM %s WHERE changed_xid >= :xid)";
+
+    private final EntityManager entityManager;
+
+    public long watermark() {
+        return ((Number) entityManager.createNativeQuery(WATERMARK, Long.class)
+                .getSingleResult()).longValue();
+    }
+
+    /**
+     * Tells whether no row of {@code tables} was written or deleted by a transaction from {@code xid} on, in which
+     * case everything read from them after {@code xid} became the watermark is still current.
+     */
+    public boolean unchangedSince(List<String> tables, long xid) {
+        StringBuilder query = new StringBuilder(UNCHANGED_SINCE);
+        tables.forEach(table -> query.append(TABLE_UNCHANGED.formatted(table)));
+
+        return (Boolean) entityManager.createNativeQuery(query.toString(), Boolean.class)
+                .setParameter("xid", xid)
+                .setParameter("tables", tables)
+                .getSingleResult();
+    }
+
+    public List<Tombstone> findTombstones(SyncWindow window) {
+        List<?> rows = entityManager.createNativeQuery(TOMBSTONES)
+                .setParameter("since", window.since())
+                .setParameter("until", window.until())
+                .getResultList();
+
+        return rows.stream()
+                .map(Object[].class::cast)
+                .map(row -> new Tombstone((String) row[0], (UUID) row[1]))
+                .toList();
+    }
+}
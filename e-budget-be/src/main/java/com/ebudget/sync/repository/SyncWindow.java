@@ -0,0 +1,18 @@
+package com.ebudget.sync.repository;
+
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Transaction id range [{@code since}, {@code until}) of a delta sync. Every transaction below {@code until} has
+ * ended, so rows stamped with those ids are final and the next sync can resume from {@code until}.
+ */
+public record SyncWindow(long since, long until) {
+    public static String predicate(String alias) {
+        return "%1$s.changedXid >= :since and %1$s.changedXid < :until".formatted(alias);
+    }
+
+    public <T> TypedQuery<T> bind(TypedQuery<T> query) {
+        return query.setParameter("since", since)
+                .setParameter("until", until);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ebudget.sync.repository;
+
+import java.util.UUID;
+
+/**
+ * A row deleted from {@code entity}, read from the {@code sync_tombstone} log.
+ */
+public record Tombstone(String entity, UUID entityId) {
+}
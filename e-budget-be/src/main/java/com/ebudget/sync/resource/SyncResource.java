@@ -0,0 +1,31 @@
+package com.ebudget.sync.resource;
+
+import com.ebudget.core.concurrency.ConnectionBulkhead;
+import com.ebudget.sync.resource.response.SyncDTO;
+import com.ebudget.sync.service.interfaces.ISyncService;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import lombok.RequiredArgsConstructor;
+import org.jboss.resteasy.reactive.RestResponse;
+
+@ApplicationScoped
+@Path("/sync")
+@RequiredArgsConstructor
+@Produces(MediaType.APPLICATION_JSON)
+@ConnectionBulkhead
+@RunOnVirtualThread
+public class SyncResource {
+    private final ISyncService syncService;
+
+    @GET
+    public RestResponse<SyncDTO> sync(@QueryParam("since") String since) {
+        SyncDTO sync = syncService.sync(since);
+
+        return RestResponse.status(RestResponse.Status.OK, sync);
+    }
+}
@@ -0,0 +1,37 @@
+package com.ebudget.sync.resource.response;
+
+import com.ebudget.account.resource.response.AccountDTO;
+import com.ebudget.budget.resource.response.BudgetDTO;
+import com.ebudget.category.resource.response.CategoryDTO;
+import com.ebudget.expense.resource.response.ExpenseDTO;
+import com.ebudget.income.resource.response.IncomeDTO;
+import com.ebudget.transfer.resource.response.TransferDTO;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(force = true)
+public class SyncDTO {
+    private final String cursor;
+    private final List<AccountDTO> accounts;
+    private final List<CategoryDTO> categories;
+    private final List<BudgetDTO> budgets;
+    private final List<ExpenseDTO> expenses;
+    private final List<IncomeDTO> incomes;
+    private final List<TransferDTO> transfers;
+    private final List<TombstoneDTO> deleted;
+
+    public SyncDTO(String cursor, List<AccountDTO> accounts, List<CategoryDTO> categories, List<BudgetDTO> budgets,
+                   List<ExpenseDTO> expenses, List<IncomeDTO> incomes, List<TransferDTO> transfers, List<TombstoneDTO> deleted) {
+        this.cursor = cursor;
+        this.accounts = accounts;
+        this.categories = categories;
+        this.budgets = budgets;
+        this.expenses = expenses;
+        this.incomes = incomes;
+        this.transfers = transfers;
+        this.deleted = deleted;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ebudget.sync.resource.response;
+
+import com.ebudget.sync.repository.Tombstone;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(force = true)
+public class TombstoneDTO {
+    private final String entity;
+    private final UUID entityId;
+
+    public TombstoneDTO(Tombstone tombstone) {
+        this.entity = tombstone.entity();
+        this.entityId = tombstone.entityId();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ebudget.sync.service;
+
+import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.account.resource.response.AccountDTO;
+import com.ebudget.budget.repository.BudgetRepository;
+import com.ebudget.budget.resource.response.BudgetDTO;
+import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.category.resource.response.CategoryDTO;
+import com.ebudget.core.metrics.Measured;
+import com.ebudget.expense.repository.ExpenseRepository;
+import com.ebudget.expense.resource.response.ExpenseDTO;
+import com.ebudget.income.repository.IncomeRepository;
+import com.ebudget.income.resource.response.IncomeDTO;
+import com.ebudget.sync.repository.SyncCursor;
+import com.ebudget.sync.repository.SyncRepository;
+import com.ebudget.sync.repository.SyncWindow;
+import com.ebudget.sync.resource.response.SyncDTO;
+import com.ebudget.sync.resource.response.TombstoneDTO;
+import com.ebudget.sync.service.interfaces.ISyncService;
+import com.ebudget.transfer.repository.TransferRepository;
+import com.ebudget.transfer.resource.response.TransferDTO;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+@ApplicationScoped
+@Measured
+@RequiredArgsConstructor
+public class SyncService implements ISyncService {
+    private final SyncRepository syncRepository;
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final BudgetRepository budgetRepository;
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final TransferRepository transferRepository;
+
+    /**
+     * Returns the rows written and deleted by transactions that ended between the client's cursor and the
+     * watermark. A row still being written is left for the next sync, which starts at the returned cursor.
+     */
+    @Override
+    public SyncDTO sync(String cursor) {
+        SyncCursor since = SyncCursor.decode(cursor);
+        SyncCursor until = new SyncCursor(Math.max(since.xid(), syncRepository.watermark()));
+        SyncWindow window = new SyncWindow(since.xid(), until.xid());
+
+        return new SyncDTO(
+                until.encode(),
+                accountRepository.listChangedProjected(window).stream().map(AccountDTO::new).toList(),
+                categoryRepository.listChangedProjected(window).stream().map(CategoryDTO::new).toList(),
+                budgetRepository.listChangedProjected(window).stream().map(BudgetDTO::new).toList(),
+                expenseRepository.listChangedProjected(window).stream().map(ExpenseDTO::new).toList(),
+                incomeRepository.listChangedProjected(window).stream().map(IncomeDTO::new).toList(),
+                transferRepository.listChangedProjected(window).stream().map(TransferDTO::new).toList(),
+                syncRepository.findTombstones(window).stream().map(TombstoneDTO::new).toList()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.ebudget.sync.service.interfaces;
+
+import com.ebudget.sync.resource.response.SyncDTO;
+
+public interface ISyncService {
+    SyncDTO sync(String cursor);
+}
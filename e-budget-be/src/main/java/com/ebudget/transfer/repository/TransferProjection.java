@@ -0,0 +1,14 @@
+package com.ebudget.transfer.repository;
+
+import com.ebudget.account.repository.AccountProjection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Transfer columns selected by read queries, with both of its accounts.
+ */
+public record TransferProjection(UUID transferId, String transferDescription, BigDecimal amount, AccountProjection fromAccount,
+                                 AccountProjection toAccount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,51 @@
+package com.ebudget.transfer.repository;
+
+import com.ebudget.account.repository.AccountReactiveRepository;
+import com.ebudget.core.reactive.ReactiveReads;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class TransferReactiveRepository {
+    private static final String SELECT = "select "
+            + ReactiveReads.columns("t", List.of("transfer_id", "transfer_description", "amount", "created_at", "updated_at")) + ", "
+            + AccountReactiveRepository.columns("f") + ", "
+            + AccountReactiveRepository.columns("r")
+            + " from transfer t join account f on f.account_id = t.from_account join account r on r.account_id = t.to_account";
+
+    private final Pool pool;
+
+    public Uni<TransferProjection> findById(UUID transferId) {
+        return pool.preparedQuery(SELECT + " where t.transfer_id = $1")
+                .execute(Tuple.of(transferId))
+                .map(rows -> ReactiveReads.first(rows, TransferReactiveRepository::toProjection));
+    }
+
+    public Uni<List<TransferProjection>> listAll() {
+        return pool.query(SELECT)
+                .execute()
+                .map(rows -> ReactiveReads.toList(rows, TransferReactiveRepository::toProjection));
+    }
+
+    private static TransferProjection toProjection(Row row) {
+        return new TransferProjection(
+                row.getUUID("t_transfer_id"),
+                row.getString("t_transfer_description"),
+                row.getBigDecimal("t_amount"),
+                AccountReactiveRepository.toProjection(row, "f"),
+                AccountReactiveRepository.toProjection(row, "r"),
+                ReactiveReads.localDateTime(row, "t_created_at"),
+                ReactiveReads.localDateTime(row, "t_updated_at")
+        );
+    }
+}
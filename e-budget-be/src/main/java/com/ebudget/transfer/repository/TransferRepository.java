@@ -1,11 +1,41 @@
 package com.ebudget.transfer.repository;
 
+import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.core.http.EntityTags;
+import com.ebudget.core.metrics.Measured;
+import com.ebudget.sync.repository.SyncWindow;
 import com.ebudget.transfer.model.Transfer;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.List;
 import java.util.UUID;
 
 @ApplicationScoped
+@Measured
 public class TransferRepository implements PanacheRepositoryBase<Transfer, UUID> {
+    private static final String SELECT_PROJECTED = "select new " + TransferProjection.class.getName()
+            + "(t.transferId, t.transferDescription, t.amount, " + AccountRepository.projection("f") + ", "
+            + AccountRepository.projection("r") + ", t.createdAt, t.updatedAt)"
+            + " from Transfer t join t.fromAccount f join t.toAccount r";
+    private static final String TAG = "select t.changedXid, f.changedXid, r.changedXid from Transfer t join t.fromAccount f join t.toAccount r where t.transferId = :transferId";
+
+    public List<TransferProjection> listAllProjected() {
+        return getEntityManager().createQuery(SELECT_PROJECTED, TransferProjection.class)
+                .getResultList();
+    }
+
+    public String findTag(UUID transferId) {
+        return getEntityManager().createQuery(TAG, Object[].class)
+                .setParameter("transferId", transferId)
+                .getResultStream()
+                .findFirst()
+                .map(EntityTags::of)
+                .orElse(null);
+    }
+
+    public List<TransferProjection> listChangedProjected(SyncWindow window) {
+        return window.bind(getEntityManager().createQuery(SELECT_PROJECTED + " where " + SyncWindow.predicate("t"), TransferProjection.class))
+                .getResultList();
+    }
 }
@@ -0,0 +1,40 @@
+package com.ebudget.transfer.resource;
+
+import com.ebudget.core.reactive.ReactiveReads;
+import com.ebudget.transfer.resource.response.TransferDTO;
+import com.ebudget.transfer.service.interfaces.ITransferReactiveService;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import lombok.RequiredArgsConstructor;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@Path("/reactive/transfer")
+@RequiredArgsConstructor
+@Produces(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class TransferReactiveResource {
+    private final ITransferReactiveService transferReactiveService;
+
+    @GET
+    @Path("{transferId}")
+    public Uni<RestResponse<TransferDTO>> getTransfer(@PathParam("transferId") UUID transferId) {
+        return transferReactiveService.getTransfer(transferId)
+                .map(transfer -> RestResponse.status(RestResponse.Status.OK, transfer));
+    }
+
+    @GET
+    public Uni<RestResponse<List<TransferDTO>>> getTransfers() {
+        return transferReactiveService.getTransfers()
+                .map(transfers -> RestResponse.status(RestResponse.Status.OK, transfers));
+    }
+}
@@ -1,8 +1,11 @@
 package com.ebudget.transfer.resource;
 
+import com.ebudget.core.concurrency.ConnectionBulkhead;
+import com.ebudget.core.http.ConditionalGet;
 import com.ebudget.transfer.resource.request.NewTransferDTO;
 import com.ebudget.transfer.resource.response.TransferDTO;
 import com.ebudget.transfer.service.interfaces.ITransferService;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
@@ -12,6 +15,7 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import lombok.RequiredArgsConstructor;
 import org.jboss.resteasy.reactive.RestResponse;
@@ -24,8 +28,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
+@ConnectionBulkhead
+@RunOnVirtualThread
 public class TransferResource {
+    private static final List<String> TABLES = List.of("transfer", "account");
+
     private final ITransferService transferService;
+    private final ConditionalGet conditionalGet;
 
     @POST
     public RestResponse<TransferDTO> addTransfer(@Valid NewTransferDTO newTransferDTO) {
@@ -44,16 +53,12 @@ public class TransferResource {
 
     @GET
     @Path("{transferId}")
-    public RestResponse<TransferDTO> getTransfer(@PathParam("transferId") UUID transferId) {
-        TransferDTO transfer = transferService.getTransfer(transferId);
-
-        return RestResponse.status(RestResponse.Status.OK, transfer);
+    public RestResponse<TransferDTO> getTransfer(@PathParam("transferId") UUID transferId, HttpHeaders headers) {
+        return conditionalGet.entity(headers, transferService.getTransferTag(transferId), () -> transferService.getTransfer(transferId));
     }
 
     @GET
-    public RestResponse<List<TransferDTO>> getTransfers() {
-        List<TransferDTO> transfers = transferService.getTransfers();
-
-        return RestResponse.status(RestResponse.Status.OK, transfers);
+    public RestResponse<List<TransferDTO>> getTransfers(HttpHeaders headers) {
+        return conditionalGet.collection(headers, TABLES, transferService::getTransfers);
     }
 }
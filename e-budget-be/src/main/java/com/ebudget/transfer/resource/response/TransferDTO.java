@@ -1,6 +1,7 @@
 package com.ebudget.transfer.resource.response;
 
 import com.ebudget.account.resource.response.AccountDTO;
+import com.ebudget.transfer.repository.TransferProjection;
 import com.ebudget.transfer.model.Transfer;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,4 +30,14 @@ public class TransferDTO {
         this.createdAt = transfer.getCreatedAt();
         this.updatedAt = transfer.getUpdatedAt();
     }
+
+    public TransferDTO(TransferProjection transfer) {
+        this.transferId = transfer.transferId();
+        this.transferDescription = transfer.transferDescription();
+        this.amount = transfer.amount();
+        this.fromAccount = new AccountDTO(transfer.fromAccount());
+        this.toAccount = new AccountDTO(transfer.toAccount());
+        this.createdAt = transfer.createdAt();
+        this.updatedAt = transfer.updatedAt();
+    }
 }
@@ -0,0 +1,35 @@
+package com.ebudget.transfer.service;
+
+import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.reactive.ReactiveReads;
+import com.ebudget.transfer.model.Transfer;
+import com.ebudget.transfer.repository.TransferReactiveRepository;
+import com.ebudget.transfer.resource.response.TransferDTO;
+import com.ebudget.transfer.service.interfaces.ITransferReactiveService;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@ApplicationScoped
+@RequiredArgsConstructor
+@IfBuildProperty(name = ReactiveReads.ENABLED, stringValue = "true")
+public class TransferReactiveService implements ITransferReactiveService {
+    private final TransferReactiveRepository transferReactiveRepository;
+
+    @Override
+    public Uni<TransferDTO> getTransfer(UUID transferId) {
+        return transferReactiveRepository.findById(transferId)
+                .onItem().ifNull().failWith(() -> new EntityNotFoundException(Transfer.class, transferId))
+                .map(TransferDTO::new);
+    }
+
+    @Override
+    public Uni<List<TransferDTO>> getTransfers() {
+        return transferReactiveRepository.listAll()
+                .map(transfers -> transfers.stream().map(TransferDTO::new).toList());
+    }
+}
@@ -2,7 +2,9 @@ package com.ebudget.transfer.service;
 
 import com.ebudget.account.model.Account;
 import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.core.concurrency.OptimisticRetry;
 import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.metrics.Measured;
 import com.ebudget.transfer.exception.RecipientAccountNotFoundException;
 import com.ebudget.transfer.exception.SenderAccountNotFoundException;
 import com.ebudget.transfer.model.Transfer;
@@ -20,12 +22,14 @@ import java.util.Map;
 import java.util.UUID;
 
 @ApplicationScoped
+@Measured
 @RequiredArgsConstructor
 public class TransferService implements ITransferService {
     private final TransferRepository transferRepository;
     private final AccountRepository accountRepository;
 
     @Override
+    @OptimisticRetry
     @Transactional
     public TransferDTO addTransfer(NewTransferDTO newTransferDTO) {
         Account senderBankAccount = accountRepository.findById(newTransferDTO.fromAccount());
@@ -53,12 +57,13 @@ public class TransferService implements ITransferService {
                 .toAccount(recipientBankAccount)
                 .build();
 
-        transferRepository.persistAndFlush(transfer);
+        transferRepository.persist(transfer);
 
         return new TransferDTO(transfer);
     }
 
     @Override
+    @OptimisticRetry
     @Transactional
     public void deleteTransfer(UUID transferId) {
         Transfer transfer = transferRepository.findById(transferId);
@@ -84,16 +89,16 @@ public class TransferService implements ITransferService {
     }
 
     @Override
-    public List<TransferDTO> getTransfers() {
-        List<Transfer> transfers = transferRepository.listAll();
+    public String getTransferTag(UUID transferId) {
+        return transferRepository.findTag(transferId);
+    }
 
-        return transfers.stream()
-                .map(TransferDTO::new)
-                .toList();
+    @Override
+    public List<TransferDTO> getTransfers() {
+        return transferRepository.listAllProjected().stream().map(TransferDTO::new).toList();
     }
 
     private void processTransfer(Account senderBankAccount, Account recipientBankAccount, BigDecimal amount) {
-        senderBankAccount.withdraw(amount);
-        recipientBankAccount.deposit(amount);
+        accountRepository.withdrawAndDeposit(senderBankAccount, amount, recipientBankAccount, amount);
     }
 }
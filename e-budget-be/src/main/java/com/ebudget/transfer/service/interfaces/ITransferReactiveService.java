@@ -0,0 +1,12 @@
+package com.ebudget.transfer.service.interfaces;
+
+import com.ebudget.transfer.resource.response.TransferDTO;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ITransferReactiveService {
+    Uni<TransferDTO> getTransfer(UUID transferId);
+    Uni<List<TransferDTO>> getTransfers();
+}
@@ -10,5 +10,6 @@ public interface ITransferService {
     TransferDTO addTransfer(NewTransferDTO newTransferDTO);
     void deleteTransfer(UUID transferId);
     TransferDTO getTransfer(UUID transferId);
+    String getTransferTag(UUID transferId);
     List<TransferDTO> getTransfers();
 }
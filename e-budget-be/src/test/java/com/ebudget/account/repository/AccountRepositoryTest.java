@@ -0,0 +1,148 @@
+package com.ebudget.account.repository;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.model.enums.FinancialInstitution;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@DisplayName("Account Repository")
+class AccountRepositoryTest {
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 100;
+
+    @Inject
+    AccountRepository accountRepository;
+
+    private Account sampleAccount;
+    private Account otherAccount;
+
+    @BeforeEach
+    @Transactional
+    void setup() {
+        sampleAccount = Account.builder()
+                .financialInstitution(FinancialInstitution.NONE)
+                .accountName("accountName")
+                .accountType(AccountType.BANK_ACCOUNT)
+                .initialBalance(new BigDecimal("1000.00"))
+                .balance(new BigDecimal("1000.00"))
+                .build();
+        accountRepository.persistAndFlush(sampleAccount);
+
+        otherAccount = Account.builder()
+                .financialInstitution(FinancialInstitution.NONE)
+                .accountName("otherAccountName")
+                .accountType(AccountType.BANK_ACCOUNT)
+                .initialBalance(new BigDecimal("1000.00"))
+                .balance(new BigDecimal("1000.00"))
+                .build();
+        accountRepository.persistAndFlush(otherAccount);
+    }
+
+    @AfterEach
+    @Transactional
+    void destroy() {
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should keep an exact balance under concurrent deposits and withdrawals")
+    void shouldKeepExactBalanceUnderConcurrentUpdates() throws Exception {
+        // given
+        UUID accountId = sampleAccount.getAccountId();
+
+        // when
+        hammer(thread -> {
+            Account account = accountRepository.findById(accountId);
+
+            if(thread % 2 == 0) {
+                accountRepository.deposit(account, new BigDecimal("1.25"));
+            } else {
+                accountRepository.withdraw(account, new BigDecimal("0.75"));
+            }
+        });
+
+        // then
+        BigDecimal deposits = new BigDecimal("1.25").multiply(BigDecimal.valueOf(THREADS / 2 * OPERATIONS_PER_THREAD));
+        BigDecimal withdrawals = new BigDecimal("0.75").multiply(BigDecimal.valueOf(THREADS / 2 * OPERATIONS_PER_THREAD));
+
+        assertThat(balanceOf(accountId)).isEqualTo(new BigDecimal("1000.00").add(deposits).subtract(withdrawals));
+    }
+
+    @Test
+    @DisplayName("Should keep exact balances under concurrent opposite transfers")
+    void shouldKeepExactBalancesUnderConcurrentOppositeTransfers() throws Exception {
+        // given
+        UUID sampleAccountId = sampleAccount.getAccountId();
+        UUID otherAccountId = otherAccount.getAccountId();
+
+        // when
+        hammer(thread -> {
+            Account from = accountRepository.findById(thread % 2 == 0 ? sampleAccountId : otherAccountId);
+            Account to = accountRepository.findById(thread % 2 == 0 ? otherAccountId : sampleAccountId);
+
+            accountRepository.withdrawAndDeposit(from, new BigDecimal("2.00"), to, new BigDecimal("2.00"));
+        });
+
+        // then
+        assertThat(balanceOf(sampleAccountId)).isEqualTo(new BigDecimal("1000.00"));
+        assertThat(balanceOf(otherAccountId)).isEqualTo(new BigDecimal("1000.00"));
+    }
+
+    private void hammer(ThreadOperation operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for(int thread = 0; thread < THREADS; thread++) {
+                int current = thread;
+
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    for(int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        QuarkusTransaction.requiringNew().run(() -> operation.run(current));
+                    }
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for(Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private BigDecimal balanceOf(UUID accountId) {
+        return QuarkusTransaction.requiringNew().call(() -> accountRepository.findById(accountId).getBalance());
+    }
+
+    @FunctionalInterface
+    private interface ThreadOperation {
+        void run(int thread);
+    }
+}
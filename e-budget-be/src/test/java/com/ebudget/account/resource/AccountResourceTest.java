@@ -3,16 +3,20 @@ package com.ebudget.account.resource;
 import com.ebudget.account.model.Account;
 import com.ebudget.account.model.enums.FinancialInstitution;
 import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.repository.AccountLedgerRepository;
 import com.ebudget.account.repository.AccountRepository;
 import com.ebudget.account.resource.request.NewAccountDTO;
 import com.ebudget.account.resource.request.UpdateAccountDTO;
+import com.ebudget.account.resource.response.AccountBalanceDTO;
 import com.ebudget.account.resource.response.AccountDTO;
+import com.ebudget.core.statistics.SqlStatementCounter;
 import io.quarkus.test.common.http.TestHTTPEndpoint;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.http.ContentType;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +30,7 @@ import java.util.UUID;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 
 @QuarkusTest
 @DisplayName("Account Resource")
@@ -33,6 +38,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 class AccountResourceTest {
     @Inject
     AccountRepository accountRepository;
+    @Inject
+    AccountLedgerRepository accountLedgerRepository;
+    @Inject
+    SqlStatementCounter sqlStatementCounter;
 
     private Account sampleAccount;
 
@@ -92,6 +101,33 @@ class AccountResourceTest {
         assertThat(response.getUpdatedAt()).isInstanceOf(LocalDateTime.class);
     }
 
+    @Test
+    @DisplayName("Should add a new account with a single insert at commit")
+    void shouldAddAccountWithSingleInsert() {
+        NewAccountDTO newAccountDTO = new NewAccountDTO(
+                FinancialInstitution.NONE,
+                "otherAccountName",
+                AccountType.BANK_ACCOUNT,
+                new BigDecimal("10.00")
+        );
+        sqlStatementCounter.reset();
+
+        AccountDTO response = given()
+            .contentType(ContentType.JSON)
+            .body(newAccountDTO)
+        .when()
+            .post()
+        .then()
+            .statusCode(Response.Status.CREATED.getStatusCode())
+            .extract()
+            .as(new TypeRef<AccountDTO>() {});
+
+        assertThat(response.getAccountId()).isNotNull();
+        assertThat(response.getCreatedAt()).isNotNull();
+        assertThat(sqlStatementCounter.flushes()).isEqualTo(1);
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Should update an account")
     void shouldUpdateAnAccount() {
@@ -157,6 +193,113 @@ class AccountResourceTest {
         assertThat(response.getFirst().getUpdatedAt()).isEqualTo(sampleAccount.getUpdatedAt());
     }
 
+    @Test
+    @DisplayName("Should answer a conditional get of an account with not modified until it changes")
+    void shouldGetAnAccountConditionally() {
+        String path = String.valueOf(sampleAccount.getAccountId());
+        String tag = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get(path)
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .header(HttpHeaders.ETAG);
+
+        given()
+            .contentType(ContentType.JSON)
+            .header(HttpHeaders.IF_NONE_MATCH, tag)
+        .when()
+            .get(path)
+        .then()
+            .statusCode(Response.Status.NOT_MODIFIED.getStatusCode())
+            .header(HttpHeaders.ETAG, tag);
+
+        deposit(new BigDecimal("10.00"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .header(HttpHeaders.IF_NONE_MATCH, tag)
+        .when()
+            .get(path)
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .header(HttpHeaders.ETAG, not(tag));
+    }
+
+    @Test
+    @DisplayName("Should answer a conditional get of all accounts with not modified until one changes")
+    void shouldGetAllAccountsConditionally() {
+        String tag = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .header(HttpHeaders.ETAG);
+
+        given()
+            .contentType(ContentType.JSON)
+            .header(HttpHeaders.IF_NONE_MATCH, tag)
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.NOT_MODIFIED.getStatusCode());
+
+        deposit(new BigDecimal("10.00"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .header(HttpHeaders.IF_NONE_MATCH, tag)
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .header(HttpHeaders.ETAG, not(tag));
+    }
+
+    @Test
+    @DisplayName("Should get the balance as of a date from snapshots and the ledger")
+    void shouldGetBalanceAsOf() {
+        deposit(new BigDecimal("50.00"));
+        snapshot();
+        deposit(new BigDecimal("25.00"));
+
+        AccountBalanceDTO current = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get(sampleAccount.getAccountId() + "/balance")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<AccountBalanceDTO>() {});
+
+        AccountBalanceDTO beforeCreation = given()
+            .contentType(ContentType.JSON)
+            .queryParam("asOf", LocalDateTime.now().minusDays(1).toString())
+        .when()
+            .get(sampleAccount.getAccountId() + "/balance")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<AccountBalanceDTO>() {});
+
+        assertThat(current.getBalance()).isEqualTo(new BigDecimal("75.00"));
+        assertThat(beforeCreation.getBalance()).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    @Test
+    @DisplayName("Should return not found on get the balance of a non-existing account")
+    void shouldReturnNotFoundOnGetBalanceNonExistingAccount() {
+        given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get(UUID.randomUUID() + "/balance")
+        .then()
+            .statusCode(Response.Status.NOT_FOUND.getStatusCode());
+    }
+
     @Test
     @DisplayName("Should delete an account")
     void shouldDeleteAccount() {
@@ -167,4 +310,14 @@ class AccountResourceTest {
         .then()
             .statusCode(Response.Status.OK.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Transactional
+    void deposit(BigDecimal amount) {
+        accountRepository.deposit(accountRepository.findById(sampleAccount.getAccountId()), amount);
+    }
+
+    @Transactional
+    void snapshot() {
+        accountLedgerRepository.snapshot(LocalDateTime.now());
+    }
+}
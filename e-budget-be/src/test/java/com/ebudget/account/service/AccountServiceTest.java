@@ -3,9 +3,12 @@ package com.ebudget.account.service;
 import com.ebudget.account.model.Account;
 import com.ebudget.account.model.enums.FinancialInstitution;
 import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.repository.AccountLedgerRepository;
+import com.ebudget.account.repository.AccountProjection;
 import com.ebudget.account.repository.AccountRepository;
 import com.ebudget.account.resource.request.NewAccountDTO;
 import com.ebudget.account.resource.request.UpdateAccountDTO;
+import com.ebudget.account.resource.response.AccountBalanceDTO;
 import com.ebudget.account.resource.response.AccountDTO;
 import com.ebudget.core.exceptions.EntityNotFoundException;
 import io.quarkus.test.InjectMock;
@@ -36,6 +39,8 @@ class AccountServiceTest {
     AccountService accountService;
     @InjectMock
     AccountRepository accountRepository;
+    @InjectMock
+    AccountLedgerRepository accountLedgerRepository;
 
     private UUID sampleAccountId;
     private Account sampleAccount;
@@ -66,7 +71,7 @@ class AccountServiceTest {
                 new BigDecimal("0.0")
         );
 
-        doNothing().when(accountRepository).persistAndFlush(any(Account.class));
+        doNothing().when(accountRepository).persist(any(Account.class));
 
         // when
         AccountDTO account = accountService.addAccount(newAccountDTO);
@@ -79,7 +84,7 @@ class AccountServiceTest {
         assertThat(account.getInitialBalance()).isEqualTo(newAccountDTO.initialBalance());
         assertThat(account.getBalance()).isEqualTo(newAccountDTO.initialBalance());
 
-        verify(accountRepository, times(1)).persistAndFlush(any(Account.class));
+        verify(accountRepository, times(1)).persist(any(Account.class));
     }
 
     @Test
@@ -161,11 +166,44 @@ class AccountServiceTest {
         verify(accountRepository, times(1)).findById(any(UUID.class));
     }
 
+    @Test
+    @DisplayName("Should get the balance of an account as of a date")
+    void shouldGetBalance() {
+        // given
+        LocalDateTime asOf = LocalDateTime.now().minusDays(1);
+
+        when(accountLedgerRepository.balanceAsOf(sampleAccountId, asOf)).thenReturn(new BigDecimal("10.00"));
+
+        // when
+        AccountBalanceDTO balance = accountService.getBalance(sampleAccountId, asOf);
+
+        // then
+        assertThat(balance.getAccountId()).isEqualTo(sampleAccountId);
+        assertThat(balance.getAsOf()).isEqualTo(asOf);
+        assertThat(balance.getBalance()).isEqualTo(new BigDecimal("10.00"));
+
+        verify(accountLedgerRepository, times(1)).balanceAsOf(sampleAccountId, asOf);
+    }
+
+    @Test
+    @DisplayName("Should throw exception on get the balance of a non-existing account")
+    void shouldThrowExceptionOnGetBalanceNonExistingAccount() {
+        // given
+        when(accountLedgerRepository.balanceAsOf(any(UUID.class), any(LocalDateTime.class))).thenReturn(null);
+
+        // when / then
+        assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(() -> {
+            accountService.getBalance(sampleAccountId, null);
+        });
+
+        verify(accountLedgerRepository, times(1)).balanceAsOf(any(UUID.class), any(LocalDateTime.class));
+    }
+
     @Test
     @DisplayName("Should get all accounts")
     void shouldGetAllAccounts() {
         // given
-        when(accountRepository.listAll()).thenReturn(List.of(sampleAccount));
+        when(accountRepository.listAllProjected()).thenReturn(List.of(getAccountProjection(sampleAccount)));
 
         // when
         List<AccountDTO> accounts = accountService.getAccounts();
@@ -173,7 +211,7 @@ class AccountServiceTest {
         // then
         assertThat(accounts).hasSize(1);
 
-        verify(accountRepository, times(1)).listAll();
+        verify(accountRepository, times(1)).listAllProjected();
     }
 
     @Test
@@ -203,4 +241,17 @@ class AccountServiceTest {
 
         verify(accountRepository, times(1)).findById(any(UUID.class));
     }
+
+    private AccountProjection getAccountProjection(Account account) {
+        return new AccountProjection(
+                account.getAccountId(),
+                account.getFinancialInstitution(),
+                account.getAccountName(),
+                account.getAccountType(),
+                account.getInitialBalance(),
+                account.getBalance(),
+                account.getCreatedAt(),
+                account.getUpdatedAt()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.ebudget.benchmark.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Read-heavy throughput of {@code GET /account/{id}} and {@code GET /budget/{id}} against a running
+ * instance. Run it once against an instance started with the second-level cache on (the default) and
+ * once with it off, e.g. {@code ./mvnw quarkus:dev -Dquarkus.hibernate-orm.second-level-caching-enabled=false},
+ * and compare the scores. Cached entries are dropped every {@code e-budget.cache.max-staleness}, so keep the
+ * iterations well above it. The instance is found through {@code E_BUDGET_BENCH_URL}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(8)
+@Fork(1)
+public class EntityReadBenchmark {
+    private static final Pattern ID = Pattern.compile("\"(accountId|categoryId|budgetId)\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+
+    @Param({"account", "budget"})
+    public String resource;
+
+    private HttpClient client;
+    private String baseUrl;
+    private String accountId;
+    private String categoryId;
+    private String budgetId;
+    private HttpRequest read;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, InterruptedException {
+        String url = System.getenv("E_BUDGET_BENCH_URL");
+        baseUrl = url == null ? "http://localhost:8080" : url;
+        client = HttpClient.newHttpClient();
+
+        accountId = post("/account", """
+                {"financialInstitution": "NONE", "accountName": "benchmark", "accountType": "BANK_ACCOUNT", "initialBalance": 0}""");
+        categoryId = post("/category", """
+                {"categoryName": "benchmark"}""");
+
+        YearMonth month = YearMonth.now();
+        budgetId = post("/budget", """
+                {"budgetMonth": %d, "budgetYear": %d, "categoryId": "%s", "monthlyBudget": 100}"""
+                .formatted(month.getMonthValue(), month.getYear(), categoryId));
+
+        String id = "account".equals(resource) ? accountId : budgetId;
+        read = HttpRequest.newBuilder(URI.create(baseUrl + "/" + resource + "/" + id)).GET().build();
+    }
+
+    @Benchmark
+    public int read() throws IOException, InterruptedException {
+        return client.send(read, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        delete("/budget/" + budgetId);
+        delete("/category/" + categoryId);
+        delete("/account/" + accountId);
+    }
+
+    private String post(String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        String response = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = ID.matcher(response);
+
+        if(!matcher.find()) {
+            throw new IllegalStateException("Unexpected response from " + path + ": " + response);
+        }
+
+        return matcher.group(2);
+    }
+
+    private void delete(String path) throws IOException, InterruptedException {
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).DELETE().build(), HttpResponse.BodyHandlers.discarding());
+    }
+}
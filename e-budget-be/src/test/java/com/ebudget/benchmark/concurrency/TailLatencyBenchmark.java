@@ -0,0 +1,158 @@
+package com.ebudget.benchmark.concurrency;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Latency distribution of the blocking endpoints with {@value #CONCURRENCY} requests in flight. JMH reports
+ * p50 to p99.99 per endpoint; run it once against an instance started with {@code E_BUDGET_VIRTUAL_THREADS=true}
+ * and once with {@code false}, with the same {@code E_BUDGET_DB_POOL_SIZE}, and compare the tails. Requests
+ * rejected by the connection bulkhead ({@code 503}) are reported as the {@code rejected} secondary result.
+ * The instance is found through {@code E_BUDGET_BENCH_URL}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 20)
+@Threads(TailLatencyBenchmark.CONCURRENCY)
+@Fork(1)
+public class TailLatencyBenchmark {
+    static final int CONCURRENCY = 512;
+    private static final int EXPENSES = 1_000;
+    private static final Pattern ID = Pattern.compile("\"(accountId|categoryId|budgetId)\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+    private static final Pattern EXPENSE_ID = Pattern.compile("\"expenseId\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+
+    @Param({"expense", "budget", "account"})
+    public String resource;
+
+    private HttpClient client;
+    private String baseUrl;
+    private String accountId;
+    private String categoryId;
+    private String budgetId;
+    private HttpRequest read;
+
+    /**
+     * Requests of one thread rejected during an iteration, summed by JMH over threads and measurement iterations.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Rejections {
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rejected = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, InterruptedException {
+        String url = System.getenv("E_BUDGET_BENCH_URL");
+        baseUrl = url == null ? "http://localhost:8080" : url;
+        client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        accountId = post("/account", """
+                {"financialInstitution": "NONE", "accountName": "benchmark", "accountType": "BANK_ACCOUNT", "initialBalance": 0}""");
+        categoryId = post("/category", """
+                {"categoryName": "benchmark"}""");
+        YearMonth month = YearMonth.now();
+        budgetId = post("/budget", """
+                {"budgetMonth": %d, "budgetYear": %d, "categoryId": "%s", "monthlyBudget": 100}"""
+                .formatted(month.getMonthValue(), month.getYear(), categoryId));
+
+        StringBuilder expenses = new StringBuilder("[");
+        for(int row = 0; row < EXPENSES; row++) {
+            expenses.append(row == 0 ? "" : ",").append("""
+                    {"expenseDescription": "benchmark", "expenseMonth": %d, "expenseYear": %d, "amount": 1, "categoryId": "%s", "accountId": "%s", "date": "%s"}"""
+                    .formatted(month.getMonthValue(), month.getYear(), categoryId, accountId, LocalDate.now()));
+        }
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/expense/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(expenses.append("]").toString()))
+                .build(), HttpResponse.BodyHandlers.discarding());
+
+        String path = switch(resource) {
+            case "expense" -> "/expense?accountId=" + accountId;
+            case "budget" -> "/budget/" + budgetId;
+            default -> "/account";
+        };
+        read = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    @Benchmark
+    public int read(Rejections rejections) throws IOException, InterruptedException {
+        int status = client.send(read, HttpResponse.BodyHandlers.discarding()).statusCode();
+
+        if(status == 503) {
+            rejections.rejected++;
+        }
+
+        return status;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        // Expense pages hold at most 500 rows
+        for(int pass = 0; pass <= EXPENSES / 500; pass++) {
+            String page = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/expense?size=500&accountId=" + accountId)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            Matcher matcher = EXPENSE_ID.matcher(page);
+
+            while(matcher.find()) {
+                delete("/expense/" + matcher.group(1));
+            }
+        }
+
+        delete("/budget/" + budgetId);
+        delete("/category/" + categoryId);
+        delete("/account/" + accountId);
+    }
+
+    private String post(String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        String response = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = ID.matcher(response);
+
+        if(!matcher.find()) {
+            throw new IllegalStateException("Unexpected response from " + path + ": " + response);
+        }
+
+        return matcher.group(2);
+    }
+
+    private void delete(String path) throws IOException, InterruptedException {
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).DELETE().build(), HttpResponse.BodyHandlers.discarding());
+    }
+}
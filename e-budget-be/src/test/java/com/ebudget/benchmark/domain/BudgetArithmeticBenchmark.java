@@ -0,0 +1,78 @@
+package com.ebudget.benchmark.domain;
+
+import com.ebudget.budget.model.Budget;
+import com.ebudget.budget.resource.request.UpdateBudgetDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the budget usage arithmetic, whose percentage is a {@link BigDecimal} division rounded
+ * {@code HALF_UP}. Account balances are adjusted by the database and have no Java counterpart to measure.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BudgetArithmeticBenchmark {
+    private static final BigDecimal AMOUNT = new BigDecimal("12.34");
+    private static final BigDecimal PENDING_USAGE = new BigDecimal("56.78");
+    // Adding and subtracting measured about 22 ns, so one 2 s iteration moves the usage by about 1.1e9. Starting
+    // half used, the usage stays inside the budget with ten times that margin either way
+    private static final BigDecimal MONTHLY_BUDGET = new BigDecimal("100000000000.00");
+    private static final BigDecimal MONTHLY_BUDGET_USED = new BigDecimal("50000000000.00");
+    private static final UpdateBudgetDTO UPDATE = new UpdateBudgetDTO(6, 2025, MONTHLY_BUDGET);
+
+    private Budget budget;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        budget = Budget.builder()
+                .budgetMonth(6)
+                .budgetYear(2025)
+                .monthlyBudget(MONTHLY_BUDGET)
+                .monthlyBudgetUsed(MONTHLY_BUDGET_USED)
+                .monthlyBudgetUsedPercentage(Budget.usedPercentage(MONTHLY_BUDGET_USED, MONTHLY_BUDGET))
+                .monthlyBudgetBalance(MONTHLY_BUDGET.subtract(MONTHLY_BUDGET_USED))
+                .build();
+    }
+
+    @Benchmark
+    public Budget subtract() {
+        budget.subtract(AMOUNT);
+
+        return budget;
+    }
+
+    @Benchmark
+    public Budget add() {
+        budget.add(AMOUNT);
+
+        return budget;
+    }
+
+    @Benchmark
+    public Budget update() {
+        budget.update(UPDATE);
+
+        return budget;
+    }
+
+    @Benchmark
+    public Budget withPendingUsage() {
+        return budget.withPendingUsage(PENDING_USAGE);
+    }
+}
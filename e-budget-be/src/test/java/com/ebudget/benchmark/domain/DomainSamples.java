@@ -0,0 +1,54 @@
+package com.ebudget.benchmark.domain;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.model.enums.FinancialInstitution;
+import com.ebudget.category.model.Category;
+import com.ebudget.core.id.UuidV7Generator;
+import com.ebudget.expense.model.Expense;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+final class DomainSamples {
+    private DomainSamples() {
+    }
+
+    static Account account() {
+        return Account.builder()
+                .accountId(UuidV7Generator.next())
+                .financialInstitution(FinancialInstitution.NONE)
+                .accountName("accountName")
+                .accountType(AccountType.BANK_ACCOUNT)
+                .initialBalance(new BigDecimal("100.00"))
+                .balance(new BigDecimal("1234.56"))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    static Category category() {
+        return Category.builder()
+                .categoryId(UuidV7Generator.next())
+                .categoryName("categoryName")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    static Expense expense(Account account, Category category) {
+        return Expense.builder()
+                .expenseId(UuidV7Generator.next())
+                .expenseDescription("expenseDescription")
+                .expenseMonth(6)
+                .expenseYear(2025)
+                .amount(new BigDecimal("12.34"))
+                .category(category)
+                .account(account)
+                .date(LocalDate.of(2025, 6, 27))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
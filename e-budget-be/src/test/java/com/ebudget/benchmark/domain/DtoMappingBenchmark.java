@@ -0,0 +1,48 @@
+package com.ebudget.benchmark.domain;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.account.resource.response.AccountDTO;
+import com.ebudget.expense.model.Expense;
+import com.ebudget.expense.resource.response.ExpenseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of copying loaded entities into their response DTOs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+    private Account account;
+    private Expense expense;
+
+    @Setup
+    public void setup() {
+        account = DomainSamples.account();
+        expense = DomainSamples.expense(account, DomainSamples.category());
+    }
+
+    @Benchmark
+    public AccountDTO accountDTO() {
+        return new AccountDTO(account);
+    }
+
+    @Benchmark
+    public ExpenseDTO expenseDTO() {
+        return new ExpenseDTO(expense);
+    }
+}
@@ -0,0 +1,88 @@
+package com.ebudget.benchmark.domain;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.core.exceptions.EBudgetException;
+import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.response.ExceptionDTO;
+import com.ebudget.core.response.ExceptionDTOWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.ws.rs.core.MediaType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the error path: raising a domain exception and turning it into its response body, written
+ * either by {@link ExceptionDTOWriter} or by Jackson as before it. {@code stackTrace} raises an exception that
+ * records its stack, for comparison with the stackless domain exceptions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionBenchmark {
+    private UUID accountId;
+    private EBudgetException exception;
+    private ExceptionDTOWriter exceptionDTOWriter;
+    private ObjectWriter jacksonWriter;
+    private ByteArrayOutputStream output;
+
+    @Setup
+    public void setup() {
+        accountId = UUID.randomUUID();
+        exception = new EntityNotFoundException(Account.class, accountId);
+        exceptionDTOWriter = new ExceptionDTOWriter();
+        jacksonWriter = new ObjectMapper().writerFor(ExceptionDTO.class);
+        output = new ByteArrayOutputStream(256);
+    }
+
+    @Benchmark
+    public EBudgetException create() {
+        return new EntityNotFoundException(Account.class, accountId);
+    }
+
+    @Benchmark
+    public RuntimeException stackTrace() {
+        return new RuntimeException("Account not found");
+    }
+
+    @Benchmark
+    public ExceptionDTO get() {
+        return exception.get();
+    }
+
+    @Benchmark
+    public ExceptionDTO createAndGet() {
+        return new EntityNotFoundException(Account.class, accountId).get();
+    }
+
+    @Benchmark
+    public int createAndWrite() throws IOException {
+        output.reset();
+        exceptionDTOWriter.writeTo(new EntityNotFoundException(Account.class, accountId).get(), ExceptionDTO.class,
+                ExceptionDTO.class, null, MediaType.APPLICATION_JSON_TYPE, null, output);
+
+        return output.size();
+    }
+
+    @Benchmark
+    public byte[] createAndSerialize() throws JsonProcessingException {
+        return jacksonWriter.writeValueAsBytes(new EntityNotFoundException(Account.class, accountId).get());
+    }
+}
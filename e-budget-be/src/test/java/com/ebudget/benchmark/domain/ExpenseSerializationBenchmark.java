@@ -0,0 +1,62 @@
+package com.ebudget.benchmark.domain;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.category.model.Category;
+import com.ebudget.expense.resource.response.ExpenseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of an expense listing, configured as Quarkus configures its object mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpenseSerializationBenchmark {
+    @Param({"50", "500", "5000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<ExpenseDTO> expenses;
+
+    @Setup
+    public void setup() {
+        Account account = DomainSamples.account();
+        Category category = DomainSamples.category();
+        expenses = new ArrayList<>(size);
+
+        for(int index = 0; index < size; index++) {
+            expenses.add(new ExpenseDTO(DomainSamples.expense(account, category)));
+        }
+
+        writer = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writerFor(List.class);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(expenses);
+    }
+}
@@ -0,0 +1,166 @@
+package com.ebudget.benchmark.id;
+
+import com.ebudget.core.id.UuidV7Generator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput into a large table keyed by random (v4) versus time-ordered (v7) UUIDs.
+ * The table is shaped like {@code expense} and preloaded before measuring, so v4 keys hit
+ * primary key pages that are no longer cached while v7 keys keep appending to the rightmost leaf.
+ * The primary key growth and the WAL written while measuring are reported as the {@code pkeyBytes} and
+ * {@code walBytes} secondary results.
+ *
+ * <p>Needs a disposable local PostgreSQL database:
+ * {@code ./mvnw test -Pbenchmark -Dbenchmark=UuidInsertBenchmark}, with
+ * {@code E_BUDGET_BENCH_DB_URL}, {@code E_BUDGET_BENCH_DB_USERNAME} and {@code E_BUDGET_BENCH_DB_PASSWORD}
+ * pointing at it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidInsertBenchmark {
+    private static final int BATCH_SIZE = 500;
+    private static final String TABLE = "uuid_insert_benchmark";
+    private static final String INSERT = "insert into " + TABLE + " (id, description, amount, date) values (?, ?, ?, ?)";
+
+    @Param({"v4", "v7"})
+    public String version;
+
+    @Param({"5000000"})
+    public int preloadRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+
+    /**
+     * Bytes the primary key grew by and WAL bytes written during each iteration, summed by JMH over the
+     * measurement iterations.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Growth {
+        public long pkeyBytes;
+        public long walBytes;
+        private long pkeyStart;
+        private long walStart;
+
+        @Setup(Level.Iteration)
+        public void start(UuidInsertBenchmark benchmark) throws SQLException {
+            pkeyStart = benchmark.pkeySize();
+            walStart = benchmark.walPosition();
+        }
+
+        @TearDown(Level.Iteration)
+        public void end(UuidInsertBenchmark benchmark) throws SQLException {
+            pkeyBytes = benchmark.pkeySize() - pkeyStart;
+            walBytes = benchmark.walPosition() - walStart;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("E_BUDGET_BENCH_DB_URL", "jdbc:postgresql://localhost:5432/ebudget_bench?reWriteBatchedInserts=true"),
+                env("E_BUDGET_BENCH_DB_USERNAME", "postgres"),
+                env("E_BUDGET_BENCH_DB_PASSWORD", "postgres")
+        );
+        ids = "v7".equals(version) ? UuidV7Generator::next : UUID::randomUUID;
+
+        try(Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + TABLE);
+            statement.execute("create table " + TABLE + " (id uuid primary key, description varchar(255), amount decimal(10, 2), date date)");
+        }
+
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement(INSERT);
+
+        for(int loaded = 0; loaded < preloadRows; loaded += BATCH_SIZE) {
+            insertBatch();
+        }
+
+        try(Statement statement = connection.createStatement()) {
+            statement.execute("checkpoint");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insert(Growth growth) throws SQLException {
+        insertBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try(Statement statement = connection.createStatement()) {
+            statement.execute("drop table " + TABLE);
+        }
+
+        connection.commit();
+        insert.close();
+        connection.close();
+    }
+
+    private void insertBatch() throws SQLException {
+        for(int row = 0; row < BATCH_SIZE; row++) {
+            insert.setObject(1, ids.get());
+            insert.setString(2, "expenseDescription");
+            insert.setBigDecimal(3, BigDecimal.TEN);
+            insert.setObject(4, LocalDate.now());
+            insert.addBatch();
+        }
+
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    long pkeySize() throws SQLException {
+        return queryLong("select pg_relation_size('" + TABLE + "_pkey')");
+    }
+
+    long walPosition() throws SQLException {
+        return queryLong("select pg_current_wal_lsn() - '0/0'::pg_lsn");
+    }
+
+    private long queryLong(String sql) throws SQLException {
+        try(Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+
+        return value == null ? fallback : value;
+    }
+}
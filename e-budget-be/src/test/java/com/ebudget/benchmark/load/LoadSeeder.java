@@ -0,0 +1,167 @@
+package com.ebudget.benchmark.load;
+
+import org.flywaydb.core.Flyway;
+import org.jboss.logging.Logger;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Year;
+
+/**
+ * Migrates a local PostgreSQL database with the e-budget-db scripts, as the test profile does, and fills it
+ * with generated data when it holds no accounts yet. Volumes come from the environment:
+ * {@code E_BUDGET_LOAD_ACCOUNTS} (100k), {@code E_BUDGET_LOAD_CATEGORIES} (200), {@code E_BUDGET_LOAD_EXPENSES} (10M)
+ * and {@code E_BUDGET_LOAD_YEARS} (5, ending with the current one). Incomes and transfers are a tenth of the expenses
+ * and every category gets a budget for every month. Balances and budget usage are reconciled with the generated rows.
+ */
+final class LoadSeeder {
+    private static final Logger LOGGER = Logger.getLogger(LoadSeeder.class);
+    private static final String MIGRATIONS = "filesystem:../e-budget-db/src/main/resources/db/migration";
+    private static final long CHUNK = 1_000_000;
+    private static final String ACCOUNTS = """
+            INSERT INTO account (account_id, account_name, account_type, initial_balance, balance)
+            SELECT gen_random_uuid(), 'account ' || i, 'BANK_ACCOUNT', 1000, 1000 FROM generate_series(1, ?) i""";
+    private static final String CATEGORIES = """
+            INSERT INTO category (category_id, category_name)
+            SELECT gen_random_uuid(), 'category ' || i FROM generate_series(1, ?) i""";
+    private static final String BUDGETS = """
+            INSERT INTO budget (budget_id, budget_month, budget_year, category_id, monthly_budget, monthly_budget_used,
+                                monthly_budget_used_percentage, monthly_budget_balance)
+            SELECT gen_random_uuid(), m, y, category_id, 100000, 0, 0, 100000
+            FROM category, generate_series(1, 12) m, generate_series(?, ?) y""";
+    private static final String PARTITIONS = "SELECT create_expense_partition(partition_year) FROM generate_series(?, ?) partition_year";
+    private static final String EXPENSES = """
+            WITH a AS (SELECT array_agg(account_id) ids, count(*) n FROM account),
+                 c AS (SELECT array_agg(category_id) ids, count(*) n FROM category),
+                 s AS (SELECT i, make_date(?, 1, 1) + (random() * ?)::int AS d FROM generate_series(?, ?) i)
+            INSERT INTO expense (expense_id, expense_description, expense_month, expense_year, amount, category_id, account_id, date)
+            SELECT gen_random_uuid(), 'expense ' || i, extract(MONTH FROM d), extract(YEAR FROM d), round((random() * 100)::numeric, 2),
+                   CASE WHEN i % 20 = 0 THEN NULL ELSE c.ids[1 + floor(random() * c.n)::int] END, a.ids[1 + floor(random() * a.n)::int], d
+            FROM s, a, c""";
+    private static final String INCOMES = """
+            WITH a AS (SELECT array_agg(account_id) ids, count(*) n FROM account)
+            INSERT INTO income (income_id, income_description, amount, account_id)
+            SELECT gen_random_uuid(), 'income ' || i, round((random() * 500)::numeric, 2), a.ids[1 + floor(random() * a.n)::int]
+            FROM generate_series(?, ?) i, a""";
+    private static final String TRANSFERS = """
+            WITH a AS (SELECT array_agg(account_id) ids, count(*) n FROM account),
+                 s AS (SELECT i, floor(random() * (SELECT n FROM a))::int AS k FROM generate_series(?, ?) i)
+            INSERT INTO transfer (transfer_id, transfer_description, amount, from_account, to_account)
+            SELECT gen_random_uuid(), 'transfer ' || i, round((random() * 100)::numeric, 2), a.ids[1 + k], a.ids[1 + (k + 1) % a.n]
+            FROM s, a""";
+    private static final String RECONCILE_ACCOUNTS = """
+            UPDATE account a SET balance = a.initial_balance + coalesce(i.total, 0) + coalesce(ti.total, 0)
+                                         - coalesce(e.total, 0) - coalesce(tx.total, 0)
+            FROM account x
+            LEFT JOIN (SELECT account_id, sum(amount) total FROM expense GROUP BY account_id) e ON e.account_id = x.account_id
+            LEFT JOIN (SELECT account_id, sum(amount) total FROM income GROUP BY account_id) i ON i.account_id = x.account_id
+            LEFT JOIN (SELECT from_account, sum(amount) total FROM transfer GROUP BY from_account) tx ON tx.from_account = x.account_id
+            LEFT JOIN (SELECT to_account, sum(amount) total FROM transfer GROUP BY to_account) ti ON ti.to_account = x.account_id
+            WHERE a.account_id = x.account_id""";
+    // Generated movements bypass the ledger, so each account's net movement is recorded as one entry
+    private static final String LEDGER = """
+            INSERT INTO account_ledger (account_id, amount)
+            SELECT account_id, balance - initial_balance FROM account WHERE balance <> initial_balance""";
+    private static final String RECONCILE_BUDGETS = """
+            UPDATE budget b SET monthly_budget_used = e.total,
+                                monthly_budget_used_percentage = round(e.total * 100 / b.monthly_budget, 2),
+                                monthly_budget_balance = b.monthly_budget - e.total
+            FROM (SELECT category_id, expense_year, expense_month, sum(amount) total
+                  FROM expense WHERE category_id IS NOT NULL GROUP BY 1, 2, 3) e
+            WHERE b.category_id = e.category_id AND b.budget_year = e.expense_year AND b.budget_month = e.expense_month""";
+
+    private LoadSeeder() {
+    }
+
+    static Connection connect() throws SQLException {
+        return DriverManager.getConnection(url(), username(), password());
+    }
+
+    static void seed() throws SQLException {
+        Flyway.configure()
+                .dataSource(url(), username(), password())
+                .locations(MIGRATIONS)
+                .load()
+                .migrate();
+
+        try(Connection connection = connect()) {
+            if(hasAccounts(connection)) {
+                LOGGER.info("Database already seeded, reusing it");
+                return;
+            }
+
+            long expenses = volume("E_BUDGET_LOAD_EXPENSES", 10_000_000);
+            int years = (int) volume("E_BUDGET_LOAD_YEARS", 5);
+            int lastYear = Year.now().getValue();
+            int firstYear = lastYear - years + 1;
+            int days = Year.of(firstYear).atDay(1).until(Year.of(lastYear + 1).atDay(1)).getDays() - 1;
+
+            execute(connection, ACCOUNTS, volume("E_BUDGET_LOAD_ACCOUNTS", 100_000));
+            execute(connection, CATEGORIES, volume("E_BUDGET_LOAD_CATEGORIES", 200));
+            execute(connection, BUDGETS, firstYear, lastYear);
+            execute(connection, PARTITIONS, firstYear, lastYear);
+
+            for(long from = 1; from <= expenses; from += CHUNK) {
+                execute(connection, EXPENSES, firstYear, days, from, Math.min(from + CHUNK - 1, expenses));
+                LOGGER.infof("Seeded %d of %d expenses", Math.min(from + CHUNK - 1, expenses), expenses);
+            }
+
+            for(long from = 1; from <= expenses / 10; from += CHUNK) {
+                execute(connection, INCOMES, from, Math.min(from + CHUNK - 1, expenses / 10));
+                execute(connection, TRANSFERS, from, Math.min(from + CHUNK - 1, expenses / 10));
+            }
+
+            execute(connection, RECONCILE_ACCOUNTS);
+            execute(connection, LEDGER);
+            execute(connection, RECONCILE_BUDGETS);
+            execute(connection, "ANALYZE");
+        }
+    }
+
+    private static boolean hasAccounts(Connection connection) throws SQLException {
+        try(Statement statement = connection.createStatement();
+            ResultSet result = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM account)")) {
+            result.next();
+
+            return result.getBoolean(1);
+        }
+    }
+
+    private static void execute(Connection connection, String sql, Object... parameters) throws SQLException {
+        try(PreparedStatement statement = connection.prepareStatement(sql)) {
+            for(int index = 0; index < parameters.length; index++) {
+                statement.setObject(index + 1, parameters[index]);
+            }
+
+            statement.execute();
+        }
+    }
+
+    private static long volume(String name, long fallback) {
+        String value = System.getenv(name);
+
+        return value == null ? fallback : Long.parseLong(value);
+    }
+
+    private static String url() {
+        return env("E_BUDGET_BENCH_DB_URL", "jdbc:postgresql://localhost:5432/ebudget_load");
+    }
+
+    private static String username() {
+        return env("E_BUDGET_BENCH_DB_USERNAME", "postgres");
+    }
+
+    private static String password() {
+        return env("E_BUDGET_BENCH_DB_PASSWORD", "postgres");
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+
+        return value == null ? fallback : value;
+    }
+}
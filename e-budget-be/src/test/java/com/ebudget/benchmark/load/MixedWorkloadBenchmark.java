@@ -0,0 +1,277 @@
+package com.ebudget.benchmark.load;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Production-like mixed load on every resource of an instance started separately against a database
+ * prepared by {@link LoadSeeder}. Each {@code @Benchmark} is one endpoint and its {@code @GroupThreads} is its
+ * share of the traffic, so JMH reports throughput and the p50/p99/p99.9 latency of every endpoint under the
+ * same load. Responses other than {@code 2xx} are counted per endpoint and reported as the {@code <endpoint>Failed}
+ * secondary results.
+ *
+ * <p>The harness writes through the API, so the database keeps growing across runs; recreate it to start over.
+ * The instance is found through {@code E_BUDGET_BENCH_URL} and the database through {@code E_BUDGET_BENCH_DB_URL},
+ * {@code E_BUDGET_BENCH_DB_USERNAME} and {@code E_BUDGET_BENCH_DB_PASSWORD}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 30)
+@Measurement(iterations = 5, time = 60)
+@Threads(MixedWorkloadBenchmark.GROUPS * MixedWorkloadBenchmark.GROUP_THREADS)
+@Fork(1)
+public class MixedWorkloadBenchmark {
+    // Four copies of the group below, which runs 20 threads
+    static final int GROUPS = 4;
+    static final int GROUP_THREADS = 20;
+    private static final int SAMPLE_SIZE = 10_000;
+
+    private HttpClient client;
+    private String baseUrl;
+    private List<String> accountIds;
+    private List<String> categoryIds;
+    private List<String> budgetIds;
+    private List<String> expenseIds;
+    private List<String> incomeIds;
+    private List<String> transferIds;
+
+    /**
+     * Failed requests of one thread during an iteration, summed by JMH over threads and measurement iterations.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Failures {
+        public long listExpensesFailed;
+        public long getExpenseFailed;
+        public long addExpenseFailed;
+        public long getBudgetFailed;
+        public long getAccountFailed;
+        public long getCategoryFailed;
+        public long listCategoriesFailed;
+        public long getIncomeFailed;
+        public long addIncomeFailed;
+        public long getTransferFailed;
+        public long addTransferFailed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            listExpensesFailed = 0;
+            getExpenseFailed = 0;
+            addExpenseFailed = 0;
+            getBudgetFailed = 0;
+            getAccountFailed = 0;
+            getCategoryFailed = 0;
+            listCategoriesFailed = 0;
+            getIncomeFailed = 0;
+            addIncomeFailed = 0;
+            getTransferFailed = 0;
+            addTransferFailed = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        LoadSeeder.seed();
+
+        try(Connection connection = LoadSeeder.connect()) {
+            accountIds = sample(connection, "account_id", "account");
+            categoryIds = sample(connection, "category_id", "category");
+            budgetIds = sample(connection, "budget_id", "budget");
+            expenseIds = sample(connection, "expense_id", "expense");
+            incomeIds = sample(connection, "income_id", "income");
+            transferIds = sample(connection, "transfer_id", "transfer");
+        }
+
+        String url = System.getenv("E_BUDGET_BENCH_URL");
+        baseUrl = url == null ? "http://localhost:8080" : url;
+        client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public int listExpenses(Failures failures) throws IOException, InterruptedException {
+        int status = get("/expense?size=50&accountId=" + pick(accountIds));
+        failures.listExpensesFailed += failed(status);
+
+        return status;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public int getExpense(Failures failures) throws IOException, InterruptedException {
+        int status = get("/expense/" + pick(expenseIds));
+        failures.getExpenseFailed += failed(status);
+
+        return status;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public int addExpense(Failures failures) throws IOException, InterruptedException {
+        LocalDate today = LocalDate.now();
+
+        int status = post("/expense", """
+                {"expenseDescription": "load", "expenseMonth": %d, "expenseYear": %d, "amount": 1.50, "categoryId": "%s", "accountId": "%s", "date": "%s"}"""
+                .formatted(today.getMonthValue(), today.getYear(), pick(categoryIds), pick(accountIds), today));
+        failures.addExpenseFailed += failed(status);
+
+        return status;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public int getBudget(Failures failures) throws IOException, InterruptedException {
+        int status = get("/budget/" + pick(budgetIds));
+        failures.getBudgetFailed += failed(status);
+
+        return status;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public int getAccount(Failures failures) throws IOException, InterruptedException {
+        int status = get("/account/" + pick(accountIds));
+        failures.getAccountFailed += failed(status);
+
+        return status;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public int getCategory(Failures failures) throws IOException, InterruptedException {
+        int status = get("/category/" + pick(categoryIds));
+        failures.getCategoryFailed += failed(status);
+
+        return status;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public int listCategories(Failures failures) throws IOException, InterruptedException {
+        int status = get("/category");
+        failures.listCategoriesFailed += failed(status);
+
+        return status;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public int getIncome(Failures failures) throws IOException, InterruptedException {
+        int status = get("/income/" + pick(incomeIds));
+        failures.getIncomeFailed += failed(status);
+
+        return status;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public int addIncome(Failures failures) throws IOException, InterruptedException {
+        int status = post("/income", """
+                {"incomeDescription": "load", "amount": 10, "accountId": "%s"}""".formatted(pick(accountIds)));
+        failures.addIncomeFailed += failed(status);
+
+        return status;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public int getTransfer(Failures failures) throws IOException, InterruptedException {
+        int status = get("/transfer/" + pick(transferIds));
+        failures.getTransferFailed += failed(status);
+
+        return status;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public int addTransfer(Failures failures) throws IOException, InterruptedException {
+        int from = ThreadLocalRandom.current().nextInt(accountIds.size());
+
+        int status = post("/transfer", """
+                {"transferDescription": "load", "amount": 1, "fromAccount": "%s", "toAccount": "%s"}"""
+                .formatted(accountIds.get(from), accountIds.get((from + 1) % accountIds.size())));
+        failures.addTransferFailed += failed(status);
+
+        return status;
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build());
+    }
+
+    private int post(String path, String body) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static int failed(int status) {
+        return status / 100 == 2 ? 0 : 1;
+    }
+
+    private static String pick(List<String> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static List<String> sample(Connection connection, String column, String table) throws SQLException {
+        List<String> ids = new ArrayList<>();
+
+        try(Statement statement = connection.createStatement();
+            ResultSet result = statement.executeQuery("SELECT %s FROM %s ORDER BY random() LIMIT %d".formatted(column, table, SAMPLE_SIZE))) {
+            while(result.next()) {
+                ids.add(result.getObject(1, UUID.class).toString());
+            }
+        }
+
+        return ids;
+    }
+}
@@ -0,0 +1,198 @@
+package com.ebudget.benchmark.projection;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Throughput of the list endpoints and the bytes the server allocates per request, read from its
+ * {@code jvm_gc_memory_allocated_bytes_total} metric around every iteration. The metric advances on
+ * young collections, so the figure is an average over many requests rather than an exact count.
+ * Run it against a build before and after a change to a read path and compare the {@code allocatedBytes}
+ * secondary result divided by the {@code requests} one. The instance is found through {@code E_BUDGET_BENCH_URL}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(4)
+@Fork(1)
+public class ListAllocationBenchmark {
+    private static final Pattern ID = Pattern.compile("\"(accountId|categoryId|budgetId|incomeId|transferId)\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+    private static final Pattern EXPENSE_ID = Pattern.compile("\"expenseId\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+    private static final Pattern ALLOCATED = Pattern.compile("(?m)^jvm_gc_memory_allocated_bytes_total(?:\\{[^}]*})?\\s+(\\S+)$");
+
+    @Param({"expense", "income", "transfer", "budget", "account", "category"})
+    public String resource;
+    @Param({"200"})
+    public int rows;
+
+    private final AtomicBoolean allocationClaimed = new AtomicBoolean();
+    private final List<String> cleanup = new ArrayList<>();
+    private HttpClient client;
+    private String baseUrl;
+    private HttpRequest list;
+    private String accountId;
+    private double allocatedBefore;
+
+    /**
+     * Requests sent by one thread during an iteration, and the bytes the server allocated during it on the first
+     * thread to finish only, so both add up over threads and measurement iterations.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Allocation {
+        public long requests;
+        public long allocatedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+            allocatedBytes = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void end(ListAllocationBenchmark benchmark) throws IOException, InterruptedException {
+            allocatedBytes = benchmark.claimAllocatedBytes();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, InterruptedException {
+        String url = System.getenv("E_BUDGET_BENCH_URL");
+        baseUrl = url == null ? "http://localhost:8080" : url;
+        client = HttpClient.newHttpClient();
+
+        accountId = post("/account", """
+                {"financialInstitution": "NONE", "accountName": "benchmark", "accountType": "BANK_ACCOUNT", "initialBalance": 0}""");
+        String otherAccountId = post("/account", """
+                {"financialInstitution": "NONE", "accountName": "benchmark", "accountType": "BANK_ACCOUNT", "initialBalance": 0}""");
+        String categoryId = post("/category", """
+                {"categoryName": "benchmark"}""");
+        YearMonth month = YearMonth.now();
+        String budgetId = post("/budget", """
+                {"budgetMonth": %d, "budgetYear": %d, "categoryId": "%s", "monthlyBudget": 100}"""
+                .formatted(month.getMonthValue(), month.getYear(), categoryId));
+
+        for(int row = 0; row < rows; row++) {
+            cleanup.add("/income/" + post("/income", """
+                    {"incomeDescription": "benchmark", "amount": 1, "accountId": "%s"}""".formatted(accountId)));
+            cleanup.add("/transfer/" + post("/transfer", """
+                    {"transferDescription": "benchmark", "amount": 1, "fromAccount": "%s", "toAccount": "%s"}"""
+                    .formatted(accountId, otherAccountId)));
+        }
+
+        StringBuilder expenses = new StringBuilder("[");
+        for(int row = 0; row < rows; row++) {
+            expenses.append(row == 0 ? "" : ",").append("""
+                    {"expenseDescription": "benchmark", "expenseMonth": %d, "expenseYear": %d, "amount": 1, "categoryId": "%s", "accountId": "%s", "date": "%s"}"""
+                    .formatted(month.getMonthValue(), month.getYear(), categoryId, accountId, LocalDate.now()));
+        }
+        send(HttpRequest.newBuilder(URI.create(baseUrl + "/expense/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(expenses.append("]").toString()))
+                .build());
+
+        cleanup.add("/budget/" + budgetId);
+        cleanup.add("/category/" + categoryId);
+        cleanup.add("/account/" + otherAccountId);
+        cleanup.add("/account/" + accountId);
+
+        String query = "expense".equals(resource) ? "?accountId=" + accountId + "&size=" + rows : "";
+        list = HttpRequest.newBuilder(URI.create(baseUrl + "/" + resource + query)).GET().build();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() throws IOException, InterruptedException {
+        allocationClaimed.set(false);
+        allocatedBefore = allocatedBytes();
+    }
+
+    @Benchmark
+    public int list(Allocation allocation) throws IOException, InterruptedException {
+        allocation.requests++;
+
+        return send(list).statusCode();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        String expenses = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/expense?size=500&accountId=" + accountId)).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = EXPENSE_ID.matcher(expenses);
+
+        while(matcher.find()) {
+            delete("/expense/" + matcher.group(1));
+        }
+
+        for(String path : cleanup) {
+            delete(path);
+        }
+    }
+
+    long claimAllocatedBytes() throws IOException, InterruptedException {
+        return allocationClaimed.compareAndSet(false, true) ? (long) (allocatedBytes() - allocatedBefore) : 0;
+    }
+
+    private double allocatedBytes() throws IOException, InterruptedException {
+        String metrics = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/q/metrics")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = ALLOCATED.matcher(metrics);
+
+        if(!matcher.find()) {
+            throw new IllegalStateException("jvm_gc_memory_allocated_bytes_total is not exposed on /q/metrics");
+        }
+
+        return Double.parseDouble(matcher.group(1));
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private String post(String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        String response = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = ID.matcher(response);
+
+        if(!matcher.find()) {
+            throw new IllegalStateException("Unexpected response from " + path + ": " + response);
+        }
+
+        return matcher.group(2);
+    }
+
+    private void delete(String path) throws IOException, InterruptedException {
+        send(HttpRequest.newBuilder(URI.create(baseUrl + path)).DELETE().build());
+    }
+}
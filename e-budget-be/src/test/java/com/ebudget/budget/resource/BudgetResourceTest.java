@@ -1,12 +1,17 @@
 package com.ebudget.budget.resource;
 
 import com.ebudget.budget.model.Budget;
+import com.ebudget.budget.model.BudgetEvent;
+import com.ebudget.budget.repository.BudgetEventRepository;
 import com.ebudget.budget.repository.BudgetRepository;
 import com.ebudget.budget.resource.request.NewBudgetDTO;
 import com.ebudget.budget.resource.request.UpdateBudgetDTO;
 import com.ebudget.budget.resource.response.BudgetDTO;
+import com.ebudget.budget.resource.response.BudgetReconcileDTO;
+import com.ebudget.budget.service.interfaces.IBudgetRollupService;
 import com.ebudget.category.model.Category;
 import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.core.statistics.SqlStatementCounter;
 import io.quarkus.test.common.http.TestHTTPEndpoint;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.common.mapper.TypeRef;
@@ -35,6 +40,12 @@ class BudgetResourceTest {
     BudgetRepository budgetRepository;
     @Inject
     CategoryRepository categoryRepository;
+    @Inject
+    SqlStatementCounter sqlStatementCounter;
+    @Inject
+    BudgetEventRepository budgetEventRepository;
+    @Inject
+    IBudgetRollupService budgetRollupService;
 
     private Category sampleCategory;
     private Budget sampleBudget;
@@ -177,6 +188,43 @@ class BudgetResourceTest {
         assertThat(response.getFirst().getUpdatedAt()).isInstanceOf(LocalDateTime.class);
     }
 
+    @Test
+    @DisplayName("Should include pending expense usage before and after it is folded")
+    void shouldIncludePendingUsageBeforeAndAfterFold() {
+        persistBudgetEvent(new BigDecimal("25.00"));
+
+        BudgetDTO pending = getSampleBudget();
+        int foldedEvents = budgetRollupService.foldPending();
+        BudgetDTO folded = getSampleBudget();
+
+        assertThat(pending.getMonthlyBudgetUsed()).isEqualTo(new BigDecimal("25.00"));
+        assertThat(pending.getMonthlyBudgetBalance()).isEqualTo(new BigDecimal("75.00"));
+        assertThat(pending.getMonthlyBudgetUsedPercentage()).isEqualTo(new BigDecimal("25.00"));
+        assertThat(foldedEvents).isEqualTo(1);
+        assertThat(folded.getMonthlyBudgetUsed()).isEqualTo(pending.getMonthlyBudgetUsed());
+        assertThat(folded.getMonthlyBudgetBalance()).isEqualTo(pending.getMonthlyBudgetBalance());
+        assertThat(folded.getMonthlyBudgetUsedPercentage()).isEqualTo(pending.getMonthlyBudgetUsedPercentage());
+    }
+
+    @Test
+    @DisplayName("Should list budgets with a single SQL statement")
+    void shouldListBudgetsWithSingleStatement() {
+        persistBudgetWithNewCategory();
+        sqlStatementCounter.reset();
+
+        List<BudgetDTO> response = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<List<BudgetDTO>>() {});
+
+        assertThat(response).hasSize(2);
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Should delete a budget")
     void shouldDeleteBudget() {
@@ -187,4 +235,110 @@ class BudgetResourceTest {
         .then()
             .statusCode(Response.Status.OK.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should reconcile a drifted budget")
+    void shouldReconcileBudget() {
+        driftBudget(new BigDecimal("30.00"));
+
+        BudgetReconcileDTO response = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .post(sampleBudget.getBudgetId() + "/reconcile")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<BudgetReconcileDTO>() {});
+
+        BudgetDTO budget = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get(String.valueOf(sampleBudget.getBudgetId()))
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<BudgetDTO>() {});
+
+        assertThat(response.getBudgets()).isEqualTo(1);
+        assertThat(response.getCorrected()).isEqualTo(1);
+        assertThat(budget.getMonthlyBudgetUsed()).isEqualTo(new BigDecimal("0.00"));
+        assertThat(budget.getMonthlyBudgetBalance()).isEqualTo(new BigDecimal("100.00"));
+        assertThat(budget.getMonthlyBudgetUsedPercentage()).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    @Test
+    @DisplayName("Should reconcile the budgets of a month")
+    void shouldReconcileMonth() {
+        persistBudgetWithNewCategory();
+        driftBudget(new BigDecimal("30.00"));
+
+        BudgetReconcileDTO response = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .post("reconcile/2025/6")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<BudgetReconcileDTO>() {});
+
+        assertThat(response.getBudgets()).isEqualTo(2);
+        assertThat(response.getCorrected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject reconciling an invalid month")
+    void shouldRejectInvalidReconcileMonth() {
+        given()
+            .contentType(ContentType.JSON)
+        .when()
+            .post("reconcile/2025/13")
+        .then()
+            .statusCode(Response.Status.BAD_REQUEST.getStatusCode());
+    }
+
+    @Transactional
+    void driftBudget(BigDecimal amount) {
+        budgetRepository.findById(sampleBudget.getBudgetId()).subtract(amount);
+    }
+
+    @Transactional
+    void persistBudgetWithNewCategory() {
+        Category category = Category.builder()
+                .categoryName("otherCategoryName")
+                .build();
+        categoryRepository.persistAndFlush(category);
+
+        Budget budget = Budget.builder()
+                .budgetMonth(6)
+                .budgetYear(2025)
+                .category(category)
+                .monthlyBudget(new BigDecimal("50.00"))
+                .monthlyBudgetUsed(new BigDecimal("0.00"))
+                .monthlyBudgetUsedPercentage(new BigDecimal("0.00"))
+                .monthlyBudgetBalance(new BigDecimal("50.00"))
+                .build();
+        budgetRepository.persistAndFlush(budget);
+    }
+
+    @Transactional
+    void persistBudgetEvent(BigDecimal amount) {
+        BudgetEvent budgetEvent = BudgetEvent.builder()
+                .category(sampleCategory)
+                .eventMonth(sampleBudget.getBudgetMonth())
+                .eventYear(sampleBudget.getBudgetYear())
+                .amount(amount)
+                .build();
+        budgetEventRepository.persistAndFlush(budgetEvent);
+    }
+
+    BudgetDTO getSampleBudget() {
+        return given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get(String.valueOf(sampleBudget.getBudgetId()))
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<BudgetDTO>() {});
+    }
+}
@@ -0,0 +1,133 @@
+package com.ebudget.budget.service;
+
+import com.ebudget.budget.config.BudgetReconcileConfig;
+import com.ebudget.budget.model.Budget;
+import com.ebudget.budget.repository.BudgetRepository;
+import com.ebudget.budget.resource.response.BudgetReconcileDTO;
+import com.ebudget.core.concurrency.ConnectionPermits;
+import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.core.exceptions.ServiceBusyException;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@QuarkusTest
+@DisplayName("Budget Reconcile Service")
+class BudgetReconcileServiceTest {
+    @Inject
+    BudgetReconcileService budgetReconcileService;
+    @Inject
+    BudgetReconcileConfig budgetReconcileConfig;
+    @InjectMock
+    BudgetRepository budgetRepository;
+    @InjectMock
+    ConnectionPermits connectionPermits;
+
+    @BeforeEach
+    void setup() throws InterruptedException {
+        when(connectionPermits.acquire()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should reconcile a budget")
+    void shouldReconcileBudget() {
+        // given
+        UUID budgetId = UUID.randomUUID();
+
+        when(budgetRepository.findById(budgetId)).thenReturn(new Budget());
+        when(budgetRepository.reconcile(List.of(budgetId))).thenReturn(1);
+
+        // when
+        BudgetReconcileDTO reconcile = budgetReconcileService.reconcileBudget(budgetId);
+
+        // then
+        assertThat(reconcile.getBudgets()).isEqualTo(1);
+        assertThat(reconcile.getCorrected()).isEqualTo(1);
+
+        verify(budgetRepository, times(1)).reconcile(List.of(budgetId));
+    }
+
+    @Test
+    @DisplayName("Should throw exception on reconcile a non-existing budget")
+    void shouldThrowExceptionOnReconcileNonExistingBudget() {
+        // given
+        when(budgetRepository.findById(any(UUID.class))).thenReturn(null);
+
+        // when / then
+        assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(() -> {
+            budgetReconcileService.reconcileBudget(UUID.randomUUID());
+        });
+
+        verify(budgetRepository, never()).reconcile(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reconcile a month's budgets in chunks")
+    void shouldReconcileMonthInChunks() {
+        // given
+        int budgets = budgetReconcileConfig.chunkSize() * 2 + 1;
+        List<UUID> budgetIds = IntStream.range(0, budgets)
+                .mapToObj(index -> UUID.randomUUID())
+                .toList();
+
+        when(budgetRepository.findIdsByMonthYear(6, 2025)).thenReturn(budgetIds);
+        when(budgetRepository.reconcile(anyList())).thenReturn(2);
+
+        // when
+        BudgetReconcileDTO reconcile = budgetReconcileService.reconcileMonth(6, 2025);
+
+        // then
+        assertThat(reconcile.getBudgets()).isEqualTo(budgets);
+        assertThat(reconcile.getCorrected()).isEqualTo(6);
+
+        verify(budgetRepository, times(3)).reconcile(anyList());
+        verify(connectionPermits, times(3)).release();
+    }
+
+    @Test
+    @DisplayName("Should throw exception when a chunk gets no connection permit")
+    void shouldThrowExceptionWhenChunkGetsNoPermit() throws InterruptedException {
+        // given
+        when(budgetRepository.findIds()).thenReturn(List.of(UUID.randomUUID()));
+        when(connectionPermits.acquire()).thenReturn(false);
+
+        // when / then
+        assertThatExceptionOfType(ServiceBusyException.class)
+                .isThrownBy(() -> budgetReconcileService.reconcileAll());
+
+        verify(budgetRepository, never()).reconcile(anyList());
+        verify(connectionPermits, never()).release();
+    }
+
+    @Test
+    @DisplayName("Should reconcile nothing when there are no budgets")
+    void shouldReconcileNothingWithoutBudgets() {
+        // given
+        when(budgetRepository.findIds()).thenReturn(List.of());
+
+        // when
+        BudgetReconcileDTO reconcile = budgetReconcileService.reconcileAll();
+
+        // then
+        assertThat(reconcile.getBudgets()).isZero();
+        assertThat(reconcile.getCorrected()).isZero();
+
+        verify(budgetRepository, never()).reconcile(anyList());
+    }
+}
@@ -0,0 +1,141 @@
+package com.ebudget.budget.service;
+
+import com.ebudget.budget.model.Budget;
+import com.ebudget.budget.model.BudgetEvent;
+import com.ebudget.budget.model.BudgetKey;
+import com.ebudget.budget.repository.BudgetEventRepository;
+import com.ebudget.budget.repository.BudgetRepository;
+import com.ebudget.category.model.Category;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@QuarkusTest
+@DisplayName("Budget Rollup Service")
+class BudgetRollupServiceTest {
+    @Inject
+    BudgetRollupService budgetRollupService;
+    @InjectMock
+    BudgetEventRepository budgetEventRepository;
+    @InjectMock
+    BudgetRepository budgetRepository;
+
+    private Category sampleCategory;
+    private Budget sampleBudget;
+
+    @BeforeEach
+    void setup() {
+        sampleCategory = Category.builder()
+                .categoryId(UUID.randomUUID())
+                .categoryName("categoryName")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        sampleBudget = Budget.builder()
+                .budgetId(UUID.randomUUID())
+                .budgetMonth(6)
+                .budgetYear(2025)
+                .category(sampleCategory)
+                .monthlyBudget(new BigDecimal("100.00"))
+                .monthlyBudgetUsed(new BigDecimal("10.00"))
+                .monthlyBudgetUsedPercentage(new BigDecimal("10.00"))
+                .monthlyBudgetBalance(new BigDecimal("90.00"))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should fold pending events into their budgets")
+    void shouldFoldPendingEvents() {
+        // given
+        List<BudgetEvent> events = List.of(
+                event(6, 2025, "20.00"),
+                event(6, 2025, "-5.00"),
+                event(7, 2025, "30.00")
+        );
+
+        when(budgetEventRepository.lockPending(anyInt())).thenReturn(events);
+        when(budgetRepository.findByKeyForUpdate(new BudgetKey(sampleCategory.getCategoryId(), 6, 2025))).thenReturn(sampleBudget);
+        when(budgetRepository.findByKeyForUpdate(new BudgetKey(sampleCategory.getCategoryId(), 7, 2025))).thenReturn(null);
+
+        // when
+        int folded = budgetRollupService.foldPending();
+
+        // then
+        assertThat(folded).isEqualTo(3);
+        assertThat(sampleBudget.getMonthlyBudgetUsed()).isEqualTo(new BigDecimal("25.00"));
+        assertThat(sampleBudget.getMonthlyBudgetBalance()).isEqualTo(new BigDecimal("75.00"));
+        assertThat(sampleBudget.getMonthlyBudgetUsedPercentage()).isEqualTo(new BigDecimal("25.00"));
+
+        verify(budgetRepository, times(2)).lockKey(any(BudgetKey.class));
+        verify(budgetRepository, times(2)).findByKeyForUpdate(any(BudgetKey.class));
+        verify(budgetEventRepository, times(1)).deleteByIds(events.stream().map(BudgetEvent::getBudgetEventId).toList());
+    }
+
+    @Test
+    @DisplayName("Should skip budgets whose pending events cancel out")
+    void shouldSkipBudgetsWhenEventsCancelOut() {
+        // given
+        List<BudgetEvent> events = List.of(
+                event(6, 2025, "10.00"),
+                event(6, 2025, "-10.00")
+        );
+
+        when(budgetEventRepository.lockPending(anyInt())).thenReturn(events);
+
+        // when
+        int folded = budgetRollupService.foldPending();
+
+        // then
+        assertThat(folded).isEqualTo(2);
+
+        verify(budgetRepository, never()).lockKey(any(BudgetKey.class));
+        verify(budgetRepository, never()).findByKeyForUpdate(any(BudgetKey.class));
+        verify(budgetEventRepository, times(1)).deleteByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no events are pending")
+    void shouldDoNothingWhenNoEventsArePending() {
+        // given
+        when(budgetEventRepository.lockPending(anyInt())).thenReturn(List.of());
+
+        // when
+        int folded = budgetRollupService.foldPending();
+
+        // then
+        assertThat(folded).isZero();
+
+        verify(budgetRepository, never()).findByKeyForUpdate(any(BudgetKey.class));
+        verify(budgetEventRepository, never()).deleteByIds(anyList());
+    }
+
+    private BudgetEvent event(Integer month, Integer year, String amount) {
+        return BudgetEvent.builder()
+                .budgetEventId(UUID.randomUUID())
+                .category(sampleCategory)
+                .eventMonth(month)
+                .eventYear(year)
+                .amount(new BigDecimal(amount))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
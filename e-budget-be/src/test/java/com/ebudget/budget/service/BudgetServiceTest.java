@@ -2,11 +2,14 @@ package com.ebudget.budget.service;
 
 import com.ebudget.budget.exception.BudgetAlreadyExistsException;
 import com.ebudget.budget.model.Budget;
+import com.ebudget.budget.model.BudgetKey;
+import com.ebudget.budget.repository.BudgetProjection;
 import com.ebudget.budget.repository.BudgetRepository;
 import com.ebudget.budget.resource.request.NewBudgetDTO;
 import com.ebudget.budget.resource.request.UpdateBudgetDTO;
 import com.ebudget.budget.resource.response.BudgetDTO;
 import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryProjection;
 import com.ebudget.category.repository.CategoryRepository;
 import com.ebudget.core.exceptions.EntityNotFoundException;
 import io.quarkus.test.InjectMock;
@@ -81,7 +84,8 @@ class BudgetServiceTest {
 
         when(categoryRepository.findById(any(UUID.class))).thenReturn(sampleCategory);
         when(budgetRepository.countByCategoryMonthYear(anyMap())).thenReturn(0L);
-        doNothing().when(budgetRepository).persistAndFlush(any(Budget.class));
+        when(budgetRepository.sumUsage(any(UUID.class), any(Integer.class), any(Integer.class))).thenReturn(new BigDecimal("25.00"));
+        doNothing().when(budgetRepository).persist(any(Budget.class));
 
         // when
         BudgetDTO budget = budgetService.addBudget(newBudgetDTO);
@@ -91,9 +95,13 @@ class BudgetServiceTest {
         assertThat(budget.getBudgetYear()).isEqualTo(newBudgetDTO.budgetYear());
         assertThat(budget.getMonthlyBudget()).isEqualTo(newBudgetDTO.monthlyBudget());
         assertThat(budget.getCategory().getCategoryId()).isEqualTo(sampleCategory.getCategoryId());
+        assertThat(budget.getMonthlyBudgetUsed()).isEqualTo(new BigDecimal("25.00"));
+        assertThat(budget.getMonthlyBudgetUsedPercentage()).isEqualTo(new BigDecimal("25.00"));
+        assertThat(budget.getMonthlyBudgetBalance()).isEqualTo(new BigDecimal("75.00"));
 
         verify(categoryRepository, times(1)).findById(any(UUID.class));
-        verify(budgetRepository, times(1)).persistAndFlush(any(Budget.class));
+        verify(budgetRepository, times(1)).lockKey(new BudgetKey(sampleCategory.getCategoryId(), 6, 2025));
+        verify(budgetRepository, times(1)).persist(any(Budget.class));
     }
 
     @Test
@@ -152,6 +160,7 @@ class BudgetServiceTest {
 
         when(budgetRepository.findById(any(UUID.class))).thenReturn(sampleBudget);
         when(budgetRepository.countByCategoryMonthYear(anyMap())).thenReturn(0L);
+        when(budgetRepository.sumUsage(any(UUID.class), any(Integer.class), any(Integer.class))).thenReturn(new BigDecimal("5.00"));
 
         // when
         budgetService.updateBudget(sampleBudgetId, updateBudgetDTO);
@@ -162,10 +171,14 @@ class BudgetServiceTest {
         assertThat(sampleBudget.getBudgetYear()).isEqualTo(updateBudgetDTO.budgetYear());
         assertThat(sampleBudget.getCategory()).isEqualTo(sampleCategory);
         assertThat(sampleBudget.getMonthlyBudget()).isEqualTo(updateBudgetDTO.monthlyBudget());
-        // should add remaining assertions after expenses implementation to check the other props
+        assertThat(sampleBudget.getMonthlyBudgetUsed()).isEqualTo(new BigDecimal("5.00"));
+        assertThat(sampleBudget.getMonthlyBudgetUsedPercentage()).isEqualTo(new BigDecimal("50.00"));
+        assertThat(sampleBudget.getMonthlyBudgetBalance()).isEqualTo(new BigDecimal("5.00"));
 
         verify(budgetRepository, times(1)).findById(any(UUID.class));
         verify(budgetRepository, times(1)).countByCategoryMonthYear(anyMap());
+        verify(budgetRepository, times(1)).lockKey(new BudgetKey(sampleCategory.getCategoryId(), 7, 2025));
+        verify(budgetRepository, times(1)).sumUsage(sampleCategory.getCategoryId(), 7, 2025);
     }
 
     @Test
@@ -214,7 +227,7 @@ class BudgetServiceTest {
     @DisplayName("Should get a budget")
     void shouldGetBudget() {
         // given
-        when(budgetRepository.findById(any(UUID.class))).thenReturn(sampleBudget);
+        when(budgetRepository.findByIdWithPendingUsage(any(UUID.class))).thenReturn(sampleBudget);
 
         // when
         BudgetDTO budget = budgetService.getBudget(sampleBudgetId);
@@ -231,28 +244,28 @@ class BudgetServiceTest {
         assertThat(budget.getCreatedAt()).isEqualTo(sampleBudget.getCreatedAt());
         assertThat(budget.getUpdatedAt()).isEqualTo(sampleBudget.getUpdatedAt());
 
-        verify(budgetRepository, times(1)).findById(any(UUID.class));
+        verify(budgetRepository, times(1)).findByIdWithPendingUsage(any(UUID.class));
     }
 
     @Test
     @DisplayName("Should throw exception on get a non-existing budget")
     void shouldThrowExceptionOnGetNonExistingBudget() {
         // given
-        when(budgetRepository.findById(any(UUID.class))).thenReturn(null);
+        when(budgetRepository.findByIdWithPendingUsage(any(UUID.class))).thenReturn(null);
 
         // when / then
         assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(() -> {
            budgetService.getBudget(sampleBudgetId);
         });
 
-        verify(budgetRepository, times(1)).findById(any(UUID.class));
+        verify(budgetRepository, times(1)).findByIdWithPendingUsage(any(UUID.class));
     }
 
     @Test
     @DisplayName("Should get all budgets")
     void shouldGetBudgets() {
         // given
-        when(budgetRepository.listAll()).thenReturn(List.of(sampleBudget));
+        when(budgetRepository.listAllProjectedWithPendingUsage()).thenReturn(List.of(getBudgetProjection(sampleBudget)));
 
         // when
         List<BudgetDTO> budgets = budgetService.getBudgets();
@@ -260,7 +273,7 @@ class BudgetServiceTest {
         // then
         assertThat(budgets).hasSize(1);
 
-        verify(budgetRepository, times(1)).listAll();
+        verify(budgetRepository, times(1)).listAllProjectedWithPendingUsage();
     }
 
     @Test
@@ -292,4 +305,24 @@ class BudgetServiceTest {
 
         verify(budgetRepository, times(1)).findById(any(UUID.class));
     }
+
+    private BudgetProjection getBudgetProjection(Budget budget) {
+        return new BudgetProjection(
+                budget.getBudgetId(),
+                budget.getBudgetMonth(),
+                budget.getBudgetYear(),
+                new CategoryProjection(
+                        budget.getCategory().getCategoryId(),
+                        budget.getCategory().getCategoryName(),
+                        budget.getCategory().getCreatedAt(),
+                        budget.getCategory().getUpdatedAt()
+                ),
+                budget.getMonthlyBudget(),
+                budget.getMonthlyBudgetUsed(),
+                budget.getMonthlyBudgetUsedPercentage(),
+                budget.getMonthlyBudgetBalance(),
+                budget.getCreatedAt(),
+                budget.getUpdatedAt()
+        );
+    }
 }
\ No newline at end of file
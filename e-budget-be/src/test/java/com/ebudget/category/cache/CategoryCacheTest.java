@@ -0,0 +1,122 @@
+package com.ebudget.category.cache;
+
+import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.category.resource.request.NewCategoryDTO;
+import com.ebudget.category.resource.request.UpdateCategoryDTO;
+import com.ebudget.category.service.CategoryService;
+import com.ebudget.core.statistics.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@DisplayName("Category Cache")
+@TestProfile(CategoryCacheTest.CacheEnabledProfile.class)
+class CategoryCacheTest {
+    @Inject
+    CategoryCache categoryCache;
+    @Inject
+    CategoryService categoryService;
+    @Inject
+    CategoryRepository categoryRepository;
+    @Inject
+    SqlStatementCounter sqlStatementCounter;
+    @Inject
+    MeterRegistry meterRegistry;
+    @Inject
+    @CacheName(CategoryCache.CATEGORY)
+    Cache categoryCacheStore;
+    @Inject
+    @CacheName(CategoryCache.CATEGORY_LIST)
+    Cache categoryListCacheStore;
+
+    private Category sampleCategory;
+
+    public static class CacheEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.cache.enabled", "true");
+        }
+    }
+
+    @BeforeEach
+    @Transactional
+    void setup() {
+        sampleCategory = Category.builder()
+                .categoryName("categoryName")
+                .build();
+        categoryRepository.persist(sampleCategory);
+    }
+
+    @AfterEach
+    @Transactional
+    void destroy() {
+        categoryRepository.deleteAll();
+        categoryCacheStore.invalidateAll().await().indefinitely();
+        categoryListCacheStore.invalidateAll().await().indefinitely();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated category lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        // given
+        sqlStatementCounter.reset();
+
+        // when
+        Category first = categoryCache.findById(sampleCategory.getCategoryId());
+        Category second = categoryCache.findById(sampleCategory.getCategoryId());
+
+        // then
+        assertThat(first.getCategoryName()).isEqualTo(sampleCategory.getCategoryName());
+        assertThat(second).isSameAs(first);
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", CategoryCache.CATEGORY, "result", "hit").functionCounter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should evict a cached category after it is updated")
+    void shouldEvictCategoryOnUpdate() {
+        // given
+        categoryCache.findById(sampleCategory.getCategoryId());
+
+        // when
+        categoryService.updateCategory(sampleCategory.getCategoryId(), new UpdateCategoryDTO("newCategoryName"));
+
+        // then
+        assertThat(categoryCache.findById(sampleCategory.getCategoryId()).getCategoryName()).isEqualTo("newCategoryName");
+    }
+
+    @Test
+    @DisplayName("Should evict the category list after a category is added or deleted")
+    void shouldEvictCategoryListOnAddAndDelete() {
+        // given
+        assertThat(categoryService.getCategories()).hasSize(1);
+
+        // when
+        categoryService.addCategory(new NewCategoryDTO("otherCategoryName"));
+
+        // then
+        assertThat(categoryService.getCategories()).hasSize(2);
+
+        // when
+        categoryService.deleteCategory(sampleCategory.getCategoryId());
+
+        // then
+        assertThat(categoryService.getCategories()).hasSize(1);
+        assertThat(categoryCache.findById(sampleCategory.getCategoryId())).isNull();
+    }
+}
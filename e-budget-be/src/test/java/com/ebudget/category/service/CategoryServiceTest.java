@@ -1,6 +1,7 @@
 package com.ebudget.category.service;
 
 import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryProjection;
 import com.ebudget.category.repository.CategoryRepository;
 import com.ebudget.category.resource.request.NewCategoryDTO;
 import com.ebudget.category.resource.request.UpdateCategoryDTO;
@@ -54,7 +55,7 @@ class CategoryServiceTest {
         // given
         NewCategoryDTO newCategoryDTO = new NewCategoryDTO("categoryName");
 
-        doNothing().when(categoryRepository).persistAndFlush(any(Category.class));
+        doNothing().when(categoryRepository).persist(any(Category.class));
 
         // when
         CategoryDTO category = categoryService.addCategory(newCategoryDTO);
@@ -63,7 +64,7 @@ class CategoryServiceTest {
         assertThat(category).isInstanceOf(CategoryDTO.class);
         assertThat(category.getCategoryName()).isEqualTo(newCategoryDTO.categoryName());
 
-        verify(categoryRepository, times(1)).persistAndFlush(any(Category.class));
+        verify(categoryRepository, times(1)).persist(any(Category.class));
     }
 
     @Test
@@ -137,7 +138,7 @@ class CategoryServiceTest {
     @DisplayName("Should get all categories")
     void shouldGetCategories() {
         // given
-        when(categoryRepository.listAll()).thenReturn(List.of(sampleCategory));
+        when(categoryRepository.listAllProjected()).thenReturn(List.of(getCategoryProjection(sampleCategory)));
 
         // when
         List<CategoryDTO> categories = categoryService.getCategories();
@@ -145,7 +146,7 @@ class CategoryServiceTest {
         // then
         assertThat(categories).hasSize(1);
 
-        verify(categoryRepository, times(1)).listAll();
+        verify(categoryRepository, times(1)).listAllProjected();
     }
 
     @Test
@@ -177,4 +178,13 @@ class CategoryServiceTest {
 
         verify(categoryRepository, times(1)).findById(any(UUID.class));
     }
+
+    private CategoryProjection getCategoryProjection(Category category) {
+        return new CategoryProjection(
+                category.getCategoryId(),
+                category.getCategoryName(),
+                category.getCreatedAt(),
+                category.getUpdatedAt()
+        );
+    }
 }
\ No newline at end of file
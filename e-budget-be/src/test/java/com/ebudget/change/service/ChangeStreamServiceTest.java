@@ -0,0 +1,81 @@
+package com.ebudget.change.service;
+
+import com.ebudget.change.event.BalanceChangedEvent;
+import com.ebudget.change.event.BudgetUsageChangedEvent;
+import com.ebudget.change.model.enums.ChangeType;
+import com.ebudget.change.resource.response.ChangeDTO;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@DisplayName("Change Stream Service")
+class ChangeStreamServiceTest {
+    @Inject
+    ChangeStreamService changeStreamService;
+    @Inject
+    Event<BalanceChangedEvent> balanceChanged;
+    @Inject
+    Event<BudgetUsageChangedEvent> budgetUsageChanged;
+
+    @Test
+    @DisplayName("Should keep the last balance and sum the budget usage of a batch")
+    void shouldCoalesceBatch() {
+        // given
+        UUID accountId = UUID.randomUUID();
+        UUID categoryId = UUID.randomUUID();
+        List<ChangeDTO> batch = List.of(
+                new ChangeDTO(accountId, new BigDecimal("90.00")),
+                new ChangeDTO(categoryId, 5, 2026, new BigDecimal("10.00")),
+                new ChangeDTO(accountId, new BigDecimal("75.00")),
+                new ChangeDTO(categoryId, 5, 2026, new BigDecimal("15.00")),
+                new ChangeDTO(categoryId, 6, 2026, new BigDecimal("5.00"))
+        );
+
+        // when
+        List<ChangeDTO> changes = ChangeStreamService.coalesce(batch);
+
+        // then
+        assertThat(changes).hasSize(3);
+        assertThat(changes.get(0).getType()).isEqualTo(ChangeType.ACCOUNT_BALANCE);
+        assertThat(changes.get(0).getBalance()).isEqualByComparingTo("75.00");
+        assertThat(changes.get(1).getMonth()).isEqualTo(5);
+        assertThat(changes.get(1).getUsedDelta()).isEqualByComparingTo("25.00");
+        assertThat(changes.get(2).getMonth()).isEqualTo(6);
+        assertThat(changes.get(2).getUsedDelta()).isEqualByComparingTo("5.00");
+    }
+
+    @Test
+    @DisplayName("Should push fired changes to a subscriber")
+    void shouldStreamFiredChanges() {
+        // given
+        UUID accountId = UUID.randomUUID();
+        UUID categoryId = UUID.randomUUID();
+        AssertSubscriber<ChangeDTO> subscriber = changeStreamService.stream()
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        // when
+        balanceChanged.fire(new BalanceChangedEvent(accountId, new BigDecimal("40.00")));
+        budgetUsageChanged.fire(new BudgetUsageChangedEvent(categoryId, 5, 2026, new BigDecimal("60.00")));
+
+        // then
+        List<ChangeDTO> changes = subscriber.awaitItems(2, Duration.ofSeconds(5)).getItems();
+        subscriber.cancel();
+
+        assertThat(changes)
+                .extracting(ChangeDTO::getType)
+                .containsExactly(ChangeType.ACCOUNT_BALANCE, ChangeType.BUDGET_USAGE);
+        assertThat(changes.get(0).getAccountId()).isEqualTo(accountId);
+        assertThat(changes.get(1).getCategoryId()).isEqualTo(categoryId);
+    }
+}
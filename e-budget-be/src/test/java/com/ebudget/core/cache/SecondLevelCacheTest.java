@@ -0,0 +1,199 @@
+package com.ebudget.core.cache;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.model.enums.FinancialInstitution;
+import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.account.resource.response.AccountDTO;
+import com.ebudget.budget.model.Budget;
+import com.ebudget.budget.model.BudgetEvent;
+import com.ebudget.budget.repository.BudgetEventRepository;
+import com.ebudget.budget.repository.BudgetRepository;
+import com.ebudget.budget.resource.response.BudgetDTO;
+import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.common.mapper.TypeRef;
+import jakarta.inject.Inject;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import jakarta.ws.rs.core.Response;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@DisplayName("Second-Level Cache")
+@TestProfile(SecondLevelCacheTest.SecondLevelCacheProfile.class)
+class SecondLevelCacheTest {
+    @Inject
+    AccountRepository accountRepository;
+    @Inject
+    CategoryRepository categoryRepository;
+    @Inject
+    BudgetRepository budgetRepository;
+    @Inject
+    BudgetEventRepository budgetEventRepository;
+    @Inject
+    SecondLevelCache secondLevelCache;
+    @Inject
+    EntityManagerFactory entityManagerFactory;
+
+    private Account sampleAccount;
+    private Category sampleCategory;
+    private Budget sampleBudget;
+
+    public static class SecondLevelCacheProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.hibernate-orm.second-level-caching-enabled", "true");
+        }
+    }
+
+    @BeforeEach
+    @Transactional
+    void setup() {
+        sampleAccount = Account.builder()
+                .financialInstitution(FinancialInstitution.NONE)
+                .accountName("accountName")
+                .accountType(AccountType.BANK_ACCOUNT)
+                .initialBalance(new BigDecimal("0.00"))
+                .balance(new BigDecimal("0.00"))
+                .build();
+        accountRepository.persist(sampleAccount);
+
+        sampleCategory = Category.builder()
+                .categoryName("categoryName")
+                .build();
+        categoryRepository.persist(sampleCategory);
+
+        sampleBudget = Budget.builder()
+                .budgetMonth(6)
+                .budgetYear(2025)
+                .category(sampleCategory)
+                .monthlyBudget(new BigDecimal("100.00"))
+                .monthlyBudgetUsed(new BigDecimal("0.00"))
+                .monthlyBudgetUsedPercentage(new BigDecimal("0.00"))
+                .monthlyBudgetBalance(new BigDecimal("100.00"))
+                .build();
+        budgetRepository.persist(sampleBudget);
+    }
+
+    @AfterEach
+    @Transactional
+    void destroy() {
+        budgetEventRepository.deleteAll();
+        budgetRepository.deleteAll();
+        categoryRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated account reads from the cache")
+    void shouldServeAccountFromCache() {
+        getAccount();
+        statistics().clear();
+
+        AccountDTO response = getAccount();
+
+        assertThat(response.getAccountId()).isEqualTo(sampleAccount.getAccountId());
+        assertThat(statistics().getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics().getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict a cached account when its balance changes")
+    void shouldEvictAccountOnBalanceChange() {
+        getAccount();
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            accountRepository.deposit(accountRepository.findById(sampleAccount.getAccountId()), new BigDecimal("10.00"));
+        });
+
+        assertThat(getAccount().getBalance()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    @DisplayName("Should serve repeated budget reads from the cache until new usage is recorded")
+    void shouldServeBudgetFromCacheUntilUsageChanges() {
+        getBudget();
+        statistics().clear();
+
+        assertThat(getBudget().getMonthlyBudgetUsed()).isEqualByComparingTo("0.00");
+        assertThat(statistics().getQueryCacheHitCount()).isPositive();
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            budgetEventRepository.persist(BudgetEvent.builder()
+                    .category(categoryRepository.findById(sampleCategory.getCategoryId()))
+                    .eventMonth(6)
+                    .eventYear(2025)
+                    .amount(new BigDecimal("10.00"))
+                    .build());
+        });
+
+        assertThat(getBudget().getMonthlyBudgetUsed()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    @DisplayName("Should drop cached accounts, budgets and queries when they expire")
+    void shouldExpireCachedEntries() {
+        getAccount();
+        getBudget();
+        Cache cache = entityManagerFactory.getCache();
+
+        assertThat(cache.contains(Account.class, sampleAccount.getAccountId())).isTrue();
+        assertThat(cache.contains(Budget.class, sampleBudget.getBudgetId())).isTrue();
+
+        secondLevelCache.expire();
+        statistics().clear();
+        getBudget();
+
+        assertThat(cache.contains(Account.class, sampleAccount.getAccountId())).isFalse();
+        assertThat(statistics().getQueryCacheHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should leave categories to the category cache")
+    void shouldNotCacheCategories() {
+        getBudget();
+
+        assertThat(entityManagerFactory.getCache().contains(Category.class, sampleCategory.getCategoryId())).isFalse();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private AccountDTO getAccount() {
+        return given()
+        .when()
+            .get("/account/{accountId}", sampleAccount.getAccountId())
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<AccountDTO>() {});
+    }
+
+    private BudgetDTO getBudget() {
+        return given()
+        .when()
+            .get("/budget/{budgetId}", sampleBudget.getBudgetId())
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<BudgetDTO>() {});
+    }
+}
@@ -0,0 +1,83 @@
+package com.ebudget.core.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@DisplayName("Connection Bulkhead Interceptor")
+@TestProfile(ConnectionBulkheadInterceptorTest.SingleConnectionProfile.class)
+class ConnectionBulkheadInterceptorTest {
+    private static final String OPERATION = "CategoryResource.getCategories";
+
+    @Inject
+    ConnectionPermits connectionPermits;
+    @Inject
+    MeterRegistry meterRegistry;
+
+    public static class SingleConnectionProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "e-budget.bulkhead.max-concurrent", "1",
+                    "e-budget.bulkhead.max-wait", "50ms",
+                    "quarkus.virtual-threads.enabled", "true"
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a request when every permit is taken")
+    void shouldRejectWhenSaturated() throws InterruptedException {
+        double rejected = rejected();
+        assertThat(connectionPermits.acquire()).isTrue();
+
+        try {
+            given()
+                .contentType(ContentType.JSON)
+            .when()
+                .get("/category")
+            .then()
+                .statusCode(Response.Status.SERVICE_UNAVAILABLE.getStatusCode());
+        } finally {
+            connectionPermits.release();
+        }
+
+        assertThat(rejected()).isEqualTo(rejected + 1);
+    }
+
+    @Test
+    @DisplayName("Should release the permit once a request completes")
+    void shouldReleasePermit() throws InterruptedException {
+        for(int request = 0; request < 3; request++) {
+            given()
+                .contentType(ContentType.JSON)
+            .when()
+                .get("/category")
+            .then()
+                .statusCode(Response.Status.OK.getStatusCode());
+        }
+
+        assertThat(connectionPermits.acquire()).isTrue();
+        connectionPermits.release();
+    }
+
+    private double rejected() {
+        return Optional.ofNullable(meterRegistry.find("ebudget.bulkhead.rejected").tag("operation", OPERATION).counter())
+                .map(Counter::count)
+                .orElse(0.0);
+    }
+}
@@ -0,0 +1,142 @@
+package com.ebudget.core.concurrency;
+
+import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.category.resource.request.UpdateCategoryDTO;
+import com.ebudget.core.exceptions.ConcurrentUpdateException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@QuarkusTest
+@DisplayName("Optimistic Retry Interceptor")
+class OptimisticRetryInterceptorTest {
+    private static final String OPERATION = "ConflictingOperation.run";
+
+    @Inject
+    ConflictingOperation conflictingOperation;
+    @Inject
+    CategoryRepository categoryRepository;
+    @Inject
+    MeterRegistry meterRegistry;
+    @Inject
+    OptimisticRetryConfig optimisticRetryConfig;
+
+    @BeforeEach
+    void setup() {
+        conflictingOperation.reset();
+    }
+
+    @AfterEach
+    @Transactional
+    void destroy() {
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should retry a method until its transaction commits")
+    void shouldRetryUntilCommit() {
+        // given
+        double retries = count("ebudget.optimistic.retries");
+
+        // when
+        conflictingOperation.run(2, new OptimisticLockException());
+
+        // then
+        assertThat(conflictingOperation.attempts()).isEqualTo(3);
+        assertThat(count("ebudget.optimistic.retries")).isEqualTo(retries + 2);
+    }
+
+    @Test
+    @DisplayName("Should throw a conflict when retries are exhausted")
+    void shouldThrowConflictWhenRetriesAreExhausted() {
+        // given
+        double exhausted = count("ebudget.optimistic.exhausted");
+
+        // when / then
+        assertThatExceptionOfType(ConcurrentUpdateException.class).isThrownBy(() -> {
+            conflictingOperation.run(Integer.MAX_VALUE, new OptimisticLockException());
+        });
+        assertThat(conflictingOperation.attempts()).isEqualTo(optimisticRetryConfig.maxAttempts());
+        assertThat(count("ebudget.optimistic.exhausted")).isEqualTo(exhausted + 1);
+    }
+
+    @Test
+    @DisplayName("Should not retry other failures")
+    void shouldNotRetryOtherFailures() {
+        // when / then
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> {
+            conflictingOperation.run(1, new IllegalStateException());
+        });
+        assertThat(conflictingOperation.attempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a write based on a stale version")
+    void shouldRejectStaleWrite() {
+        // given
+        UUID categoryId = QuarkusTransaction.requiringNew().call(() -> {
+            Category category = Category.builder()
+                    .categoryName("categoryName")
+                    .build();
+            categoryRepository.persist(category);
+
+            return category.getCategoryId();
+        });
+
+        // when
+        Throwable thrown = catchThrowable(() -> QuarkusTransaction.requiringNew().run(() -> {
+            Category stale = categoryRepository.findById(categoryId);
+
+            QuarkusTransaction.requiringNew().run(() -> categoryRepository.findById(categoryId).update(new UpdateCategoryDTO("concurrentName")));
+
+            stale.update(new UpdateCategoryDTO("staleName"));
+        }));
+
+        // then
+        assertThat(Stream.iterate(thrown, Objects::nonNull, Throwable::getCause)).anyMatch(OptimisticLockException.class::isInstance);
+        assertThat(QuarkusTransaction.requiringNew().call(() -> categoryRepository.findById(categoryId).getCategoryName())).isEqualTo("concurrentName");
+    }
+
+    private double count(String name) {
+        return meterRegistry.counter(name, "operation", OPERATION).count();
+    }
+
+    @ApplicationScoped
+    static class ConflictingOperation {
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        @OptimisticRetry
+        @Transactional
+        void run(int failures, RuntimeException failure) {
+            if(attempts.incrementAndGet() <= failures) {
+                throw failure;
+            }
+        }
+
+        int attempts() {
+            return attempts.get();
+        }
+
+        void reset() {
+            attempts.set(0);
+        }
+    }
+}
@@ -55,6 +55,17 @@ class EBudgetExceptionMapperTest {
         assertThat(restResponse.getEntity().getDetails()).isEqualTo(expectedExceptionDetails);
     }
 
+    @Test
+    @DisplayName("Should create e-Budget Exceptions without a stack trace")
+    void shouldCreateStacklessEBudgetException() {
+        // when
+        EntityNotFoundException entityNotFoundException = new EntityNotFoundException(Account.class, UUID.randomUUID());
+
+        // then
+        assertThat(entityNotFoundException.getStackTrace()).isEmpty();
+        assertThat(entityNotFoundException.getMessage()).isEqualTo("Account not found");
+    }
+
     @Test
     @DisplayName("Should map Validation Exception to custom response")
     void shouldMapValidationException() {
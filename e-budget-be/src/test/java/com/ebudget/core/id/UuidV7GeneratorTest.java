@@ -0,0 +1,53 @@
+package com.ebudget.core.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UUIDv7 Generator")
+class UuidV7GeneratorTest {
+    @Test
+    @DisplayName("Should generate version 7 UUIDs with the RFC variant")
+    void shouldGenerateVersion7() {
+        // when
+        UUID uuid = UuidV7Generator.next();
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should embed the current time in the leading 48 bits")
+    void shouldEmbedCurrentTime() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        UUID uuid = UuidV7Generator.next();
+
+        // then
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing UUIDs")
+    void shouldGenerateIncreasingUuids() {
+        // when
+        List<UUID> uuids = new ArrayList<>();
+
+        for(int i = 0; i < 10_000; i++) {
+            uuids.add(UuidV7Generator.next());
+        }
+
+        // then
+        for(int i = 1; i < uuids.size(); i++) {
+            assertThat(Long.compareUnsigned(uuids.get(i).getMostSignificantBits(), uuids.get(i - 1).getMostSignificantBits())).isPositive();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ebudget.core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.hamcrest.Matchers.containsString;
+
+@QuarkusTest
+@DisplayName("Measured Interceptor")
+class MeasuredInterceptorTest {
+    private static final String OPERATION = "MeasuredOperation.run";
+
+    @Inject
+    MeasuredOperation measuredOperation;
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should time a call")
+    void shouldTimeCall() {
+        // given
+        long calls = calls("none");
+
+        // when
+        measuredOperation.run(false);
+
+        // then
+        assertThat(calls("none")).isEqualTo(calls + 1);
+    }
+
+    @Test
+    @DisplayName("Should tag a failed call with its exception")
+    void shouldTagFailedCall() {
+        // given
+        long calls = calls(IllegalStateException.class.getSimpleName());
+
+        // when / then
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> {
+            measuredOperation.run(true);
+        });
+        assertThat(calls(IllegalStateException.class.getSimpleName())).isEqualTo(calls + 1);
+    }
+
+    @Test
+    @DisplayName("Should expose call timers and exception counts on the metrics endpoint")
+    void shouldExposeMetrics() {
+        given()
+        .when()
+            .get("/category/" + UUID.randomUUID())
+        .then()
+            .statusCode(Response.Status.NOT_FOUND.getStatusCode());
+
+        given()
+        .when()
+            .get("/q/metrics")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .body(containsString("ebudget_calls_seconds_count{exception=\"EntityNotFoundException\",operation=\"CategoryService.getCategory\"}"))
+            .body(containsString("ebudget_exceptions_total{exception=\"EntityNotFoundException\"}"));
+    }
+
+    @Test
+    @DisplayName("Should time inherited repository methods under the repository")
+    void shouldTimeInheritedRepositoryMethods() {
+        given()
+        .when()
+            .get("/account/" + UUID.randomUUID())
+        .then()
+            .statusCode(Response.Status.NOT_FOUND.getStatusCode());
+
+        assertThat(meterRegistry.find("ebudget.calls").tags("operation", "AccountRepository.findById").timer()).isNotNull();
+    }
+
+    private long calls(String exception) {
+        return Optional.ofNullable(meterRegistry.find("ebudget.calls").tags("operation", OPERATION, "exception", exception).timer())
+                .map(Timer::count)
+                .orElse(0L);
+    }
+
+    @ApplicationScoped
+    @Measured
+    static class MeasuredOperation {
+        void run(boolean fail) {
+            if(fail) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+}
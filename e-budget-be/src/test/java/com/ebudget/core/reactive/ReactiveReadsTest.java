@@ -0,0 +1,169 @@
+package com.ebudget.core.reactive;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.model.enums.FinancialInstitution;
+import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.account.resource.response.AccountDTO;
+import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.expense.model.Expense;
+import com.ebudget.expense.repository.ExpenseRepository;
+import com.ebudget.expense.resource.response.ExpenseDTO;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.common.mapper.TypeRef;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@DisplayName("Reactive Reads")
+@TestProfile(ReactiveReadsTest.ReactiveEnabledProfile.class)
+class ReactiveReadsTest {
+    @Inject
+    AccountRepository accountRepository;
+    @Inject
+    CategoryRepository categoryRepository;
+    @Inject
+    ExpenseRepository expenseRepository;
+
+    private Account sampleAccount;
+    private Category sampleCategory;
+    private Expense sampleExpense;
+    private Expense uncategorizedExpense;
+
+    public static class ReactiveEnabledProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(ReactiveReads.ENABLED, "true");
+        }
+    }
+
+    @BeforeEach
+    @Transactional
+    void setup() {
+        sampleAccount = Account.builder()
+                .financialInstitution(FinancialInstitution.NONE)
+                .accountName("accountName")
+                .accountType(AccountType.BANK_ACCOUNT)
+                .initialBalance(new BigDecimal("0.00"))
+                .balance(new BigDecimal("0.00"))
+                .build();
+        accountRepository.persist(sampleAccount);
+
+        sampleCategory = Category.builder()
+                .categoryName("categoryName")
+                .build();
+        categoryRepository.persist(sampleCategory);
+
+        sampleExpense = getSampleExpense(LocalDate.of(2025, 6, 27), sampleCategory);
+        uncategorizedExpense = getSampleExpense(LocalDate.of(2025, 6, 1), null);
+        expenseRepository.persist(sampleExpense);
+        expenseRepository.persist(uncategorizedExpense);
+    }
+
+    @AfterEach
+    @Transactional
+    void destroy() {
+        expenseRepository.deleteAll();
+        accountRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should get an account as the blocking endpoint does")
+    void shouldGetAccount() {
+        AccountDTO blocking = getAccount("/account/");
+        AccountDTO reactive = getAccount("/reactive/account/");
+
+        assertThat(reactive).usingRecursiveComparison().isEqualTo(blocking);
+    }
+
+    @Test
+    @DisplayName("Should throw exception on get a non-existing account")
+    void shouldThrowExceptionOnGetNonExistingAccount() {
+        given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get("/reactive/account/" + UUID.randomUUID())
+        .then()
+            .statusCode(Response.Status.NOT_FOUND.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should get a page of expenses as the blocking endpoint does")
+    void shouldGetExpenses() {
+        List<ExpenseDTO> blocking = getExpenses("/expense");
+
+        String nextCursor = given()
+            .contentType(ContentType.JSON)
+            .queryParam("accountId", sampleAccount.getAccountId())
+            .queryParam("size", 1)
+        .when()
+            .get("/reactive/expense")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .header("X-Next-Cursor");
+        List<ExpenseDTO> reactive = getExpenses("/reactive/expense");
+
+        assertThat(nextCursor).isNotNull();
+        assertThat(reactive).usingRecursiveComparison().isEqualTo(blocking);
+        assertThat(reactive).extracting(ExpenseDTO::getExpenseId)
+                .containsExactly(sampleExpense.getExpenseId(), uncategorizedExpense.getExpenseId());
+        assertThat(reactive.get(1).getCategory()).isNull();
+    }
+
+    private AccountDTO getAccount(String path) {
+        return given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get(path + sampleAccount.getAccountId())
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .contentType(ContentType.JSON)
+            .extract()
+            .as(new TypeRef<AccountDTO>() {});
+    }
+
+    private List<ExpenseDTO> getExpenses(String path) {
+        return given()
+            .contentType(ContentType.JSON)
+            .queryParam("accountId", sampleAccount.getAccountId())
+        .when()
+            .get(path)
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .contentType(ContentType.JSON)
+            .extract()
+            .as(new TypeRef<List<ExpenseDTO>>() {});
+    }
+
+    private Expense getSampleExpense(LocalDate date, Category category) {
+        return Expense.builder()
+                .expenseDescription("expenseDescription")
+                .amount(new BigDecimal("10.00"))
+                .date(date)
+                .expenseMonth(date.getMonthValue())
+                .expenseYear(date.getYear())
+                .account(sampleAccount)
+                .category(category)
+                .build();
+    }
+}
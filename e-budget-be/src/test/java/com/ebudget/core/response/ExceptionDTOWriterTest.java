@@ -0,0 +1,73 @@
+package com.ebudget.core.response;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.expense.exception.InvalidCsvException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.core.MediaType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Exception DTO Writer")
+class ExceptionDTOWriterTest {
+    private final ExceptionDTOWriter writer = new ExceptionDTOWriter();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should write the same JSON as Jackson")
+    void shouldWriteSameJsonAsJackson() throws IOException {
+        // given
+        ExceptionDTO exceptionDTO = new EntityNotFoundException(Account.class, UUID.randomUUID()).get();
+
+        // when
+        byte[] written = write(exceptionDTO);
+
+        // then
+        assertThat(objectMapper.readTree(written)).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(exceptionDTO)));
+    }
+
+    @Test
+    @DisplayName("Should escape details taken from the request")
+    void shouldEscapeDetails() throws IOException {
+        // given
+        String value = "\"quoted\"\\ line\nbreak\u0001";
+        ExceptionDTO exceptionDTO = new InvalidCsvException(Map.<String, Object>of("value", value)).get();
+
+        // when
+        byte[] written = write(exceptionDTO);
+
+        // then
+        assertThat(objectMapper.readTree(written).at("/details/0/value").asText()).isEqualTo(value);
+        assertThat(objectMapper.readTree(written).at("/exception").asText()).isEqualTo("InvalidCsvException");
+    }
+
+    @Test
+    @DisplayName("Should write a DTO built without a template")
+    void shouldWriteWithoutTemplate() throws IOException {
+        // given
+        ExceptionDTO exceptionDTO = new ExceptionDTO("ValidationException", "Request contains validation errors", List.of(
+                Map.of("key", "accountName", "value", "must not be blank")
+        ));
+
+        // when
+        byte[] written = write(exceptionDTO);
+
+        // then
+        assertThat(objectMapper.readTree(written)).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(exceptionDTO)));
+    }
+
+    private byte[] write(ExceptionDTO exceptionDTO) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writer.writeTo(exceptionDTO, ExceptionDTO.class, ExceptionDTO.class, null, MediaType.APPLICATION_JSON_TYPE, null, output);
+
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,315 @@
+package com.ebudget.core.statistics;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.budget.model.BudgetKey;
+import com.ebudget.budget.repository.BudgetEventRepository;
+import com.ebudget.budget.repository.BudgetRepository;
+import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.expense.model.Expense;
+import com.ebudget.expense.repository.ExpenseCursor;
+import com.ebudget.expense.repository.ExpenseRepository;
+import com.ebudget.expense.resource.request.ExpenseFilterDTO;
+import com.ebudget.income.repository.IncomeRepository;
+import com.ebudget.sync.repository.SyncRepository;
+import com.ebudget.sync.repository.SyncWindow;
+import com.ebudget.transfer.repository.TransferRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the repository query paths against a seeded database, captures the SQL Hibernate sends and
+ * fails when its generic plan sequentially scans a table holding more than {@link #SEQ_SCAN_ROW_THRESHOLD}
+ * rows. Unbounded {@code listAll*} reads scan by design and are not covered.
+ */
+@QuarkusTest
+@DisplayName("Query Plans")
+class QueryPlanTest {
+    private static final long SEQ_SCAN_ROW_THRESHOLD = 1_000;
+    private static final List<String> SEED = List.of(
+            """
+            INSERT INTO account (account_id, account_name, account_type, initial_balance, balance)
+            SELECT gen_random_uuid(), 'account' || i, 'BANK_ACCOUNT', 0, 0 FROM generate_series(1, 50) i""",
+            """
+            INSERT INTO category (category_id, category_name)
+            SELECT gen_random_uuid(), 'category' || i FROM generate_series(1, 50) i""",
+            """
+            INSERT INTO budget (budget_id, budget_month, budget_year, category_id, monthly_budget, monthly_budget_used,
+                                monthly_budget_used_percentage, monthly_budget_balance)
+            SELECT gen_random_uuid(), m, 2024, category_id, 100, 0, 0, 100 FROM category, generate_series(1, 12) m""",
+            "SELECT create_expense_partition(partition_year) FROM generate_series(2020, 2024) partition_year",
+            """
+            WITH a AS (SELECT array_agg(account_id) ids FROM account), c AS (SELECT array_agg(category_id) ids FROM category),
+                 s AS (SELECT i, DATE '2020-01-01' + i / 28 AS d FROM generate_series(1, 50000) i)
+            INSERT INTO expense (expense_id, expense_description, expense_month, expense_year, amount, category_id, account_id, date)
+            SELECT gen_random_uuid(), 'expense', extract(MONTH FROM d), extract(YEAR FROM d), 1, c.ids[1 + i % 50], a.ids[1 + i % 50], d
+            FROM s, a, c""",
+            """
+            WITH a AS (SELECT array_agg(account_id) ids FROM account)
+            INSERT INTO income (income_id, income_description, amount, account_id)
+            SELECT gen_random_uuid(), 'income', 1, a.ids[1 + i % 50] FROM generate_series(1, 20000) i, a""",
+            """
+            WITH a AS (SELECT array_agg(account_id) ids FROM account)
+            INSERT INTO transfer (transfer_id, transfer_description, amount, from_account, to_account)
+            SELECT gen_random_uuid(), 'transfer', 1, a.ids[1 + i % 50], a.ids[1 + (i + 1) % 50] FROM generate_series(1, 20000) i, a""",
+            """
+            WITH c AS (SELECT array_agg(category_id) ids FROM category)
+            INSERT INTO budget_event (budget_event_id, category_id, event_month, event_year, amount, created_at)
+            SELECT gen_random_uuid(), c.ids[1 + i % 50], 1 + i % 12, 2024, 1, now() - i * INTERVAL '1 second'
+            FROM generate_series(1, 20000) i, c""",
+            "ANALYZE"
+    );
+    // The queries the database runs to check references when an account or category is deleted
+    private static final List<String> FOREIGN_KEY_CHECKS = List.of(
+            "SELECT 1 FROM expense WHERE account_id = $1 FOR KEY SHARE",
+            "SELECT 1 FROM expense WHERE category_id = $1 FOR KEY SHARE",
+            "SELECT 1 FROM income WHERE account_id = $1 FOR KEY SHARE",
+            "SELECT 1 FROM transfer WHERE from_account = $1 FOR KEY SHARE",
+            "SELECT 1 FROM transfer WHERE to_account = $1 FOR KEY SHARE",
+            "SELECT 1 FROM budget WHERE category_id = $1 FOR KEY SHARE",
+            "SELECT 1 FROM budget_event WHERE category_id = $1 FOR KEY SHARE"
+    );
+
+    @Inject
+    DataSource dataSource;
+    @Inject
+    ObjectMapper objectMapper;
+    @Inject
+    RecordingStatementInspector statementInspector;
+    @Inject
+    ExpenseRepository expenseRepository;
+    @Inject
+    BudgetRepository budgetRepository;
+    @Inject
+    BudgetEventRepository budgetEventRepository;
+    @Inject
+    AccountRepository accountRepository;
+    @Inject
+    CategoryRepository categoryRepository;
+    @Inject
+    IncomeRepository incomeRepository;
+    @Inject
+    TransferRepository transferRepository;
+    @Inject
+    SyncRepository syncRepository;
+
+    private UUID accountId;
+    private UUID categoryId;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        try(Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for(String seed : SEED) {
+                statement.execute(seed);
+            }
+        }
+
+        accountId = queryId("SELECT account_id FROM account LIMIT 1");
+        categoryId = queryId("SELECT category_id FROM category LIMIT 1");
+    }
+
+    @AfterEach
+    void destroy() throws SQLException {
+        try(Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE account_snapshot, account_ledger, budget_event, expense, income, transfer, budget, category, account");
+        }
+    }
+
+    @Test
+    @DisplayName("Should not sequentially scan large tables on expense queries")
+    void shouldUseIndexesOnExpenseQueries() throws Exception {
+        List<String> statements = record(() -> {
+            ExpenseCursor cursor = new ExpenseCursor(LocalDate.of(2022, 1, 1), UUID.randomUUID());
+
+            expenseRepository.findPage(new ExpenseFilterDTO(null, null, null, null, null, null), null, 51);
+            expenseRepository.findPage(new ExpenseFilterDTO(null, null, null, null, null, null), cursor, 51);
+            expenseRepository.findPage(new ExpenseFilterDTO(accountId, null, null, null, null, null), cursor, 51);
+            expenseRepository.findPage(new ExpenseFilterDTO(null, categoryId, null, null, null, null), null, 51);
+            expenseRepository.findPage(new ExpenseFilterDTO(null, null, 6, 2022, null, null), null, 51);
+            expenseRepository.findPage(new ExpenseFilterDTO(null, null, null, null, LocalDate.of(2022, 1, 1), LocalDate.of(2022, 1, 31)), null, 51);
+
+            try(Stream<Expense> expenses = expenseRepository.streamByFilter(new ExpenseFilterDTO(accountId, null, null, null, null, null))) {
+                expenses.count();
+            }
+
+            expenseRepository.findById(UUID.randomUUID());
+        });
+
+        assertNoLargeSequentialScans(statements);
+    }
+
+    @Test
+    @DisplayName("Should not sequentially scan large tables on budget queries")
+    void shouldUseIndexesOnBudgetQueries() throws Exception {
+        List<String> statements = record(() -> {
+            Category category = categoryRepository.findById(categoryId);
+
+            budgetRepository.countByCategoryMonthYear(Map.of("category", category, "budgetMonth", 6, "budgetYear", 2024));
+            budgetRepository.findByCategoryMonthYear(category, 6, 2024);
+            budgetRepository.findByKeyForUpdate(new BudgetKey(categoryId, 6, 2024));
+            budgetRepository.findByIdWithPendingUsage(UUID.randomUUID());
+            budgetEventRepository.lockPending(500);
+            budgetEventRepository.deleteByIds(List.of(UUID.randomUUID()));
+        });
+
+        assertNoLargeSequentialScans(statements);
+    }
+
+    @Test
+    @DisplayName("Should not sequentially scan large tables on account, category, income and transfer queries")
+    void shouldUseIndexesOnAccountQueries() throws Exception {
+        List<String> statements = record(() -> {
+            Account account = accountRepository.findById(accountId);
+
+            accountRepository.findByIds(Set.of(accountId));
+            accountRepository.deposit(account, BigDecimal.ONE);
+            categoryRepository.findByIds(Set.of(categoryId));
+            incomeRepository.findById(UUID.randomUUID());
+            transferRepository.findById(UUID.randomUUID());
+        });
+
+        assertNoLargeSequentialScans(statements);
+    }
+
+    @Test
+    @DisplayName("Should not sequentially scan large tables on sync queries")
+    void shouldUseIndexesOnSyncQueries() throws Exception {
+        List<String> statements = record(() -> {
+            SyncWindow window = new SyncWindow(syncRepository.watermark(), syncRepository.watermark() + 1);
+
+            accountRepository.listChangedProjected(window);
+            budgetRepository.listChangedProjected(window);
+            expenseRepository.listChangedProjected(window);
+            incomeRepository.listChangedProjected(window);
+            transferRepository.listChangedProjected(window);
+            syncRepository.findTombstones(window);
+        });
+
+        assertNoLargeSequentialScans(statements);
+    }
+
+    @Test
+    @DisplayName("Should index every foreign key checked when deleting accounts and categories")
+    void shouldIndexForeignKeys() throws Exception {
+        assertNoLargeSequentialScans(FOREIGN_KEY_CHECKS);
+    }
+
+    private List<String> record(Runnable queries) {
+        List<String> statements;
+        statementInspector.start();
+
+        try {
+            QuarkusTransaction.requiringNew().run(queries);
+        } finally {
+            statements = statementInspector.stop();
+        }
+
+        return statements;
+    }
+
+    private void assertNoLargeSequentialScans(List<String> statements) throws Exception {
+        assertThat(statements).isNotEmpty();
+
+        try(Connection connection = dataSource.getConnection()) {
+            for(String statement : statements) {
+                JsonNode plan = explain(connection, statement);
+                List<String> scans = new ArrayList<>();
+
+                collectSequentialScans(plan.get(0).get("Plan"), scans);
+
+                for(String relation : scans) {
+                    assertThat(estimatedRows(connection, relation))
+                            .as("Sequential scan on %s in plan of: %s", relation, statement)
+                            .isLessThanOrEqualTo(SEQ_SCAN_ROW_THRESHOLD);
+                }
+            }
+        }
+    }
+
+    private JsonNode explain(Connection connection, String statement) throws Exception {
+        try(Statement explain = connection.createStatement();
+            ResultSet result = explain.executeQuery("EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + positional(statement))) {
+            result.next();
+
+            return objectMapper.readTree(result.getString(1));
+        }
+    }
+
+    private void collectSequentialScans(JsonNode node, List<String> scans) {
+        if("Seq Scan".equals(node.path("Node Type").asText())) {
+            scans.add(node.path("Relation Name").asText());
+        }
+
+        for(JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, scans);
+        }
+    }
+
+    private long estimatedRows(Connection connection, String relation) throws SQLException {
+        try(PreparedStatement statement = connection.prepareStatement("SELECT reltuples::bigint FROM pg_class WHERE relname = ?")) {
+            statement.setString(1, relation);
+
+            try(ResultSet result = statement.executeQuery()) {
+                result.next();
+
+                return result.getLong(1);
+            }
+        }
+    }
+
+    // JDBC placeholders become $n so EXPLAIN can plan the statement without values
+    private String positional(String statement) {
+        StringBuilder sql = new StringBuilder();
+        boolean quoted = false;
+        int parameter = 0;
+
+        for(char character : statement.toCharArray()) {
+            if(character == '\'') {
+                quoted = !quoted;
+            }
+
+            if(character == '?' && !quoted) {
+                sql.append('$').append(++parameter);
+            } else {
+                sql.append(character);
+            }
+        }
+
+        return sql.toString();
+    }
+
+    private UUID queryId(String sql) throws SQLException {
+        try(Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement();
+            ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+
+            return result.getObject(1, UUID.class);
+        }
+    }
+}
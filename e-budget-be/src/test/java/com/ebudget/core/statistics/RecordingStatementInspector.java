@@ -0,0 +1,40 @@
+package com.ebudget.core.statistics;
+
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps the SQL Hibernate sends between {@link #start()} and {@link #stop()}, so tests can look at
+ * the statements repository methods really produce. Statements pass through untouched.
+ */
+@ApplicationScoped
+@PersistenceUnitExtension
+public class RecordingStatementInspector implements StatementInspector {
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+    private volatile boolean recording;
+
+    public void start() {
+        statements.clear();
+        recording = true;
+    }
+
+    public List<String> stop() {
+        recording = false;
+
+        return new ArrayList<>(statements);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if(recording) {
+            statements.add(sql);
+        }
+
+        return sql;
+    }
+}
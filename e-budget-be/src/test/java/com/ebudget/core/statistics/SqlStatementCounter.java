@@ -0,0 +1,33 @@
+package com.ebudget.core.statistics;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Counts the JDBC statements Hibernate prepares and the session flushes it performs between
+ * {@link #reset()} and {@link #count()} / {@link #flushes()}, so endpoint tests can pin the number
+ * of round-trips a request is allowed to make.
+ */
+@ApplicationScoped
+public class SqlStatementCounter {
+    @Inject
+    SessionFactory sessionFactory;
+
+    public void reset() {
+        statistics().clear();
+    }
+
+    public long count() {
+        return statistics().getPrepareStatementCount();
+    }
+
+    public long flushes() {
+        return statistics().getFlushCount();
+    }
+
+    private Statistics statistics() {
+        return sessionFactory.getStatistics();
+    }
+}
@@ -8,17 +8,24 @@ import com.ebudget.budget.model.Budget;
 import com.ebudget.budget.repository.BudgetRepository;
 import com.ebudget.category.model.Category;
 import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.core.concurrency.ConnectionBulkheadConfig;
+import com.ebudget.core.concurrency.ConnectionPermits;
+import com.ebudget.core.statistics.SqlStatementCounter;
 import com.ebudget.expense.model.Expense;
 import com.ebudget.expense.repository.ExpenseRepository;
 import com.ebudget.expense.resource.request.NewExpenseDTO;
 import com.ebudget.expense.resource.request.UpdateExpenseDTO;
+import com.ebudget.expense.resource.response.ExpenseBatchDTO;
+import com.ebudget.expense.resource.response.ExpenseBatchFailureDTO;
 import com.ebudget.expense.resource.response.ExpenseDTO;
+import com.ebudget.expense.service.interfaces.IExpensePartitionService;
 import io.quarkus.test.common.http.TestHTTPEndpoint;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.http.ContentType;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +36,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static io.restassured.RestAssured.given;
@@ -46,6 +54,14 @@ class ExpenseResourceTest {
     CategoryRepository categoryRepository;
     @Inject
     BudgetRepository budgetRepository;
+    @Inject
+    SqlStatementCounter sqlStatementCounter;
+    @Inject
+    IExpensePartitionService expensePartitionService;
+    @Inject
+    ConnectionPermits connectionPermits;
+    @Inject
+    ConnectionBulkheadConfig connectionBulkheadConfig;
 
     private Expense sampleExpense;
     private Account sampleAccount;
@@ -140,6 +156,127 @@ class ExpenseResourceTest {
         assertThat(response.getUpdatedAt()).isInstanceOf(LocalDateTime.class);
     }
 
+    @Test
+    @DisplayName("Should add an expense with a single flush at commit")
+    void shouldAddExpenseWithSingleFlush() {
+        NewExpenseDTO newExpenseDTO = getSampleNewExpense(new BigDecimal("10.00"));
+        sqlStatementCounter.reset();
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(newExpenseDTO)
+        .when()
+            .post()
+        .then()
+            .statusCode(Response.Status.CREATED.getStatusCode());
+
+        // category and account lookups, balance update, budget event insert, expense insert
+        assertThat(sqlStatementCounter.flushes()).isEqualTo(1);
+        assertThat(sqlStatementCounter.count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should add expenses in batch and report invalid rows")
+    void shouldAddExpensesInBatch() {
+        List<NewExpenseDTO> newExpenseDTOs = List.of(
+                getSampleNewExpense(new BigDecimal("10.00")),
+                getSampleNewExpense(new BigDecimal("20.00")),
+                getSampleNewExpense(null)
+        );
+
+        ExpenseBatchDTO response = given()
+            .contentType(ContentType.JSON)
+            .body(newExpenseDTOs)
+        .when()
+            .post("batch")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .contentType(ContentType.JSON)
+            .extract()
+            .as(new TypeRef<ExpenseBatchDTO>() {});
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getFailures()).hasSize(1);
+        assertThat(response.getFailures().getFirst().getRow()).isEqualTo(3);
+        assertThat(expenseRepository.count()).isEqualTo(3);
+        assertThat(accountRepository.findById(sampleAccount.getAccountId()).getBalance()).isEqualByComparingTo("60.00");
+    }
+
+    @Test
+    @DisplayName("Should add expenses in batch from CSV")
+    void shouldAddExpensesInBatchFromCsv() {
+        String csv = """
+                expenseDescription,expenseMonth,expenseYear,amount,categoryId,accountId,date
+                "Groceries, weekly",6,2025,10.00,%s,%s,2025-06-27
+                Fuel,6,2025,5.00,,%s,2025-06-28
+                """.formatted(sampleCategory.getCategoryId(), sampleAccount.getAccountId(), sampleAccount.getAccountId());
+
+        ExpenseBatchDTO response = given()
+            .contentType("text/csv")
+            .body(csv)
+        .when()
+            .post("batch")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .contentType(ContentType.JSON)
+            .extract()
+            .as(new TypeRef<ExpenseBatchDTO>() {});
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getFailures()).isEmpty();
+        assertThat(expenseRepository.count("expenseDescription", "Groceries, weekly")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report unparseable CSV rows and import the rest")
+    void shouldReportUnparseableCsvRows() {
+        String csv = """
+                expenseDescription,expenseMonth,expenseYear,amount,categoryId,accountId,date
+                Fuel,6,2025,not-an-amount,,%s,2025-06-28
+                Parking,6,2025,5.00,,%s,2025-06-28
+                Toll,6,2025,2.00,,%s,not-a-date
+                """.formatted(sampleAccount.getAccountId(), sampleAccount.getAccountId(), sampleAccount.getAccountId());
+
+        ExpenseBatchDTO response = given()
+            .contentType("text/csv")
+            .body(csv)
+        .when()
+            .post("batch")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .contentType(ContentType.JSON)
+            .extract()
+            .as(new TypeRef<ExpenseBatchDTO>() {});
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getFailures())
+                .extracting(ExpenseBatchFailureDTO::getRow)
+                .containsExactly(1, 3);
+        assertThat(response.getFailures().getFirst().getDetails())
+                .containsExactly(Map.of("key", "amount", "value", "cannot be parsed"));
+        assertThat(expenseRepository.count("expenseDescription", "Parking")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed CSV batch")
+    void shouldRejectMalformedCsvBatch() {
+        String csv = """
+                expenseDescription,expenseMonth,expenseYear,amount,categoryId,accountId,date
+                Parking,6,2025,5.00,,%s,2025-06-28
+                "Fuel,6,2025,5.00,,%s,2025-06-28
+                """.formatted(sampleAccount.getAccountId(), sampleAccount.getAccountId());
+
+        given()
+            .contentType("text/csv")
+            .body(csv)
+        .when()
+            .post("batch")
+        .then()
+            .statusCode(Response.Status.BAD_REQUEST.getStatusCode());
+
+        assertThat(expenseRepository.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Should update an expense")
     void shouldUpdateExpense() {
@@ -213,6 +350,188 @@ class ExpenseResourceTest {
         assertThat(response.getFirst().getUpdatedAt()).isEqualTo(sampleExpense.getUpdatedAt());
     }
 
+    @Test
+    @DisplayName("Should list expenses with a single SQL statement")
+    void shouldListExpensesWithSingleStatement() {
+        persistExpenseWithNewAccountAndCategory();
+        sqlStatementCounter.reset();
+
+        List<ExpenseDTO> response = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<List<ExpenseDTO>>() {});
+
+        assertThat(response).hasSize(2);
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stream expenses with a single SQL statement")
+    void shouldStreamExpensesWithSingleStatement() {
+        persistExpenseWithNewAccountAndCategory();
+        sqlStatementCounter.reset();
+
+        given()
+            .accept("application/x-ndjson")
+        .when()
+            .get("stream")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode());
+
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return the stream's connection permit once the body is written")
+    void shouldReleaseStreamPermit() throws InterruptedException {
+        persistExpenseWithNewAccountAndCategory();
+
+        given()
+            .accept("application/x-ndjson")
+        .when()
+            .get("stream")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode());
+
+        int acquired = 0;
+
+        try {
+            while(acquired < connectionBulkheadConfig.maxConcurrent() && connectionPermits.acquire()) {
+                acquired++;
+            }
+        } finally {
+            for(int permit = 0; permit < acquired; permit++) {
+                connectionPermits.release();
+            }
+        }
+
+        assertThat(acquired).isEqualTo(connectionBulkheadConfig.maxConcurrent());
+    }
+
+    @Test
+    @DisplayName("Should page expenses with a keyset cursor")
+    void shouldPageExpensesWithKeysetCursor() {
+        Expense olderExpense = persistExpense(LocalDate.of(2025, 6, 1));
+
+        io.restassured.response.Response firstPage = given()
+            .contentType(ContentType.JSON)
+            .queryParam("size", 1)
+        .when()
+            .get();
+
+        List<ExpenseDTO> firstExpenses = firstPage.then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<List<ExpenseDTO>>() {});
+        String nextCursor = firstPage.getHeader("X-Next-Cursor");
+
+        io.restassured.response.Response secondPage = given()
+            .contentType(ContentType.JSON)
+            .queryParam("size", 1)
+            .queryParam("cursor", nextCursor)
+        .when()
+            .get();
+
+        List<ExpenseDTO> secondExpenses = secondPage.then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<List<ExpenseDTO>>() {});
+
+        assertThat(nextCursor).isNotNull();
+        assertThat(firstExpenses).hasSize(1);
+        assertThat(firstExpenses.getFirst().getExpenseId()).isEqualTo(sampleExpense.getExpenseId());
+        assertThat(secondExpenses).hasSize(1);
+        assertThat(secondExpenses.getFirst().getExpenseId()).isEqualTo(olderExpense.getExpenseId());
+        assertThat(secondPage.getHeader("X-Next-Cursor")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should filter expenses by date range")
+    void shouldFilterExpensesByDateRange() {
+        persistExpense(LocalDate.of(2025, 5, 15));
+
+        List<ExpenseDTO> response = given()
+            .contentType(ContentType.JSON)
+            .queryParam("accountId", sampleAccount.getAccountId())
+            .queryParam("from", "2025-06-01")
+            .queryParam("to", "2025-06-30")
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<List<ExpenseDTO>>() {});
+
+        assertThat(response).hasSize(1);
+        assertThat(response.getFirst().getExpenseId()).isEqualTo(sampleExpense.getExpenseId());
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid cursor")
+    void shouldRejectInvalidCursor() {
+        given()
+            .contentType(ContentType.JSON)
+            .queryParam("cursor", "not-a-cursor")
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.BAD_REQUEST.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should stream expenses as newline-delimited JSON")
+    void shouldStreamExpenses() {
+        persistExpense(LocalDate.of(2025, 6, 1));
+
+        String response = given()
+            .accept("application/x-ndjson")
+        .when()
+            .get("stream")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .contentType("application/x-ndjson")
+            .extract()
+            .asString();
+
+        assertThat(response.lines().toList()).hasSize(2);
+        assertThat(response.lines().findFirst().orElseThrow()).contains(sampleExpense.getExpenseId().toString());
+    }
+
+    @Test
+    @DisplayName("Should answer a conditional get of expenses with not modified until an account they show changes")
+    void shouldGetExpensesConditionally() {
+        String tag = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .header(HttpHeaders.ETAG);
+
+        given()
+            .contentType(ContentType.JSON)
+            .header(HttpHeaders.IF_NONE_MATCH, tag)
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.NOT_MODIFIED.getStatusCode());
+
+        deposit(new BigDecimal("10.00"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .header(HttpHeaders.IF_NONE_MATCH, tag)
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode());
+    }
+
     @Test
     @DisplayName("Should delete an expense")
     void shouldDeleteExpense() {
@@ -223,4 +542,90 @@ class ExpenseResourceTest {
         .then()
             .statusCode(Response.Status.OK.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should move expenses into the partition of their year")
+    void shouldMoveExpensesIntoYearPartition() {
+        Expense expense = persistExpense(LocalDate.of(1999, 3, 1));
+
+        assertThat(partitionOf(expense.getExpenseId())).isEqualTo("expense_default");
+        assertThat(expensePartitionService.createPartitions()).isGreaterThanOrEqualTo(1);
+        assertThat(partitionOf(expense.getExpenseId())).isEqualTo("expense_1999");
+
+        given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get(String.valueOf(expense.getExpenseId()))
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode());
+    }
+
+    @Transactional
+    String partitionOf(UUID expenseId) {
+        return (String) expenseRepository.getEntityManager()
+                .createNativeQuery("SELECT CAST(CAST(tableoid AS REGCLASS) AS TEXT) FROM expense WHERE expense_id = :expenseId", String.class)
+                .setParameter("expenseId", expenseId)
+                .getSingleResult();
+    }
+
+    @Transactional
+    void deposit(BigDecimal amount) {
+        accountRepository.deposit(accountRepository.findById(sampleAccount.getAccountId()), amount);
+    }
+
+    @Transactional
+    Expense persistExpense(LocalDate date) {
+        Expense expense = Expense.builder()
+                .expenseDescription("otherExpenseDescription")
+                .amount(new BigDecimal("5.00"))
+                .date(date)
+                .expenseMonth(date.getMonthValue())
+                .expenseYear(date.getYear())
+                .account(sampleAccount)
+                .category(sampleCategory)
+                .build();
+        expenseRepository.persistAndFlush(expense);
+
+        return expense;
+    }
+
+    @Transactional
+    void persistExpenseWithNewAccountAndCategory() {
+        Category category = Category.builder()
+                .categoryName("otherCategoryName")
+                .build();
+        categoryRepository.persistAndFlush(category);
+
+        Account account = Account.builder()
+                .financialInstitution(FinancialInstitution.NONE)
+                .accountName("otherAccountName")
+                .accountType(AccountType.BANK_ACCOUNT)
+                .initialBalance(new BigDecimal("100.00"))
+                .balance(new BigDecimal("100.00"))
+                .build();
+        accountRepository.persistAndFlush(account);
+
+        Expense expense = Expense.builder()
+                .expenseDescription("otherExpenseDescription")
+                .amount(new BigDecimal("5.00"))
+                .date(LocalDate.of(2025, 6, 1))
+                .expenseMonth(6)
+                .expenseYear(2025)
+                .account(account)
+                .category(category)
+                .build();
+        expenseRepository.persistAndFlush(expense);
+    }
+
+    private NewExpenseDTO getSampleNewExpense(BigDecimal amount) {
+        return new NewExpenseDTO(
+                "expenseDescription",
+                6,
+                2025,
+                amount,
+                sampleCategory.getCategoryId(),
+                sampleAccount.getAccountId(),
+                LocalDate.of(2025, 6, 27)
+        );
+    }
+}
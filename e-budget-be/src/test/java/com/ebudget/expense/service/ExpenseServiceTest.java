@@ -3,26 +3,34 @@ package com.ebudget.expense.service;
 import com.ebudget.account.model.Account;
 import com.ebudget.account.model.enums.FinancialInstitution;
 import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.repository.AccountProjection;
 import com.ebudget.account.repository.AccountRepository;
-import com.ebudget.budget.model.Budget;
-import com.ebudget.budget.repository.BudgetRepository;
+import com.ebudget.budget.model.BudgetEvent;
+import com.ebudget.budget.repository.BudgetEventRepository;
 import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryProjection;
 import com.ebudget.category.repository.CategoryRepository;
 import com.ebudget.core.exceptions.EntityNotFoundException;
+import com.ebudget.expense.exception.InvalidCursorException;
 import com.ebudget.expense.model.Expense;
+import com.ebudget.expense.repository.ExpenseCursor;
+import com.ebudget.expense.repository.ExpenseProjection;
 import com.ebudget.expense.repository.ExpenseRepository;
+import com.ebudget.expense.resource.request.ExpenseFilterDTO;
 import com.ebudget.expense.resource.request.NewExpenseDTO;
 import com.ebudget.expense.resource.request.UpdateExpenseDTO;
+import com.ebudget.expense.resource.response.ExpenseBatchDTO;
 import com.ebudget.expense.resource.response.ExpenseDTO;
+import com.ebudget.expense.resource.response.ExpensePageDTO;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,9 +40,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,13 +62,12 @@ class ExpenseServiceTest {
     @InjectMock
     AccountRepository accountRepository;
     @InjectMock
-    BudgetRepository budgetRepository;
+    BudgetEventRepository budgetEventRepository;
 
     private UUID sampleExpenseId;
     private Expense sampleExpense;
     private Account sampleAccount;
     private Category sampleCategory;
-    private Budget sampleBudget;
 
     @BeforeEach
     void setup() {
@@ -79,19 +89,6 @@ class ExpenseServiceTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        sampleBudget = Budget.builder()
-                .budgetId(UUID.randomUUID())
-                .budgetMonth(6)
-                .budgetYear(2025)
-                .category(sampleCategory)
-                .monthlyBudget(new BigDecimal("100.00"))
-                .monthlyBudgetUsed(new BigDecimal("10.00"))
-                .monthlyBudgetUsedPercentage(new BigDecimal("10.00"))
-                .monthlyBudgetBalance(new BigDecimal("90.00"))
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
         sampleExpenseId = UUID.randomUUID();
         sampleExpense = Expense.builder()
                 .expenseId(sampleExpenseId)
@@ -111,10 +108,7 @@ class ExpenseServiceTest {
     @DisplayName("Should add an expense")
     void shouldAddExpense() {
         // given
-        BigDecimal accountBalance = sampleAccount.getBalance();
-        BigDecimal monthlyBudgetBalance = sampleBudget.getMonthlyBudgetBalance();
-        BigDecimal monthlyBudgetUsed = sampleBudget.getMonthlyBudgetUsed();
-        BigDecimal monthlyBudgetUsedPercentage = sampleBudget.getMonthlyBudgetUsedPercentage();
+        ArgumentCaptor<BudgetEvent> budgetEvent = ArgumentCaptor.forClass(BudgetEvent.class);
 
         NewExpenseDTO newExpenseDTO = new NewExpenseDTO(
                 "expenseDescription",
@@ -128,8 +122,7 @@ class ExpenseServiceTest {
 
         when(categoryRepository.findById(any(UUID.class))).thenReturn(sampleCategory);
         when(accountRepository.findById(any(UUID.class))).thenReturn(sampleAccount);
-        when(budgetRepository.findByCategoryMonthYear(any(Category.class), anyInt(), anyInt())).thenReturn(sampleBudget);
-        doNothing().when(expenseRepository).persistAndFlush(any(Expense.class));
+        doNothing().when(expenseRepository).persist(any(Expense.class));
 
         // when
         ExpenseDTO expense = expenseService.addExpense(newExpenseDTO);
@@ -141,22 +134,23 @@ class ExpenseServiceTest {
         assertThat(expense.getAmount()).isEqualTo(newExpenseDTO.amount());
         assertThat(expense.getCategory().getCategoryId()).isEqualTo(newExpenseDTO.categoryId());
         assertThat(expense.getAccount().getAccountId()).isEqualTo(newExpenseDTO.accountId());
-        assertThat(expense.getAccount().getBalance()).isEqualTo(accountBalance.subtract(newExpenseDTO.amount()));
-        assertThat(sampleBudget.getMonthlyBudgetBalance()).isEqualTo(monthlyBudgetBalance.subtract(newExpenseDTO.amount()));
-        assertThat(sampleBudget.getMonthlyBudgetUsed()).isEqualTo(monthlyBudgetUsed.add(newExpenseDTO.amount()));
-        assertThat(sampleBudget.getMonthlyBudgetUsedPercentage()).isEqualTo(monthlyBudgetUsedPercentage.add(newExpenseDTO.amount().multiply(new BigDecimal(100)).divide(sampleBudget.getMonthlyBudget(), RoundingMode.HALF_UP)));
 
         verify(categoryRepository, times(1)).findById(any(UUID.class));
         verify(accountRepository, times(1)).findById(any(UUID.class));
-        verify(budgetRepository, times(1)).findByCategoryMonthYear(any(Category.class), anyInt(), anyInt());
-        verify(expenseRepository, times(1)).persistAndFlush(any(Expense.class));
+        verify(budgetEventRepository, times(1)).persist(budgetEvent.capture());
+        verify(accountRepository, times(1)).withdraw(sampleAccount, newExpenseDTO.amount());
+        verify(expenseRepository, times(1)).persist(any(Expense.class));
+
+        assertThat(budgetEvent.getValue().getCategory()).isEqualTo(sampleCategory);
+        assertThat(budgetEvent.getValue().getEventMonth()).isEqualTo(newExpenseDTO.date().getMonthValue());
+        assertThat(budgetEvent.getValue().getEventYear()).isEqualTo(newExpenseDTO.date().getYear());
+        assertThat(budgetEvent.getValue().getAmount()).isEqualTo(newExpenseDTO.amount());
     }
 
     @Test
     @DisplayName("Should add an expense when category is null")
     void shouldAddExpenseWhenCategoryIsNull() {
         // given
-        BigDecimal accountBalance = sampleAccount.getBalance();
 
         NewExpenseDTO newExpenseDTO = new NewExpenseDTO(
                 "expenseDescription",
@@ -170,7 +164,7 @@ class ExpenseServiceTest {
 
         when(categoryRepository.findById(any(UUID.class))).thenReturn(null);
         when(accountRepository.findById(any(UUID.class))).thenReturn(sampleAccount);
-        doNothing().when(expenseRepository).persistAndFlush(any(Expense.class));
+        doNothing().when(expenseRepository).persist(any(Expense.class));
 
         // when
         ExpenseDTO expense = expenseService.addExpense(newExpenseDTO);
@@ -182,19 +176,18 @@ class ExpenseServiceTest {
         assertThat(expense.getAmount()).isEqualTo(newExpenseDTO.amount());
         assertThat(expense.getCategory()).isNull();
         assertThat(expense.getAccount().getAccountId()).isEqualTo(newExpenseDTO.accountId());
-        assertThat(expense.getAccount().getBalance()).isEqualTo(accountBalance.subtract(newExpenseDTO.amount()));
 
-        verify(categoryRepository, times(1)).findById(null);
+        verify(categoryRepository, never()).findById(any());
         verify(accountRepository, times(1)).findById(any(UUID.class));
-        verify(expenseRepository, times(1)).persistAndFlush(any(Expense.class));
+        verify(budgetEventRepository, never()).persist(any(BudgetEvent.class));
+        verify(expenseRepository, times(1)).persist(any(Expense.class));
+        verify(accountRepository, times(1)).withdraw(sampleAccount, newExpenseDTO.amount());
     }
 
     @Test
-    @DisplayName("Should add an expense when category has no budget associated")
-    void shouldAddExpenseWhenCategoryHasNoBudgetAssociated() {
+    @DisplayName("Should throw exception on add expense with a non-existing account")
+    void shouldThrowExceptionOnAddExpenseNonExistingAccount() {
         // given
-        BigDecimal accountBalance = sampleAccount.getBalance();
-
         NewExpenseDTO newExpenseDTO = new NewExpenseDTO(
                 "expenseDescription",
                 6,
@@ -205,59 +198,77 @@ class ExpenseServiceTest {
                 LocalDate.of(2025, 6, 27)
         );
 
-        when(categoryRepository.findById(any(UUID.class))).thenReturn(sampleCategory);
-        when(budgetRepository.findByCategoryMonthYear(any(Category.class), anyInt(), anyInt())).thenReturn(null);
-        when(accountRepository.findById(any(UUID.class))).thenReturn(sampleAccount);
-        doNothing().when(expenseRepository).persistAndFlush(any(Expense.class));
-
-        // when
-        ExpenseDTO expense = expenseService.addExpense(newExpenseDTO);
+        when(accountRepository.findById(any(UUID.class))).thenReturn(null);
 
-        // then
-        assertThat(expense.getExpenseDescription()).isEqualTo(newExpenseDTO.expenseDescription());
-        assertThat(expense.getExpenseMonth()).isEqualTo(newExpenseDTO.expenseMonth());
-        assertThat(expense.getExpenseYear()).isEqualTo(newExpenseDTO.expenseYear());
-        assertThat(expense.getAmount()).isEqualTo(newExpenseDTO.amount());
-        assertThat(expense.getCategory().getCategoryId()).isEqualTo(newExpenseDTO.categoryId());
-        assertThat(expense.getAccount().getAccountId()).isEqualTo(newExpenseDTO.accountId());
-        assertThat(expense.getAccount().getBalance()).isEqualTo(accountBalance.subtract(newExpenseDTO.amount()));
+        // when / then
+        assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(() -> {
+            expenseService.addExpense(newExpenseDTO);
+        });
 
-        verify(categoryRepository, times(1)).findById(any(UUID.class));
-        verify(budgetRepository, times(1)).findByCategoryMonthYear(any(Category.class), anyInt(), anyInt());
         verify(accountRepository, times(1)).findById(any(UUID.class));
-        verify(expenseRepository, times(1)).persistAndFlush(any(Expense.class));
     }
 
     @Test
-    @DisplayName("Should throw exception on add expense with a non-existing account")
-    void shouldThrowExceptionOnAddExpenseNonExistingAccount() {
+    @DisplayName("Should add expenses in batch applying account and budget deltas once")
+    void shouldAddExpensesInBatch() {
         // given
-        NewExpenseDTO newExpenseDTO = new NewExpenseDTO(
-                "expenseDescription",
-                6,
-                2025,
-                new BigDecimal("10.00"),
-                sampleCategory.getCategoryId(),
-                sampleAccount.getAccountId(),
-                LocalDate.of(2025, 6, 27)
+        ArgumentCaptor<BudgetEvent> budgetEvent = ArgumentCaptor.forClass(BudgetEvent.class);
+
+        List<NewExpenseDTO> newExpenseDTOs = List.of(
+                getSampleNewExpense(new BigDecimal("10.00")),
+                getSampleNewExpense(new BigDecimal("20.00")),
+                getSampleNewExpense(new BigDecimal("-5.00"))
         );
 
-        when(accountRepository.findById(any(UUID.class))).thenReturn(null);
+        when(accountRepository.findByIds(anyCollection())).thenReturn(List.of(sampleAccount));
+        when(categoryRepository.findByIds(anyCollection())).thenReturn(List.of(sampleCategory));
 
-        // when / then
-        assertThatExceptionOfType(EntityNotFoundException.class).isThrownBy(() -> {
-            expenseService.addExpense(newExpenseDTO);
-        });
+        // when
+        ExpenseBatchDTO batch = expenseService.addExpenses(newExpenseDTOs);
 
-        verify(accountRepository, times(1)).findById(any(UUID.class));
+        // then
+        assertThat(batch.getImported()).isEqualTo(2);
+        assertThat(batch.getFailures()).hasSize(1);
+        assertThat(batch.getFailures().getFirst().getRow()).isEqualTo(3);
+        assertThat(batch.getFailures().getFirst().getDetails().getFirst()).containsEntry("key", "amount");
+
+        verify(accountRepository, times(1)).findByIds(anyCollection());
+        verify(categoryRepository, times(1)).findByIds(anyCollection());
+        verify(accountRepository, times(1)).withdraw(sampleAccount, new BigDecimal("30.00"));
+        verify(budgetEventRepository, times(1)).persist(budgetEvent.capture());
+        verify(expenseRepository, times(1)).persist(anyIterable());
+
+        assertThat(budgetEvent.getValue().getCategory()).isEqualTo(sampleCategory);
+        assertThat(budgetEvent.getValue().getAmount()).isEqualTo(new BigDecimal("30.00"));
+    }
+
+    @Test
+    @DisplayName("Should report rows with a non-existing account on add expenses in batch")
+    void shouldReportNonExistingAccountOnAddExpensesInBatch() {
+        // given
+        List<NewExpenseDTO> newExpenseDTOs = List.of(getSampleNewExpense(new BigDecimal("10.00")));
+
+        when(accountRepository.findByIds(anyCollection())).thenReturn(List.of());
+        when(categoryRepository.findByIds(anyCollection())).thenReturn(List.of(sampleCategory));
+
+        // when
+        ExpenseBatchDTO batch = expenseService.addExpenses(newExpenseDTOs);
+
+        // then
+        assertThat(batch.getImported()).isZero();
+        assertThat(batch.getFailures()).hasSize(1);
+        assertThat(batch.getFailures().getFirst().getDetails().getFirst()).containsEntry("key", "accountId");
+
+        verify(accountRepository, never()).withdraw(any(Account.class), any(BigDecimal.class));
+        verify(budgetEventRepository, never()).persist(any(BudgetEvent.class));
     }
 
     @Test
     @DisplayName("Should update an expense")
     void shouldUpdateExpense() {
         // given
-        BigDecimal accountBalance = sampleExpense.getAccount().getBalance();
         BigDecimal expenseAmount = sampleExpense.getAmount();
+        ArgumentCaptor<BudgetEvent> budgetEvents = ArgumentCaptor.forClass(BudgetEvent.class);
 
         UpdateExpenseDTO updateExpenseDTO = new UpdateExpenseDTO(
                 "newExpenseDescription",
@@ -270,7 +281,6 @@ class ExpenseServiceTest {
         );
 
         when(expenseRepository.findById(sampleExpenseId)).thenReturn(sampleExpense);
-        when(budgetRepository.findByCategoryMonthYear(sampleExpense.getCategory(), sampleExpense.getDate().getMonthValue(), sampleExpense.getDate().getYear())).thenReturn(sampleBudget);
         when(categoryRepository.findById(updateExpenseDTO.categoryId())).thenReturn(sampleCategory);
         when(accountRepository.findById(updateExpenseDTO.accountId())).thenReturn(sampleAccount);
 
@@ -286,11 +296,16 @@ class ExpenseServiceTest {
         assertThat(sampleExpense.getCategory().getCategoryId()).isEqualTo(updateExpenseDTO.categoryId());
         assertThat(sampleExpense.getAccount().getAccountId()).isEqualTo(updateExpenseDTO.accountId());
         assertThat(sampleExpense.getDate()).isEqualTo(updateExpenseDTO.date());
-        assertThat(sampleExpense.getAccount().getBalance()).isEqualTo(accountBalance.add(expenseAmount.subtract(updateExpenseDTO.amount())));
 
         verify(expenseRepository, times(1)).findById(sampleExpenseId);
-        verify(budgetRepository, times(2)).findByCategoryMonthYear(sampleExpense.getCategory(), sampleExpense.getDate().getMonthValue(), sampleExpense.getDate().getYear());
+        verify(budgetEventRepository, times(2)).persist(budgetEvents.capture());
         verify(accountRepository, times(1)).findById(updateExpenseDTO.accountId());
+        verify(accountRepository, times(1)).withdrawAndDeposit(sampleAccount, updateExpenseDTO.amount(), sampleAccount, expenseAmount);
+
+        assertThat(budgetEvents.getAllValues().getFirst().getAmount()).isEqualTo(expenseAmount.negate());
+        assertThat(budgetEvents.getAllValues().getFirst().getEventMonth()).isEqualTo(6);
+        assertThat(budgetEvents.getAllValues().getLast().getAmount()).isEqualTo(updateExpenseDTO.amount());
+        assertThat(budgetEvents.getAllValues().getLast().getEventMonth()).isEqualTo(updateExpenseDTO.date().getMonthValue());
     }
 
     @Test
@@ -318,11 +333,12 @@ class ExpenseServiceTest {
     }
 
     @Test
-    @DisplayName("Should update an expense when current category has no budget associated")
-    void shouldUpdateExpenseWhenCurrentCategoryHasNoBudgetAssociated() {
+    @DisplayName("Should update an expense when current category is null")
+    void shouldUpdateExpenseWhenCurrentCategoryIsNull() {
         // given
-        BigDecimal accountBalance = sampleExpense.getAccount().getBalance();
         BigDecimal expenseAmount = sampleExpense.getAmount();
+        ArgumentCaptor<BudgetEvent> budgetEvent = ArgumentCaptor.forClass(BudgetEvent.class);
+        sampleExpense.bindCategory(null);
 
         UpdateExpenseDTO updateExpenseDTO = new UpdateExpenseDTO(
                 "newExpenseDescription",
@@ -335,7 +351,6 @@ class ExpenseServiceTest {
         );
 
         when(expenseRepository.findById(sampleExpenseId)).thenReturn(sampleExpense);
-        when(budgetRepository.findByCategoryMonthYear(sampleExpense.getCategory(), sampleExpense.getDate().getMonthValue(), sampleExpense.getDate().getYear())).thenReturn(null);
         when(categoryRepository.findById(updateExpenseDTO.categoryId())).thenReturn(sampleCategory);
         when(accountRepository.findById(updateExpenseDTO.accountId())).thenReturn(sampleAccount);
 
@@ -351,19 +366,21 @@ class ExpenseServiceTest {
         assertThat(sampleExpense.getCategory().getCategoryId()).isEqualTo(updateExpenseDTO.categoryId());
         assertThat(sampleExpense.getAccount().getAccountId()).isEqualTo(updateExpenseDTO.accountId());
         assertThat(sampleExpense.getDate()).isEqualTo(updateExpenseDTO.date());
-        assertThat(sampleExpense.getAccount().getBalance()).isEqualTo(accountBalance.add(expenseAmount.subtract(updateExpenseDTO.amount())));
 
         verify(expenseRepository, times(1)).findById(sampleExpenseId);
-        verify(budgetRepository, times(2)).findByCategoryMonthYear(sampleExpense.getCategory(), sampleExpense.getDate().getMonthValue(), sampleExpense.getDate().getYear());
+        verify(budgetEventRepository, times(1)).persist(budgetEvent.capture());
         verify(accountRepository, times(1)).findById(updateExpenseDTO.accountId());
+        verify(accountRepository, times(1)).withdrawAndDeposit(sampleAccount, updateExpenseDTO.amount(), sampleAccount, expenseAmount);
+
+        assertThat(budgetEvent.getValue().getAmount()).isEqualTo(updateExpenseDTO.amount());
     }
 
     @Test
     @DisplayName("Should update an expense when new category is null")
     void shouldUpdateExpenseWhenNewCategoryIsNull() {
         // given
-        BigDecimal accountBalance = sampleExpense.getAccount().getBalance();
         BigDecimal expenseAmount = sampleExpense.getAmount();
+        ArgumentCaptor<BudgetEvent> budgetEvent = ArgumentCaptor.forClass(BudgetEvent.class);
 
         UpdateExpenseDTO updateExpenseDTO = new UpdateExpenseDTO(
                 "newExpenseDescription",
@@ -391,11 +408,14 @@ class ExpenseServiceTest {
         assertThat(sampleExpense.getCategory()).isNull();
         assertThat(sampleExpense.getAccount().getAccountId()).isEqualTo(updateExpenseDTO.accountId());
         assertThat(sampleExpense.getDate()).isEqualTo(updateExpenseDTO.date());
-        assertThat(sampleExpense.getAccount().getBalance()).isEqualTo(accountBalance.add(expenseAmount.subtract(updateExpenseDTO.amount())));
 
         verify(expenseRepository, times(1)).findById(sampleExpenseId);
-        verify(categoryRepository, times(1)).findById(isNull());
+        verify(categoryRepository, never()).findById(any());
+        verify(budgetEventRepository, times(1)).persist(budgetEvent.capture());
         verify(accountRepository, times(1)).findById(updateExpenseDTO.accountId());
+        verify(accountRepository, times(1)).withdrawAndDeposit(sampleAccount, updateExpenseDTO.amount(), sampleAccount, expenseAmount);
+
+        assertThat(budgetEvent.getValue().getAmount()).isEqualTo(expenseAmount.negate());
     }
 
     @Test
@@ -413,7 +433,6 @@ class ExpenseServiceTest {
         );
 
         when(expenseRepository.findById(sampleExpenseId)).thenReturn(sampleExpense);
-        when(budgetRepository.findByCategoryMonthYear(sampleExpense.getCategory(), sampleExpense.getDate().getMonthValue(), sampleExpense.getDate().getYear())).thenReturn(sampleBudget);
         when(categoryRepository.findById(updateExpenseDTO.categoryId())).thenReturn(sampleCategory);
         when(accountRepository.findById(updateExpenseDTO.accountId())).thenReturn(null);
 
@@ -423,7 +442,7 @@ class ExpenseServiceTest {
         });
 
         verify(expenseRepository, times(1)).findById(sampleExpenseId);
-        verify(budgetRepository, times(2)).findByCategoryMonthYear(sampleExpense.getCategory(), sampleExpense.getDate().getMonthValue(), sampleExpense.getDate().getYear());
+        verify(budgetEventRepository, times(2)).persist(any(BudgetEvent.class));
         verify(accountRepository, times(1)).findById(updateExpenseDTO.accountId());
     }
 
@@ -466,15 +485,19 @@ class ExpenseServiceTest {
     }
 
     @Test
-    @DisplayName("Should get all expenses")
+    @DisplayName("Should get a page of expenses")
     void shouldGetExpenses() {
         // given
-        when(expenseRepository.listAll()).thenReturn(List.of(sampleExpense));
+        ExpenseFilterDTO filter = new ExpenseFilterDTO(null, null, null, null, null, null);
+
+        when(expenseRepository.findPage(any(ExpenseFilterDTO.class), isNull(), eq(11))).thenReturn(List.of(getExpenseProjection(sampleExpense)));
 
         // when
-        List<ExpenseDTO> expenses = expenseService.getExpenses();
+        ExpensePageDTO page = expenseService.getExpenses(filter, null, 10);
+        List<ExpenseDTO> expenses = page.getExpenses();
 
         // then
+        assertThat(page.getNextCursor()).isNull();
         assertThat(expenses).hasSize(1);
         assertThat(expenses.getFirst().getExpenseId()).isEqualTo(sampleExpense.getExpenseId());
         assertThat(expenses.getFirst().getExpenseDescription()).isEqualTo(sampleExpense.getExpenseDescription());
@@ -487,34 +510,104 @@ class ExpenseServiceTest {
         assertThat(expenses.getFirst().getCreatedAt()).isEqualTo(sampleExpense.getCreatedAt());
         assertThat(expenses.getFirst().getUpdatedAt()).isEqualTo(sampleExpense.getUpdatedAt());
 
-        verify(expenseRepository, times(1)).listAll();
+        verify(expenseRepository, times(1)).findPage(any(ExpenseFilterDTO.class), isNull(), eq(11));
+    }
+
+    @Test
+    @DisplayName("Should return a next cursor when more expenses are available")
+    void shouldReturnNextCursorWhenMoreExpensesAreAvailable() {
+        // given
+        ExpenseFilterDTO filter = new ExpenseFilterDTO(null, null, null, null, null, null);
+        Expense olderExpense = Expense.builder()
+                .expenseId(UUID.randomUUID())
+                .expenseDescription("olderExpenseDescription")
+                .amount(new BigDecimal("5.00"))
+                .date(LocalDate.of(2025, 6, 1))
+                .expenseMonth(6)
+                .expenseYear(2025)
+                .account(sampleAccount)
+                .build();
+        ExpenseCursor cursor = new ExpenseCursor(LocalDate.of(2025, 6, 30), UUID.randomUUID());
+
+        when(expenseRepository.findPage(any(ExpenseFilterDTO.class), eq(cursor), eq(2))).thenReturn(List.of(getExpenseProjection(sampleExpense), getExpenseProjection(olderExpense)));
+
+        // when
+        ExpensePageDTO page = expenseService.getExpenses(filter, cursor.encode(), 1);
+
+        // then
+        assertThat(page.getExpenses()).hasSize(1);
+        assertThat(page.getExpenses().getFirst().getExpenseId()).isEqualTo(sampleExpense.getExpenseId());
+        assertThat(ExpenseCursor.decode(page.getNextCursor())).isEqualTo(new ExpenseCursor(sampleExpense.getDate(), sampleExpense.getExpenseId()));
+
+        verify(expenseRepository, times(1)).findPage(any(ExpenseFilterDTO.class), eq(cursor), eq(2));
+    }
+
+    @Test
+    @DisplayName("Should throw exception on get expenses with an invalid cursor")
+    void shouldThrowExceptionOnGetExpensesWithInvalidCursor() {
+        // given
+        ExpenseFilterDTO filter = new ExpenseFilterDTO(null, null, null, null, null, null);
+
+        // when / then
+        assertThatExceptionOfType(InvalidCursorException.class).isThrownBy(() -> {
+            expenseService.getExpenses(filter, "not-a-cursor", 10);
+        });
     }
 
     @Test
     @DisplayName("Should delete an expense")
     void shouldDeleteExpense() {
         // given
-        BigDecimal accountBalance = sampleAccount.getBalance();
-        BigDecimal monthlyBudgetBalance = sampleBudget.getMonthlyBudgetBalance();
-        BigDecimal monthlyBudgetUsed = sampleBudget.getMonthlyBudgetUsed();
-        BigDecimal monthlyBudgetUsedPercentage = sampleBudget.getMonthlyBudgetUsedPercentage();
+        ArgumentCaptor<BudgetEvent> budgetEvent = ArgumentCaptor.forClass(BudgetEvent.class);
 
         when(expenseRepository.findById(any(UUID.class))).thenReturn(sampleExpense);
-        when(budgetRepository.findByCategoryMonthYear(any(Category.class), anyInt(), anyInt())).thenReturn(sampleBudget);
         doNothing().when(expenseRepository).delete(any(Expense.class));
 
         // when / then
         assertThatNoException().isThrownBy(() -> {
             expenseService.deleteExpense(sampleExpenseId);
         });
-        assertThat(sampleExpense.getAccount().getBalance()).isEqualTo(accountBalance.add(sampleExpense.getAmount()));
-        assertThat(sampleBudget.getMonthlyBudgetBalance()).isEqualTo(monthlyBudgetBalance.add(sampleExpense.getAmount()));
-        assertThat(sampleBudget.getMonthlyBudgetUsed()).isEqualTo(monthlyBudgetUsed.subtract(sampleExpense.getAmount()));
-        assertThat(sampleBudget.getMonthlyBudgetUsedPercentage()).isEqualTo(monthlyBudgetUsedPercentage.subtract(sampleExpense.getAmount().multiply(new BigDecimal(100)).divide(sampleBudget.getMonthlyBudget(), RoundingMode.HALF_UP)));
 
         verify(expenseRepository, times(1)).findById(any(UUID.class));
-        verify(budgetRepository, times(1)).findByCategoryMonthYear(any(Category.class), anyInt(), anyInt());
+        verify(budgetEventRepository, times(1)).persist(budgetEvent.capture());
         verify(expenseRepository, times(1)).delete(any(Expense.class));
+        verify(accountRepository, times(1)).deposit(sampleAccount, sampleExpense.getAmount());
+
+        assertThat(budgetEvent.getValue().getEventMonth()).isEqualTo(sampleExpense.getDate().getMonthValue());
+        assertThat(budgetEvent.getValue().getEventYear()).isEqualTo(sampleExpense.getDate().getYear());
+        assertThat(budgetEvent.getValue().getAmount()).isEqualTo(sampleExpense.getAmount().negate());
+    }
+
+    @Test
+    @DisplayName("Should take a deleted expense off the budget of its date when its month differs")
+    void shouldDeleteExpenseFromBudgetOfItsDate() {
+        // given
+        ArgumentCaptor<BudgetEvent> budgetEvent = ArgumentCaptor.forClass(BudgetEvent.class);
+        Expense expense = Expense.builder()
+                .expenseId(sampleExpenseId)
+                .expenseDescription("expenseDescription")
+                .amount(new BigDecimal("10.00"))
+                .date(LocalDate.of(2025, 6, 27))
+                .expenseMonth(5)
+                .expenseYear(2024)
+                .account(sampleAccount)
+                .category(sampleCategory)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        when(expenseRepository.findById(any(UUID.class))).thenReturn(expense);
+        doNothing().when(expenseRepository).delete(any(Expense.class));
+
+        // when
+        expenseService.deleteExpense(sampleExpenseId);
+
+        // then
+        verify(budgetEventRepository, times(1)).persist(budgetEvent.capture());
+
+        assertThat(budgetEvent.getValue().getEventMonth()).isEqualTo(6);
+        assertThat(budgetEvent.getValue().getEventYear()).isEqualTo(2025);
+        assertThat(budgetEvent.getValue().getAmount()).isEqualTo(new BigDecimal("-10.00"));
     }
 
     @Test
@@ -532,23 +625,71 @@ class ExpenseServiceTest {
     }
 
     @Test
-    @DisplayName("Should delete an expense when budget is null")
-    void shouldDeleteExpenseWhenBudgetIsNull() {
+    @DisplayName("Should delete an expense when category is null")
+    void shouldDeleteExpenseWhenCategoryIsNull() {
         // given
-        BigDecimal accountBalance = sampleAccount.getBalance();
+        sampleExpense.bindCategory(null);
 
         when(expenseRepository.findById(any(UUID.class))).thenReturn(sampleExpense);
-        when(budgetRepository.findByCategoryMonthYear(any(Category.class), anyInt(), anyInt())).thenReturn(null);
         doNothing().when(expenseRepository).delete(any(Expense.class));
 
         // when / then
         assertThatNoException().isThrownBy(() -> {
             expenseService.deleteExpense(sampleExpenseId);
         });
-        assertThat(sampleExpense.getAccount().getBalance()).isEqualTo(accountBalance.add(sampleExpense.getAmount()));
 
         verify(expenseRepository, times(1)).findById(any(UUID.class));
-        verify(budgetRepository, times(1)).findByCategoryMonthYear(any(Category.class), anyInt(), anyInt());
+        verify(budgetEventRepository, never()).persist(any(BudgetEvent.class));
         verify(expenseRepository, times(1)).delete(any(Expense.class));
+        verify(accountRepository, times(1)).deposit(sampleAccount, sampleExpense.getAmount());
+    }
+
+    private NewExpenseDTO getSampleNewExpense(BigDecimal amount) {
+        return new NewExpenseDTO(
+                "expenseDescription",
+                6,
+                2025,
+                amount,
+                sampleCategory.getCategoryId(),
+                sampleAccount.getAccountId(),
+                LocalDate.of(2025, 6, 27)
+        );
+    }
+
+    private ExpenseProjection getExpenseProjection(Expense expense) {
+        return new ExpenseProjection(
+                expense.getExpenseId(),
+                expense.getExpenseDescription(),
+                expense.getExpenseMonth(),
+                expense.getExpenseYear(),
+                expense.getAmount(),
+                expense.getCategory() != null ? getCategoryProjection(expense.getCategory()) : null,
+                getAccountProjection(expense.getAccount()),
+                expense.getDate(),
+                expense.getCreatedAt(),
+                expense.getUpdatedAt()
+        );
+    }
+
+    private CategoryProjection getCategoryProjection(Category category) {
+        return new CategoryProjection(
+                category.getCategoryId(),
+                category.getCategoryName(),
+                category.getCreatedAt(),
+                category.getUpdatedAt()
+        );
+    }
+
+    private AccountProjection getAccountProjection(Account account) {
+        return new AccountProjection(
+                account.getAccountId(),
+                account.getFinancialInstitution(),
+                account.getAccountName(),
+                account.getAccountType(),
+                account.getInitialBalance(),
+                account.getBalance(),
+                account.getCreatedAt(),
+                account.getUpdatedAt()
+        );
     }
 }
\ No newline at end of file
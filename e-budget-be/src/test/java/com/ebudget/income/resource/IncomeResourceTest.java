@@ -4,6 +4,7 @@ import com.ebudget.account.model.Account;
 import com.ebudget.account.model.enums.FinancialInstitution;
 import com.ebudget.account.model.enums.AccountType;
 import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.core.statistics.SqlStatementCounter;
 import com.ebudget.income.model.Income;
 import com.ebudget.income.repository.IncomeRepository;
 import com.ebudget.income.resource.request.NewIncomeDTO;
@@ -36,6 +37,8 @@ class IncomeResourceTest {
     IncomeRepository incomeRepository;
     @Inject
     AccountRepository accountRepository;
+    @Inject
+    SqlStatementCounter sqlStatementCounter;
 
     private Account sampleAccount;
     private Income sampleIncome;
@@ -161,6 +164,25 @@ class IncomeResourceTest {
         assertThat(response.getFirst().getUpdatedAt()).isEqualTo(sampleIncome.getUpdatedAt());
     }
 
+    @Test
+    @DisplayName("Should list incomes with a single SQL statement")
+    void shouldListIncomesWithSingleStatement() {
+        persistIncomeWithNewAccount();
+        sqlStatementCounter.reset();
+
+        List<IncomeDTO> response = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<List<IncomeDTO>>() {});
+
+        assertThat(response).hasSize(2);
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Should delete an income")
     void shouldDeleteIncome() {
@@ -171,4 +193,23 @@ class IncomeResourceTest {
         .then()
             .statusCode(Response.Status.OK.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Transactional
+    void persistIncomeWithNewAccount() {
+        Account account = Account.builder()
+                .financialInstitution(FinancialInstitution.NONE)
+                .accountName("otherAccountName")
+                .accountType(AccountType.BANK_ACCOUNT)
+                .initialBalance(new BigDecimal("0.00"))
+                .balance(new BigDecimal("0.00"))
+                .build();
+        accountRepository.persistAndFlush(account);
+
+        Income income = Income.builder()
+                .incomeDescription("otherIncomeDescription")
+                .amount(new BigDecimal("5.00"))
+                .account(account)
+                .build();
+        incomeRepository.persistAndFlush(income);
+    }
+}
@@ -3,9 +3,11 @@ package com.ebudget.income.service;
 import com.ebudget.account.model.Account;
 import com.ebudget.account.model.enums.FinancialInstitution;
 import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.repository.AccountProjection;
 import com.ebudget.account.repository.AccountRepository;
 import com.ebudget.core.exceptions.EntityNotFoundException;
 import com.ebudget.income.model.Income;
+import com.ebudget.income.repository.IncomeProjection;
 import com.ebudget.income.repository.IncomeRepository;
 import com.ebudget.income.resource.request.NewIncomeDTO;
 import com.ebudget.income.resource.request.UpdateIncomeDTO;
@@ -73,8 +75,6 @@ class IncomeServiceTest {
     @DisplayName("Should add an income")
     void shouldAddIncome() {
         // given
-        BigDecimal accountBalance = sampleAccount.getBalance();
-
         NewIncomeDTO newIncomeDTO = new NewIncomeDTO(
                 "incomeDescription",
                 new BigDecimal("10.00"),
@@ -82,7 +82,7 @@ class IncomeServiceTest {
         );
 
         when(accountRepository.findById(any(UUID.class))).thenReturn(sampleAccount);
-        doNothing().when(incomeRepository).persistAndFlush(any(Income.class));
+        doNothing().when(incomeRepository).persist(any(Income.class));
 
         // when
         IncomeDTO income = incomeService.addIncome(newIncomeDTO);
@@ -91,10 +91,10 @@ class IncomeServiceTest {
         assertThat(income.getIncomeDescription()).isEqualTo(newIncomeDTO.incomeDescription());
         assertThat(income.getAmount()).isEqualTo(newIncomeDTO.amount());
         assertThat(income.getAccount().getAccountId()).isEqualTo(newIncomeDTO.accountId());
-        assertThat(income.getAccount().getBalance()).isEqualTo(accountBalance.add(newIncomeDTO.amount()));
 
         verify(accountRepository, times(1)).findById(any(UUID.class));
-        verify(incomeRepository, times(1)).persistAndFlush(any(Income.class));
+        verify(accountRepository, times(1)).deposit(sampleAccount, newIncomeDTO.amount());
+        verify(incomeRepository, times(1)).persist(any(Income.class));
     }
 
     @Test
@@ -119,7 +119,6 @@ class IncomeServiceTest {
     @DisplayName("Should update an income when same account")
     void shouldUpdateIncomeWhenSameAccount() {
         // given
-        BigDecimal accountBalance = sampleAccount.getBalance();
         BigDecimal incomeAmount = sampleIncome.getAmount();
 
         UpdateIncomeDTO updateIncomeDTO = new UpdateIncomeDTO(
@@ -138,16 +137,15 @@ class IncomeServiceTest {
         assertThat(sampleIncome.getIncomeDescription()).isEqualTo(updateIncomeDTO.incomeDescription());
         assertThat(sampleIncome.getAmount()).isEqualTo(updateIncomeDTO.amount());
         assertThat(sampleIncome.getAccount().getAccountId()).isEqualTo(updateIncomeDTO.accountId());
-        assertThat(sampleIncome.getAccount().getBalance()).isEqualTo(accountBalance.add(updateIncomeDTO.amount().subtract(incomeAmount)));
 
         verify(incomeRepository, times(1)).findById(any(UUID.class));
+        verify(accountRepository, times(1)).withdrawAndDeposit(sampleAccount, incomeAmount, sampleAccount, updateIncomeDTO.amount());
     }
 
     @Test
     @DisplayName("Should update an income when different account")
     void shouldUpdateIncomeWhenDifferentAccount() {
         // given
-        BigDecimal oldAccountBalance = sampleAccount.getBalance();
         BigDecimal incomeAmount = sampleIncome.getAmount();
 
         Account account = Account.builder()
@@ -161,8 +159,6 @@ class IncomeServiceTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        BigDecimal newAccountBalance = account.getBalance();
-
         UpdateIncomeDTO updateIncomeDTO = new UpdateIncomeDTO(
                 "newIncomeDescription",
                 new BigDecimal("150.00"),
@@ -180,11 +176,10 @@ class IncomeServiceTest {
         assertThat(sampleIncome.getIncomeDescription()).isEqualTo(updateIncomeDTO.incomeDescription());
         assertThat(sampleIncome.getAmount()).isEqualTo(updateIncomeDTO.amount());
         assertThat(sampleIncome.getAccount().getAccountId()).isEqualTo(updateIncomeDTO.accountId());
-        assertThat(sampleAccount.getBalance()).isEqualTo(oldAccountBalance.subtract(incomeAmount));
-        assertThat(sampleIncome.getAccount().getBalance()).isEqualTo(newAccountBalance.add(updateIncomeDTO.amount()));
 
         verify(incomeRepository, times(1)).findById(any(UUID.class));
         verify(accountRepository, times(1)).findById(any(UUID.class));
+        verify(accountRepository, times(1)).withdrawAndDeposit(sampleAccount, incomeAmount, account, updateIncomeDTO.amount());
     }
 
     @Test
@@ -239,7 +234,7 @@ class IncomeServiceTest {
     @DisplayName("Should get incomes")
     void shouldGetIncomes() {
         // given
-        when(incomeRepository.listAll()).thenReturn(List.of(sampleIncome));
+        when(incomeRepository.listAllProjected()).thenReturn(List.of(getIncomeProjection(sampleIncome)));
 
         // when
         List<IncomeDTO> incomes = incomeService.getIncomes();
@@ -252,14 +247,13 @@ class IncomeServiceTest {
         assertThat(incomes.getFirst().getCreatedAt()).isEqualTo(sampleIncome.getCreatedAt());
         assertThat(incomes.getFirst().getUpdatedAt()).isEqualTo(sampleIncome.getUpdatedAt());
 
-        verify(incomeRepository, times(1)).listAll();
+        verify(incomeRepository, times(1)).listAllProjected();
     }
 
     @Test
     @DisplayName("Should delete an income")
     void shouldDeleteIncome() {
         // given
-        BigDecimal accountBalance = sampleAccount.getBalance();
         BigDecimal incomeAmount = sampleIncome.getAmount();
 
         when(incomeRepository.findById(any(UUID.class))).thenReturn(sampleIncome);
@@ -267,9 +261,9 @@ class IncomeServiceTest {
 
         // when / then
         assertThatNoException().isThrownBy(() -> incomeService.deleteIncome(sampleIncomeId));
-        assertThat(sampleIncome.getAccount().getBalance()).isEqualTo(accountBalance.subtract(incomeAmount));
 
         verify(incomeRepository, times(1)).findById(any(UUID.class));
+        verify(accountRepository, times(1)).withdraw(sampleAccount, incomeAmount);
         verify(incomeRepository, times(1)).delete(any(Income.class));
     }
 
@@ -284,4 +278,28 @@ class IncomeServiceTest {
 
         verify(incomeRepository, times(1)).findById(any(UUID.class));
     }
+
+    private IncomeProjection getIncomeProjection(Income income) {
+        return new IncomeProjection(
+                income.getIncomeId(),
+                income.getIncomeDescription(),
+                income.getAmount(),
+                getAccountProjection(income.getAccount()),
+                income.getCreatedAt(),
+                income.getUpdatedAt()
+        );
+    }
+
+    private AccountProjection getAccountProjection(Account account) {
+        return new AccountProjection(
+                account.getAccountId(),
+                account.getFinancialInstitution(),
+                account.getAccountName(),
+                account.getAccountType(),
+                account.getInitialBalance(),
+                account.getBalance(),
+                account.getCreatedAt(),
+                account.getUpdatedAt()
+        );
+    }
 }
\ No newline at end of file
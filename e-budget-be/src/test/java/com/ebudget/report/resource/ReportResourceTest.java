@@ -0,0 +1,207 @@
+package com.ebudget.report.resource;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.account.model.enums.FinancialInstitution;
+import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.core.statistics.SqlStatementCounter;
+import com.ebudget.expense.model.Expense;
+import com.ebudget.expense.repository.ExpenseRepository;
+import com.ebudget.income.model.Income;
+import com.ebudget.income.repository.IncomeRepository;
+import com.ebudget.report.resource.response.AccountReportDTO;
+import com.ebudget.report.resource.response.CategoryReportDTO;
+import com.ebudget.report.resource.response.MonthlyReportDTO;
+import io.quarkus.test.common.http.TestHTTPEndpoint;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.common.mapper.TypeRef;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@DisplayName("Report Resource")
+@TestHTTPEndpoint(ReportResource.class)
+class ReportResourceTest {
+    @Inject
+    ExpenseRepository expenseRepository;
+    @Inject
+    IncomeRepository incomeRepository;
+    @Inject
+    AccountRepository accountRepository;
+    @Inject
+    CategoryRepository categoryRepository;
+    @Inject
+    SqlStatementCounter sqlStatementCounter;
+
+    private Account sampleAccount;
+    private Category sampleCategory;
+
+    @BeforeEach
+    @Transactional
+    void setup() {
+        sampleAccount = Account.builder()
+                .financialInstitution(FinancialInstitution.NONE)
+                .accountName("accountName")
+                .accountType(AccountType.BANK_ACCOUNT)
+                .initialBalance(new BigDecimal("0.00"))
+                .balance(new BigDecimal("0.00"))
+                .build();
+        accountRepository.persist(sampleAccount);
+
+        sampleCategory = Category.builder()
+                .categoryName("categoryName")
+                .build();
+        categoryRepository.persist(sampleCategory);
+
+        expenseRepository.persist(getSampleExpense(6, sampleCategory, "10.00"));
+        expenseRepository.persist(getSampleExpense(6, sampleCategory, "5.50"));
+        expenseRepository.persist(getSampleExpense(7, null, "2.00"));
+
+        incomeRepository.persist(Income.builder()
+                .incomeDescription("incomeDescription")
+                .amount(new BigDecimal("100.00"))
+                .account(sampleAccount)
+                .build());
+    }
+
+    @AfterEach
+    @Transactional
+    void destroy() {
+        expenseRepository.deleteAll();
+        incomeRepository.deleteAll();
+        accountRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should get the monthly report")
+    void shouldGetMonthlyReport() {
+        LocalDate today = LocalDate.now();
+
+        List<MonthlyReportDTO> response = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get("monthly")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .contentType(ContentType.JSON)
+            .extract()
+            .as(new TypeRef<List<MonthlyReportDTO>>() {});
+
+        assertThat(response).hasSize(3);
+        assertThat(response.get(0).getYear()).isEqualTo(2025);
+        assertThat(response.get(0).getMonth()).isEqualTo(6);
+        assertThat(response.get(0).getExpenses()).isEqualByComparingTo("15.50");
+        assertThat(response.get(0).getIncomes()).isEqualByComparingTo("0");
+        assertThat(response.get(1).getMonth()).isEqualTo(7);
+        assertThat(response.get(1).getExpenses()).isEqualByComparingTo("2.00");
+        assertThat(response.get(2).getYear()).isEqualTo(today.getYear());
+        assertThat(response.get(2).getMonth()).isEqualTo(today.getMonthValue());
+        assertThat(response.get(2).getIncomes()).isEqualByComparingTo("100.00");
+        assertThat(response.get(2).getBalance()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    @DisplayName("Should get the category report of a month")
+    void shouldGetCategoryReport() {
+        sqlStatementCounter.reset();
+
+        List<CategoryReportDTO> response = given()
+            .contentType(ContentType.JSON)
+            .queryParam("year", 2025)
+            .queryParam("month", 6)
+        .when()
+            .get("category")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .contentType(ContentType.JSON)
+            .extract()
+            .as(new TypeRef<List<CategoryReportDTO>>() {});
+
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).getCategoryId()).isEqualTo(sampleCategory.getCategoryId());
+        assertThat(response.get(0).getCategoryName()).isEqualTo(sampleCategory.getCategoryName());
+        assertThat(response.get(0).getExpenses()).isEqualByComparingTo("15.50");
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report uncategorized expenses without a category")
+    void shouldGetCategoryReportWithUncategorizedExpenses() {
+        List<CategoryReportDTO> response = given()
+            .contentType(ContentType.JSON)
+            .queryParam("year", 2025)
+        .when()
+            .get("category")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .contentType(ContentType.JSON)
+            .extract()
+            .as(new TypeRef<List<CategoryReportDTO>>() {});
+
+        assertThat(response).hasSize(2);
+        assertThat(response.get(1).getCategoryId()).isNull();
+        assertThat(response.get(1).getExpenses()).isEqualByComparingTo("2.00");
+    }
+
+    @Test
+    @DisplayName("Should get the account report")
+    void shouldGetAccountReport() {
+        sqlStatementCounter.reset();
+
+        List<AccountReportDTO> response = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get("account")
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .contentType(ContentType.JSON)
+            .extract()
+            .as(new TypeRef<List<AccountReportDTO>>() {});
+
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).getAccountId()).isEqualTo(sampleAccount.getAccountId());
+        assertThat(response.get(0).getExpenses()).isEqualByComparingTo("17.50");
+        assertThat(response.get(0).getIncomes()).isEqualByComparingTo("100.00");
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid report month")
+    void shouldRejectInvalidMonth() {
+        given()
+            .contentType(ContentType.JSON)
+            .queryParam("month", 13)
+        .when()
+            .get("account")
+        .then()
+            .statusCode(Response.Status.BAD_REQUEST.getStatusCode());
+    }
+
+    private Expense getSampleExpense(Integer month, Category category, String amount) {
+        return Expense.builder()
+                .expenseDescription("expenseDescription")
+                .amount(new BigDecimal(amount))
+                .date(LocalDate.of(2025, month, 1))
+                .expenseMonth(month)
+                .expenseYear(2025)
+                .account(sampleAccount)
+                .category(category)
+                .build();
+    }
+}
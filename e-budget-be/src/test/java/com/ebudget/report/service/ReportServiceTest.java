@@ -0,0 +1,81 @@
+package com.ebudget.report.service;
+
+import com.ebudget.report.repository.CategoryTotal;
+import com.ebudget.report.repository.PeriodTotal;
+import com.ebudget.report.repository.ReportRepository;
+import com.ebudget.report.resource.response.CategoryReportDTO;
+import com.ebudget.report.resource.response.MonthlyReportDTO;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@QuarkusTest
+@DisplayName("Report Service")
+class ReportServiceTest {
+    @Inject
+    ReportService reportService;
+    @InjectMock
+    ReportRepository reportRepository;
+
+    @Test
+    @DisplayName("Should merge monthly expenses and incomes in chronological order")
+    void shouldGetMonthlyReport() {
+        // given
+        when(reportRepository.sumExpensesByMonth(any())).thenReturn(List.of(
+                new PeriodTotal(2025, 7, new BigDecimal("30.00")),
+                new PeriodTotal(2024, 12, new BigDecimal("10.00"))
+        ));
+        when(reportRepository.sumIncomesByMonth(any())).thenReturn(List.of(
+                new PeriodTotal(2025, 7, new BigDecimal("100.00")),
+                new PeriodTotal(2025, 1, new BigDecimal("50.00"))
+        ));
+
+        // when
+        List<MonthlyReportDTO> report = reportService.getMonthlyReport(null);
+
+        // then
+        assertThat(report).extracting(MonthlyReportDTO::getYear).containsExactly(2024, 2025, 2025);
+        assertThat(report).extracting(MonthlyReportDTO::getMonth).containsExactly(12, 1, 7);
+        assertThat(report.get(0).getIncomes()).isEqualByComparingTo("0");
+        assertThat(report.get(0).getBalance()).isEqualByComparingTo("-10.00");
+        assertThat(report.get(1).getExpenses()).isEqualByComparingTo("0");
+        assertThat(report.get(2).getBalance()).isEqualByComparingTo("70.00");
+
+        verify(reportRepository, times(1)).sumExpensesByMonth(any());
+        verify(reportRepository, times(1)).sumIncomesByMonth(any());
+    }
+
+    @Test
+    @DisplayName("Should report the expenses of each category")
+    void shouldGetCategoryReport() {
+        // given
+        UUID categoryId = UUID.randomUUID();
+
+        when(reportRepository.sumExpensesByCategory(2025, 7)).thenReturn(List.of(
+                new CategoryTotal(categoryId, "categoryName", new BigDecimal("30.00")),
+                new CategoryTotal(null, null, new BigDecimal("5.00"))
+        ));
+
+        // when
+        List<CategoryReportDTO> report = reportService.getCategoryReport(2025, 7);
+
+        // then
+        assertThat(report).extracting(CategoryReportDTO::getCategoryId).containsExactly(categoryId, null);
+        assertThat(report.get(0).getCategoryName()).isEqualTo("categoryName");
+        assertThat(report.get(1).getExpenses()).isEqualByComparingTo("5.00");
+
+        verify(reportRepository, times(1)).sumExpensesByCategory(2025, 7);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.ebudget.sync.resource;
+
+import com.ebudget.account.model.Account;
+import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.model.enums.FinancialInstitution;
+import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.account.resource.response.AccountDTO;
+import com.ebudget.category.model.Category;
+import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.category.resource.response.CategoryDTO;
+import com.ebudget.sync.resource.response.SyncDTO;
+import com.ebudget.sync.resource.response.TombstoneDTO;
+import io.quarkus.test.common.http.TestHTTPEndpoint;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@QuarkusTest
+@DisplayName("Sync Resource")
+@TestHTTPEndpoint(SyncResource.class)
+class SyncResourceTest {
+    @Inject
+    AccountRepository accountRepository;
+    @Inject
+    CategoryRepository categoryRepository;
+
+    private Account sampleAccount;
+
+    @BeforeEach
+    @Transactional
+    void setup() {
+        sampleAccount = Account.builder()
+                .financialInstitution(FinancialInstitution.NONE)
+                .accountName("accountName")
+                .accountType(AccountType.BANK_ACCOUNT)
+                .initialBalance(new BigDecimal("100.00"))
+                .balance(new BigDecimal("100.00"))
+                .build();
+        accountRepository.persist(sampleAccount);
+    }
+
+    @AfterEach
+    @Transactional
+    void destroy() {
+        accountRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should return every row on the first sync")
+    void shouldSyncEverything() {
+        SyncDTO sync = sync(null);
+
+        assertThat(sync.getCursor()).isNotBlank();
+        assertThat(sync.getAccounts()).extracting(AccountDTO::getAccountId).contains(sampleAccount.getAccountId());
+    }
+
+    @Test
+    @DisplayName("Should return only the rows changed and deleted since the cursor")
+    void shouldSyncChangesSinceCursor() {
+        String cursor = sync(null).getCursor();
+        UUID categoryId = persistCategory();
+
+        SyncDTO created = sync(cursor);
+
+        assertThat(created.getAccounts()).isEmpty();
+        assertThat(created.getCategories()).extracting(CategoryDTO::getCategoryId).containsExactly(categoryId);
+        assertThat(created.getDeleted()).isEmpty();
+
+        deleteCategory(categoryId);
+        SyncDTO deleted = sync(created.getCursor());
+
+        assertThat(deleted.getCategories()).isEmpty();
+        assertThat(deleted.getDeleted()).extracting(TombstoneDTO::getEntity, TombstoneDTO::getEntityId)
+                .containsExactly(tuple("category", categoryId));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid cursor")
+    void shouldRejectInvalidCursor() {
+        given()
+            .contentType(ContentType.JSON)
+            .queryParam("since", "not-a-cursor")
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.BAD_REQUEST.getStatusCode());
+    }
+
+    private SyncDTO sync(String since) {
+        return given()
+            .contentType(ContentType.JSON)
+            .queryParam("since", since == null ? "" : since)
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(SyncDTO.class);
+    }
+
+    @Transactional
+    UUID persistCategory() {
+        Category category = Category.builder()
+                .categoryName("categoryName")
+                .build();
+        categoryRepository.persist(category);
+
+        return category.getCategoryId();
+    }
+
+    @Transactional
+    void deleteCategory(UUID categoryId) {
+        categoryRepository.deleteById(categoryId);
+    }
+}
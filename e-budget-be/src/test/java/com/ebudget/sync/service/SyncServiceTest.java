@@ -0,0 +1,103 @@
+package com.ebudget.sync.service;
+
+import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.budget.repository.BudgetRepository;
+import com.ebudget.category.repository.CategoryRepository;
+import com.ebudget.expense.exception.InvalidCursorException;
+import com.ebudget.expense.repository.ExpenseRepository;
+import com.ebudget.income.repository.IncomeRepository;
+import com.ebudget.sync.repository.SyncCursor;
+import com.ebudget.sync.repository.SyncRepository;
+import com.ebudget.sync.repository.Tombstone;
+import com.ebudget.sync.repository.SyncWindow;
+import com.ebudget.sync.resource.response.SyncDTO;
+import com.ebudget.transfer.repository.TransferRepository;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@QuarkusTest
+@DisplayName("Sync Service")
+class SyncServiceTest {
+    @Inject
+    SyncService syncService;
+    @InjectMock
+    SyncRepository syncRepository;
+    @InjectMock
+    AccountRepository accountRepository;
+    @InjectMock
+    CategoryRepository categoryRepository;
+    @InjectMock
+    BudgetRepository budgetRepository;
+    @InjectMock
+    ExpenseRepository expenseRepository;
+    @InjectMock
+    IncomeRepository incomeRepository;
+    @InjectMock
+    TransferRepository transferRepository;
+
+    @Test
+    @DisplayName("Should read the changes between the cursor and the watermark")
+    void shouldSyncChangesUpToWatermark() {
+        // given
+        SyncWindow window = new SyncWindow(100, 120);
+        Tombstone tombstone = new Tombstone("expense", UUID.randomUUID());
+
+        when(syncRepository.watermark()).thenReturn(120L);
+        when(syncRepository.findTombstones(window)).thenReturn(List.of(tombstone));
+
+        // when
+        SyncDTO sync = syncService.sync(new SyncCursor(100).encode());
+
+        // then
+        assertThat(SyncCursor.decode(sync.getCursor())).isEqualTo(new SyncCursor(120));
+        assertThat(sync.getDeleted()).hasSize(1);
+        assertThat(sync.getDeleted().getFirst().getEntity()).isEqualTo(tombstone.entity());
+        assertThat(sync.getDeleted().getFirst().getEntityId()).isEqualTo(tombstone.entityId());
+
+        verify(accountRepository, times(1)).listChangedProjected(window);
+        verify(categoryRepository, times(1)).listChangedProjected(window);
+        verify(budgetRepository, times(1)).listChangedProjected(window);
+        verify(expenseRepository, times(1)).listChangedProjected(window);
+        verify(incomeRepository, times(1)).listChangedProjected(window);
+        verify(transferRepository, times(1)).listChangedProjected(window);
+    }
+
+    @Test
+    @DisplayName("Should start from the beginning without a cursor")
+    void shouldSyncEverythingWithoutCursor() {
+        // given
+        when(syncRepository.watermark()).thenReturn(50L);
+
+        // when
+        SyncDTO sync = syncService.sync(null);
+
+        // then
+        assertThat(SyncCursor.decode(sync.getCursor())).isEqualTo(new SyncCursor(50));
+
+        verify(syncRepository, times(1)).findTombstones(new SyncWindow(0, 50));
+    }
+
+    @Test
+    @DisplayName("Should throw exception on an invalid cursor")
+    void shouldThrowExceptionOnInvalidCursor() {
+        // when / then
+        assertThatExceptionOfType(InvalidCursorException.class).isThrownBy(() -> {
+            syncService.sync("not-a-cursor");
+        });
+
+        verify(syncRepository, never()).watermark();
+    }
+}
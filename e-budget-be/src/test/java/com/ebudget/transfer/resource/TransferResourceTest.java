@@ -4,6 +4,7 @@ import com.ebudget.account.model.Account;
 import com.ebudget.account.model.enums.FinancialInstitution;
 import com.ebudget.account.model.enums.AccountType;
 import com.ebudget.account.repository.AccountRepository;
+import com.ebudget.core.statistics.SqlStatementCounter;
 import com.ebudget.transfer.model.Transfer;
 import com.ebudget.transfer.repository.TransferRepository;
 import com.ebudget.transfer.resource.request.NewTransferDTO;
@@ -36,6 +37,8 @@ class TransferResourceTest {
     TransferRepository transferRepository;
     @Inject
     AccountRepository accountRepository;
+    @Inject
+    SqlStatementCounter sqlStatementCounter;
 
     private Account sampleFromAccount;
     private Account sampleToAccount;
@@ -145,6 +148,25 @@ class TransferResourceTest {
         assertThat(response.getUpdatedAt()).isEqualTo(sampleTransfer.getUpdatedAt());
     }
 
+    @Test
+    @DisplayName("Should list transfers with a single SQL statement")
+    void shouldListTransfersWithSingleStatement() {
+        persistReverseTransfer();
+        sqlStatementCounter.reset();
+
+        List<TransferDTO> response = given()
+            .contentType(ContentType.JSON)
+        .when()
+            .get()
+        .then()
+            .statusCode(Response.Status.OK.getStatusCode())
+            .extract()
+            .as(new TypeRef<List<TransferDTO>>() {});
+
+        assertThat(response).hasSize(2);
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Should get all transfers")
     void getTransfers() {
@@ -167,4 +189,14 @@ class TransferResourceTest {
         assertThat(response.getFirst().getCreatedAt()).isEqualTo(sampleTransfer.getCreatedAt());
         assertThat(response.getFirst().getUpdatedAt()).isEqualTo(sampleTransfer.getUpdatedAt());
     }
-}
\ No newline at end of file
+
+    @Transactional
+    void persistReverseTransfer() {
+        Transfer transfer = Transfer.builder()
+                .amount(new BigDecimal("50.00"))
+                .fromAccount(sampleToAccount)
+                .toAccount(sampleFromAccount)
+                .build();
+        transferRepository.persistAndFlush(transfer);
+    }
+}
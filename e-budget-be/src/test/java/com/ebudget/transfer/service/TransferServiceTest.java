@@ -3,11 +3,13 @@ package com.ebudget.transfer.service;
 import com.ebudget.account.model.Account;
 import com.ebudget.account.model.enums.FinancialInstitution;
 import com.ebudget.account.model.enums.AccountType;
+import com.ebudget.account.repository.AccountProjection;
 import com.ebudget.account.repository.AccountRepository;
 import com.ebudget.core.exceptions.EntityNotFoundException;
 import com.ebudget.transfer.exception.RecipientAccountNotFoundException;
 import com.ebudget.transfer.exception.SenderAccountNotFoundException;
 import com.ebudget.transfer.model.Transfer;
+import com.ebudget.transfer.repository.TransferProjection;
 import com.ebudget.transfer.repository.TransferRepository;
 import com.ebudget.transfer.resource.request.NewTransferDTO;
 import com.ebudget.transfer.resource.response.TransferDTO;
@@ -86,9 +88,6 @@ class TransferServiceTest {
     @DisplayName("Should add a transfer")
     void shouldAddTransfer() {
         // given
-        BigDecimal fromAccountBalance = sampleFromAccount.getBalance();
-        BigDecimal toAccountBalance = sampleToAccount.getBalance();
-
         NewTransferDTO newTransferDTO = new NewTransferDTO(
                 "transferDescription",
                 new BigDecimal("10.00"),
@@ -98,7 +97,7 @@ class TransferServiceTest {
 
         when(accountRepository.findById(sampleFromAccount.getAccountId())).thenReturn(sampleFromAccount);
         when(accountRepository.findById(sampleToAccount.getAccountId())).thenReturn(sampleToAccount);
-        doNothing().when(transferRepository).persistAndFlush(any(Transfer.class));
+        doNothing().when(transferRepository).persist(any(Transfer.class));
 
         // when
         TransferDTO transfer = transferService.addTransfer(newTransferDTO);
@@ -108,11 +107,10 @@ class TransferServiceTest {
         assertThat(transfer.getAmount()).isEqualTo(newTransferDTO.amount());
         assertThat(transfer.getFromAccount().getAccountId()).isEqualTo(newTransferDTO.fromAccount());
         assertThat(transfer.getToAccount().getAccountId()).isEqualTo(newTransferDTO.toAccount());
-        assertThat(transfer.getFromAccount().getBalance()).isEqualTo(fromAccountBalance.subtract(newTransferDTO.amount()));
-        assertThat(transfer.getToAccount().getBalance()).isEqualTo(toAccountBalance.add(newTransferDTO.amount()));
 
         verify(accountRepository, times(2)).findById(any(UUID.class));
-        verify(transferRepository, times(1)).persistAndFlush(any(Transfer.class));
+        verify(accountRepository, times(1)).withdrawAndDeposit(sampleFromAccount, newTransferDTO.amount(), sampleToAccount, newTransferDTO.amount());
+        verify(transferRepository, times(1)).persist(any(Transfer.class));
     }
 
     @Test
@@ -162,18 +160,14 @@ class TransferServiceTest {
     @DisplayName("Should delete a transfer")
     void shouldDeleteTransfer() {
         // given
-        BigDecimal fromAccountBalance = sampleFromAccount.getBalance();
-        BigDecimal toAccountBalance = sampleToAccount.getBalance();
-
         when(transferRepository.findById(any(UUID.class))).thenReturn(sampleTransfer);
         doNothing().when(transferRepository).delete(any(Transfer.class));
 
         // when / then
         assertThatNoException().isThrownBy(() -> transferService.deleteTransfer(sampleTransferId));
-        assertThat(sampleTransfer.getFromAccount().getBalance()).isEqualTo(fromAccountBalance.add(sampleTransfer.getAmount()));
-        assertThat(sampleTransfer.getToAccount().getBalance()).isEqualTo(toAccountBalance.subtract(sampleTransfer.getAmount()));
 
         verify(transferRepository, times(1)).findById(any(UUID.class));
+        verify(accountRepository, times(1)).withdrawAndDeposit(sampleToAccount, sampleTransfer.getAmount(), sampleFromAccount, sampleTransfer.getAmount());
         verify(transferRepository, times(1)).delete(any(Transfer.class));
     }
 
@@ -226,7 +220,7 @@ class TransferServiceTest {
     @DisplayName("Should get all transfers")
     void shouldGetTransfers() {
         // given
-        when(transferRepository.listAll()).thenReturn(List.of(sampleTransfer));
+        when(transferRepository.listAllProjected()).thenReturn(List.of(getTransferProjection(sampleTransfer)));
 
         // when
         List<TransferDTO> transfers = transferService.getTransfers();
@@ -235,6 +229,31 @@ class TransferServiceTest {
         assertThat(transfers).hasSize(1);
         assertThat(transfers.getFirst().getTransferId()).isEqualTo(sampleTransfer.getTransferId());
 
-        verify(transferRepository, times(1)).listAll();
+        verify(transferRepository, times(1)).listAllProjected();
+    }
+
+    private TransferProjection getTransferProjection(Transfer transfer) {
+        return new TransferProjection(
+                transfer.getTransferId(),
+                transfer.getTransferDescription(),
+                transfer.getAmount(),
+                getAccountProjection(transfer.getFromAccount()),
+                getAccountProjection(transfer.getToAccount()),
+                transfer.getCreatedAt(),
+                transfer.getUpdatedAt()
+        );
+    }
+
+    private AccountProjection getAccountProjection(Account account) {
+        return new AccountProjection(
+                account.getAccountId(),
+                account.getFinancialInstitution(),
+                account.getAccountName(),
+                account.getAccountType(),
+                account.getInitialBalance(),
+                account.getBalance(),
+                account.getCreatedAt(),
+                account.getUpdatedAt()
+        );
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+CREATE TABLE budget_event (
+    budget_event_id UUID NOT NULL PRIMARY KEY,
+    category_id UUID NOT NULL,
+    event_month INT NOT NULL,
+    event_year INT NOT NULL,
+    amount DECIMAL(10, 2) NOT NULL,
+    created_at TIMESTAMPTZ DEFAULT now(),
+    FOREIGN KEY(category_id) REFERENCES category(category_id) ON DELETE CASCADE
+);
+
+CREATE INDEX budget_event_key_idx ON budget_event(category_id, event_year, event_month);
\ No newline at end of file
@@ -0,0 +1,6 @@
+ALTER TABLE account ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE transfer ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE income ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE category ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE budget ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE expense ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
\ No newline at end of file
@@ -0,0 +1,11 @@
+CREATE INDEX expense_date_idx ON expense(date DESC, expense_id DESC);
+CREATE INDEX expense_account_date_idx ON expense(account_id, date DESC, expense_id DESC);
+CREATE INDEX expense_category_period_idx ON expense(category_id, expense_year, expense_month) INCLUDE (amount);
+CREATE INDEX expense_period_idx ON expense(expense_year, expense_month);
+
+CREATE INDEX income_account_idx ON income(account_id);
+
+CREATE INDEX transfer_from_account_idx ON transfer(from_account);
+CREATE INDEX transfer_to_account_idx ON transfer(to_account);
+
+CREATE INDEX budget_event_created_at_idx ON budget_event(created_at);
\ No newline at end of file
@@ -0,0 +1 @@
+CREATE INDEX expense_category_date_idx ON expense(category_id, date) INCLUDE (amount);
\ No newline at end of file
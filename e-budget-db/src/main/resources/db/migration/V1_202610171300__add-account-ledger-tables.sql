@@ -0,0 +1,38 @@
+CREATE TABLE account_ledger (
+    ledger_id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    account_id UUID NOT NULL,
+    amount DECIMAL(10, 2) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    FOREIGN KEY(account_id) REFERENCES account(account_id) ON DELETE CASCADE
+);
+CREATE INDEX account_ledger_account_created_at_idx ON account_ledger(account_id, created_at) INCLUDE (amount);
+CREATE TABLE account_snapshot (
+    account_id UUID NOT NULL,
+    snapshot_at TIMESTAMPTZ NOT NULL,
+    balance DECIMAL(10, 2) NOT NULL,
+    PRIMARY KEY(account_id, snapshot_at),
+    FOREIGN KEY(account_id) REFERENCES account(account_id) ON DELETE CASCADE
+);
+-- Movements made before the ledger existed are carried over as one entry per income, expense and transfer, dated
+-- when it was created. The part of a balance those rows do not explain, such as rows deleted since, is carried over
+-- as one entry per account dated now
+WITH movement AS (
+    SELECT account_id, amount, created_at FROM income
+    UNION ALL
+    SELECT account_id, -amount, created_at FROM expense
+    UNION ALL
+    SELECT from_account, -amount, created_at FROM transfer
+    UNION ALL
+    SELECT to_account, amount, created_at FROM transfer
+), history AS (
+    SELECT account_id, amount, coalesce(created_at, now()) AS created_at FROM movement WHERE amount <> 0
+), unexplained AS (
+    SELECT a.account_id, a.balance - a.initial_balance - coalesce(sum(h.amount), 0) AS amount
+    FROM account a
+    LEFT JOIN history h ON h.account_id = a.account_id
+    GROUP BY a.account_id, a.balance, a.initial_balance
+)
+INSERT INTO account_ledger (account_id, amount, created_at)
+SELECT account_id, amount, created_at FROM history
+UNION ALL
+SELECT account_id, amount, now() FROM unexplained WHERE amount <> 0;
\ No newline at end of file
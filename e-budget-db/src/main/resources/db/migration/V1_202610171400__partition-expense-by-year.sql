@@ -0,0 +1,50 @@
+ALTER TABLE expense RENAME TO expense_unpartitioned;
+
+CREATE TABLE expense (LIKE expense_unpartitioned INCLUDING DEFAULTS) PARTITION BY RANGE (date);
+
+CREATE TABLE expense_default PARTITION OF expense DEFAULT;
+
+-- Creates the partition of a year unless it exists, moving the rows of that year out of the default partition first
+CREATE FUNCTION create_expense_partition(partition_year INT) RETURNS BOOLEAN AS $$
+DECLARE
+    partition_name TEXT := 'expense_' || partition_year;
+    range_start DATE := make_date(partition_year, 1, 1);
+    range_end DATE := make_date(partition_year + 1, 1, 1);
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    LOCK TABLE expense_default IN ACCESS EXCLUSIVE MODE;
+
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE expense INCLUDING DEFAULTS)', partition_name);
+    EXECUTE format('INSERT INTO %I SELECT * FROM expense_default WHERE date >= %L AND date < %L', partition_name, range_start, range_end);
+    DELETE FROM expense_default WHERE date >= range_start AND date < range_end;
+    EXECUTE format('ALTER TABLE expense ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', partition_name, range_start, range_end);
+
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_expense_partition(partition_year)
+FROM (SELECT DISTINCT CAST(EXTRACT(YEAR FROM date) AS INT) AS partition_year FROM expense_unpartitioned
+      UNION
+      SELECT CAST(EXTRACT(YEAR FROM now()) AS INT) + years_ahead FROM generate_series(0, 1) years_ahead) partition_years;
+
+INSERT INTO expense SELECT * FROM expense_unpartitioned;
+
+DROP TABLE expense_unpartitioned;
+
+ALTER TABLE expense ADD PRIMARY KEY (expense_id, date);
+ALTER TABLE expense ADD FOREIGN KEY (category_id) REFERENCES category(category_id);
+ALTER TABLE expense ADD FOREIGN KEY (account_id) REFERENCES account(account_id);
+
+CREATE INDEX expense_date_idx ON expense(date DESC, expense_id DESC);
+CREATE INDEX expense_account_date_idx ON expense(account_id, date DESC, expense_id DESC);
+CREATE INDEX expense_category_period_idx ON expense(category_id, expense_year, expense_month) INCLUDE (amount);
+CREATE INDEX expense_period_idx ON expense(expense_year, expense_month);
+CREATE INDEX expense_category_date_idx ON expense(category_id, date) INCLUDE (amount);
\ No newline at end of file
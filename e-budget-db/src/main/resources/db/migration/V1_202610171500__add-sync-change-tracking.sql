@@ -0,0 +1,51 @@
+CREATE TABLE sync_tombstone (
+    entity VARCHAR(20) NOT NULL,
+    entity_id UUID NOT NULL,
+    deleted_xid BIGINT NOT NULL DEFAULT CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT)
+);
+
+CREATE INDEX sync_tombstone_deleted_xid_idx ON sync_tombstone(deleted_xid);
+
+-- Stamps rows with the id of the transaction writing them, whether through Hibernate or plain SQL
+CREATE FUNCTION sync_mark_changed() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.changed_xid := CAST(CAST(pg_current_xact_id() AS TEXT) AS BIGINT);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Arguments: the entity name and its id column
+CREATE FUNCTION sync_log_deletion() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO sync_tombstone (entity, entity_id) VALUES (TG_ARGV[0], CAST(to_jsonb(OLD) ->> TG_ARGV[1] AS UUID));
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE account ADD COLUMN changed_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE category ADD COLUMN changed_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE budget ADD COLUMN changed_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE expense ADD COLUMN changed_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE income ADD COLUMN changed_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE transfer ADD COLUMN changed_xid BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX account_changed_xid_idx ON account(changed_xid);
+CREATE INDEX category_changed_xid_idx ON category(changed_xid);
+CREATE INDEX budget_changed_xid_idx ON budget(changed_xid);
+CREATE INDEX expense_changed_xid_idx ON expense(changed_xid);
+CREATE INDEX income_changed_xid_idx ON income(changed_xid);
+CREATE INDEX transfer_changed_xid_idx ON transfer(changed_xid);
+
+CREATE TRIGGER account_sync_changed BEFORE INSERT OR UPDATE ON account FOR EACH ROW EXECUTE FUNCTION sync_mark_changed();
+CREATE TRIGGER category_sync_changed BEFORE INSERT OR UPDATE ON category FOR EACH ROW EXECUTE FUNCTION sync_mark_changed();
+CREATE TRIGGER budget_sync_changed BEFORE INSERT OR UPDATE ON budget FOR EACH ROW EXECUTE FUNCTION sync_mark_changed();
+CREATE TRIGGER expense_sync_changed BEFORE INSERT OR UPDATE ON expense FOR EACH ROW EXECUTE FUNCTION sync_mark_changed();
+CREATE TRIGGER income_sync_changed BEFORE INSERT OR UPDATE ON income FOR EACH ROW EXECUTE FUNCTION sync_mark_changed();
+CREATE TRIGGER transfer_sync_changed BEFORE INSERT OR UPDATE ON transfer FOR EACH ROW EXECUTE FUNCTION sync_mark_changed();
+
+CREATE TRIGGER account_sync_deleted AFTER DELETE ON account FOR EACH ROW EXECUTE FUNCTION sync_log_deletion('account', 'account_id');
+CREATE TRIGGER category_sync_deleted AFTER DELETE ON category FOR EACH ROW EXECUTE FUNCTION sync_log_deletion('category', 'category_id');
+CREATE TRIGGER budget_sync_deleted AFTER DELETE ON budget FOR EACH ROW EXECUTE FUNCTION sync_log_deletion('budget', 'budget_id');
+CREATE TRIGGER expense_sync_deleted AFTER DELETE ON expense FOR EACH ROW EXECUTE FUNCTION sync_log_deletion('expense', 'expense_id');
+CREATE TRIGGER income_sync_deleted AFTER DELETE ON income FOR EACH ROW EXECUTE FUNCTION sync_log_deletion('income', 'income_id');
+CREATE TRIGGER transfer_sync_deleted AFTER DELETE ON transfer FOR EACH ROW EXECUTE FUNCTION sync_log_deletion('transfer', 'transfer_id');
\ No newline at end of file
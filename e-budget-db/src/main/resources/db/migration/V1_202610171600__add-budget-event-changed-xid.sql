@@ -0,0 +1,5 @@
+ALTER TABLE budget_event ADD COLUMN changed_xid BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX budget_event_changed_xid_idx ON budget_event(changed_xid);
+
+CREATE TRIGGER budget_event_sync_changed BEFORE INSERT OR UPDATE ON budget_event FOR EACH ROW EXECUTE FUNCTION sync_mark_changed();
\ No newline at end of file